@@ -0,0 +1,196 @@
+package project.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.CounterReconciliationReportDto;
+import project.service.entity.ProjectStatusCount;
+import project.service.entity.ProjectStatusCountId;
+import project.service.global.cache.ProjectSummaryCache;
+import project.service.repository.ProjectRepository;
+import project.service.repository.ProjectStatusCountRepository;
+import project.service.repository.TaskRepository;
+import project.service.repository.projection.ChildCountView;
+import project.service.repository.projection.StatusCountView;
+
+/**
+ * Task/Project 의 childCount, childCompleteCount 정합성 복구
+ * 프로젝트를 chunk 단위로 나누어 집계 쿼리로 실제 값을 구하고, 다른 값만 수정한다.
+ */
+@Service
+@Slf4j
+public class CounterReconciliationService {
+	private final ProjectRepository projectRepository;
+	private final TaskRepository taskRepository;
+	private final ProjectStatusCountRepository projectStatusCountRepository;
+	private final ProjectSummaryCache projectSummaryCache;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolTaskExecutor executor;
+	private final int chunkSize;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	public CounterReconciliationService(ProjectRepository projectRepository, TaskRepository taskRepository,
+			ProjectStatusCountRepository projectStatusCountRepository,
+			ProjectSummaryCache projectSummaryCache, TransactionTemplate transactionTemplate,
+			@Qualifier("counterReconcileExecutor") ThreadPoolTaskExecutor executor,
+			@Value("${reconcile.counter.chunk-size:200}") int chunkSize) {
+		this.projectRepository = projectRepository;
+		this.taskRepository = taskRepository;
+		this.projectStatusCountRepository = projectStatusCountRepository;
+		this.projectSummaryCache = projectSummaryCache;
+		this.transactionTemplate = transactionTemplate;
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Scheduled(cron = "${reconcile.counter.cron:0 0 4 * * *}")
+	public void scheduledReconcile() {
+		try {
+			reconcile();
+		} catch (IllegalStateException e) {
+			log.warn(e.getMessage());
+		}
+	}
+
+	public CounterReconciliationReportDto reconcile() {
+		if (!running.compareAndSet(false, true)) {
+			throw new IllegalStateException("카운터 정합성 작업이 이미 실행 중입니다.");
+		}
+		long startedAt = System.currentTimeMillis();
+		try {
+			List<Future<CounterReconciliationReportDto>> futures = new ArrayList<>();
+			long afterId = 0L;
+			while (true) {
+				List<Long> projectIds = projectRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+				if (projectIds.isEmpty()) {
+					break;
+				}
+				futures.add(executor.submit(() -> transactionTemplate.execute(status -> reconcileChunk(projectIds))));
+				afterId = projectIds.get(projectIds.size() - 1);
+			}
+
+			CounterReconciliationReportDto report = new CounterReconciliationReportDto();
+			for (Future<CounterReconciliationReportDto> future : futures) {
+				report.merge(future.get());
+			}
+			report.setElapsedMillis(System.currentTimeMillis() - startedAt);
+			log.info("Counter reconciliation finished: projects={}, tasks={}, projectsFixed={}, tasksFixed={}, statusCountsFixed={}, skipped={}, elapsed={}ms",
+					report.getProjectsScanned(), report.getTasksScanned(), report.getProjectsFixed(),
+					report.getTasksFixed(), report.getStatusCountsFixed(), report.getSkipped(), report.getElapsedMillis());
+			return report;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("카운터 정합성 작업이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("카운터 정합성 작업이 실패하였습니다.", e.getCause());
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private CounterReconciliationReportDto reconcileChunk(List<Long> projectIds) {
+		CounterReconciliationReportDto report = new CounterReconciliationReportDto();
+
+		// 프로젝트 (최상위 업무 기준)
+		Map<Long, ChildCountView> actualByProject = toMap(taskRepository.countTopLevelTasksByProject(projectIds));
+		for (ChildCountView stored : projectRepository.findStoredCountersByIdIn(projectIds)) {
+			report.setProjectsScanned(report.getProjectsScanned() + 1);
+			long projectId = stored.getOwnerId();
+			int actualChildCount = childCount(actualByProject.get(projectId));
+			int actualChildCompleteCount = childCompleteCount(actualByProject.get(projectId));
+			if (isSame(stored, actualChildCount, actualChildCompleteCount)) {
+				continue;
+			}
+			report.addDrift(drift('P', stored, actualChildCount, actualChildCompleteCount));
+			int updated = projectRepository.compareAndSetCounters(projectId, stored.getChildCount().intValue(),
+					stored.getChildCompleteCount().intValue(), actualChildCount, actualChildCompleteCount);
+			if (updated == 1) {
+				report.setProjectsFixed(report.getProjectsFixed() + 1);
+				projectSummaryCache.evictAfterCommit(projectId);
+			} else {
+				report.setSkipped(report.getSkipped() + 1);
+			}
+		}
+
+		// 업무 (직속 하위 업무 기준)
+		Map<Long, ChildCountView> actualByParentTask = toMap(taskRepository.countChildrenByParentTask(projectIds));
+		for (ChildCountView stored : taskRepository.findStoredCountersByProjectIdIn(projectIds)) {
+			report.setTasksScanned(report.getTasksScanned() + 1);
+			long taskId = stored.getOwnerId();
+			int actualChildCount = childCount(actualByParentTask.get(taskId));
+			int actualChildCompleteCount = childCompleteCount(actualByParentTask.get(taskId));
+			if (isSame(stored, actualChildCount, actualChildCompleteCount)) {
+				continue;
+			}
+			report.addDrift(drift('T', stored, actualChildCount, actualChildCompleteCount));
+			int updated = taskRepository.compareAndSetCounters(taskId, stored.getChildCount().intValue(),
+					stored.getChildCompleteCount().intValue(), actualChildCount, actualChildCompleteCount);
+			if (updated == 1) {
+				report.setTasksFixed(report.getTasksFixed() + 1);
+			} else {
+				report.setSkipped(report.getSkipped() + 1);
+			}
+		}
+		// 칸반 상태별 업무 수 (없는 행은 생성, 실제로 0 이 된 행은 0 으로)
+		Map<ProjectStatusCountId, Integer> actualByStatus = new HashMap<>();
+		for (StatusCountView view : taskRepository.countByProjectIdInGroupByStatus(projectIds)) {
+			actualByStatus.put(new ProjectStatusCountId(view.getProjectId(), view.getStatus()), view.getTaskCount().intValue());
+		}
+		for (ProjectStatusCount stored : projectStatusCountRepository.findByProjectIdIn(projectIds)) {
+			ProjectStatusCountId key = stored.getId();
+			int actual = actualByStatus.getOrDefault(key, 0);
+			actualByStatus.remove(key);
+			if (stored.getTaskCount() == actual) {
+				continue;
+			}
+			int updated = projectStatusCountRepository.compareAndSetCount(key.getProjectId(), key.getStatus(), stored.getTaskCount(), actual);
+			if (updated == 1) {
+				report.setStatusCountsFixed(report.getStatusCountsFixed() + 1);
+			} else {
+				report.setSkipped(report.getSkipped() + 1);
+			}
+		}
+		actualByStatus.forEach((key, actual) -> {
+			projectStatusCountRepository.addCount(key.getProjectId(), key.getStatus(), actual);
+			report.setStatusCountsFixed(report.getStatusCountsFixed() + 1);
+		});
+		return report;
+	}
+
+	private Map<Long, ChildCountView> toMap(List<ChildCountView> views) {
+		Map<Long, ChildCountView> map = new HashMap<>(views.size() * 2);
+		views.forEach(view -> map.put(view.getOwnerId(), view));
+		return map;
+	}
+
+	private int childCount(ChildCountView view) {
+		return view == null ? 0 : view.getChildCount().intValue();
+	}
+
+	private int childCompleteCount(ChildCountView view) {
+		return view == null || view.getChildCompleteCount() == null ? 0 : view.getChildCompleteCount().intValue();
+	}
+
+	private boolean isSame(ChildCountView stored, int childCount, int childCompleteCount) {
+		return stored.getChildCount() == childCount && stored.getChildCompleteCount() == childCompleteCount;
+	}
+
+	private CounterReconciliationReportDto.Drift drift(char type, ChildCountView stored, int childCount, int childCompleteCount) {
+		return new CounterReconciliationReportDto.Drift(type, stored.getOwnerId(), stored.getChildCount(), childCount,
+				stored.getChildCompleteCount(), childCompleteCount);
+	}
+}
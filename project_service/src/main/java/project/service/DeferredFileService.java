@@ -0,0 +1,64 @@
+package project.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.global.cache.HotContentCache;
+import project.service.global.util.AfterCommit;
+
+/**
+ * 트랜잭션 안에서는 파일을 건드리지 않고, 커밋된 뒤 파일 I/O 전용 작업 풀에서 쓰기/삭제한다.
+ * DB 커넥션은 SQL 동안만 잡고, 롤백되면 파일 작업 자체가 없으므로 고아 파일이 생기지 않는다.
+ * 커밋 직후 쓰기가 끝나기 전까지는 파일이 없을 수 있다.
+ */
+@Service
+@Slf4j
+public class DeferredFileService {
+    private final ThreadPoolTaskExecutor executor;
+    private final HotContentCache hotContentCache;
+
+    public DeferredFileService(@Qualifier("fileIoExecutor") ThreadPoolTaskExecutor executor,
+            HotContentCache hotContentCache) {
+        this.executor = executor;
+        this.hotContentCache = hotContentCache;
+    }
+
+    public void deleteAfterCommit(Collection<Path> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        List<Path> targets = new ArrayList<>(paths);
+        runAfterCommit(() -> {
+            for (Path path : targets) {
+                try {
+                    Files.deleteIfExists(path);
+                    hotContentCache.invalidate(path);
+                } catch (IOException e) {
+                    log.error("Failed to delete file: {}", path, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 커밋 이후 파일 I/O 작업 풀에서 실행
+     */
+    public void runAfterCommit(Runnable action) {
+        AfterCommit.run(() -> executor.execute(() -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Deferred file task failed", e);
+            }
+        }));
+    }
+}
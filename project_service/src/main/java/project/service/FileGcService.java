@@ -0,0 +1,321 @@
+package project.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.FileGcReportDto;
+import project.service.global.cache.HotContentCache;
+import project.service.global.config.ApplicationConfig;
+import project.service.global.storage.BlobStore;
+import project.service.global.util.InClause;
+import project.service.repository.ImageBlobRepository;
+import project.service.repository.ProjectRepository;
+import project.service.repository.TaskImageRepository;
+import project.service.repository.TaskRepository;
+
+/**
+ * 업로드 디렉토리의 고아 파일 정리
+ * 디렉토리를 DirectoryStream 으로 읽으면서 batch 단위로 참조 여부를 조회하고, 참조되지 않는 파일만 삭제한다.
+ * 유예 기간 안에 만들어진 파일은 아직 커밋 전이거나 쓰는 중일 수 있으므로 건너뛴다.
+ * 삭제 직전에 한 번 더 조회하고, 초당 삭제 수를 제한하여 디스크와 DB 에 부담을 주지 않는다.
+ * 이미지 저장소는 BlobStore 목록으로 읽으므로 S3 저장소에서도 같은 방식으로 정리된다.
+ */
+@Service
+@Slf4j
+public class FileGcService {
+    private static final int BATCH_SIZE = 500;
+    private static final Pattern DERIVATIVE_NAME = Pattern.compile("^([0-9a-f]{64})_\\d+\\.[a-z0-9]+$");
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final TaskImageRepository taskImageRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ImageBlobService imageBlobService;
+    private final BlobStore blobStore;
+    private final HotContentCache hotContentCache;
+    private final FileStorageService fileStorageService;
+    private final ApplicationConfig applicationConfig;
+    private final long graceMillis;
+    private final long deleteIntervalNanos;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public FileGcService(ImageBlobRepository imageBlobRepository, TaskImageRepository taskImageRepository,
+            ProjectRepository projectRepository, TaskRepository taskRepository, ImageBlobService imageBlobService,
+            BlobStore blobStore, HotContentCache hotContentCache, FileStorageService fileStorageService, ApplicationConfig applicationConfig,
+            @Value("${files.gc.grace-hours:24}") long graceHours,
+            @Value("${files.gc.max-deletes-per-second:50}") int maxDeletesPerSecond) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.taskImageRepository = taskImageRepository;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.imageBlobService = imageBlobService;
+        this.blobStore = blobStore;
+        this.hotContentCache = hotContentCache;
+        this.fileStorageService = fileStorageService;
+        this.applicationConfig = applicationConfig;
+        this.graceMillis = TimeUnit.HOURS.toMillis(graceHours);
+        this.deleteIntervalNanos = maxDeletesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxDeletesPerSecond : 0L;
+    }
+
+    @Scheduled(cron = "${files.gc.cron:0 0 5 * * *}")
+    public void scheduledCollect() {
+        try {
+            collect(false);
+        } catch (IllegalStateException e) {
+            log.warn(e.getMessage());
+        }
+    }
+
+    /**
+     * @param dryRun true 이면 삭제하지 않고 고아 파일 수와 크기만 집계
+     */
+    public FileGcReportDto collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("파일 정리 작업이 이미 실행 중입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            FileGcReportDto report = new FileGcReportDto();
+            report.setDryRun(dryRun);
+            long cutoff = startedAt - graceMillis;
+            // 이미지 저장소: 원본(hash.ext)과 파생 이미지(hash_크기.ext) 모두 image_blob 행으로 판단
+            sweepBlobStore(cutoff, dryRun, report);
+            Path blobDir = imageBlobService.getBlobDir();
+            // 이전 방식으로 저장된 파일
+            Path descriptionDir = Paths.get(fileStorageService.getUploadDescriptionDir());
+            Path projectThumbnailDir = Paths.get(applicationConfig.getProjectThumbnailStoragePath());
+            Path taskThumbnailDir = Paths.get(applicationConfig.getTaskThumbnailStoragepath());
+            List<Path> dirs = List.of(blobDir, descriptionDir, projectThumbnailDir, taskThumbnailDir);
+            if (isDedicated(descriptionDir, dirs)) {
+                sweep(descriptionDir, legacy(fileStorageService::resolveDescriptionPath),
+                        taskImageRepository::findImagePathsIn, cutoff, dryRun, report);
+            }
+            if (isDedicated(projectThumbnailDir, dirs)) {
+                sweep(projectThumbnailDir, legacy(Function.identity()),
+                        projectRepository::findUploadedThumbnailsIn, cutoff, dryRun, report);
+            }
+            if (isDedicated(taskThumbnailDir, dirs)) {
+                sweep(taskThumbnailDir, legacy(Function.identity()),
+                        taskRepository::findUploadedThumbnailsIn, cutoff, dryRun, report);
+            }
+            report.setElapsedMillis(System.currentTimeMillis() - startedAt);
+            log.info("File GC finished: dryRun={}, scanned={}, orphans={}, deleted={}, reclaimed={} bytes, skippedRecent={}, failed={}, elapsed={}ms",
+                    dryRun, report.getFilesScanned(), report.getOrphansFound(), report.getFilesDeleted(),
+                    report.getBytesReclaimed(), report.getSkippedRecent(), report.getFailed(), report.getElapsedMillis());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void sweepBlobStore(long cutoff, boolean dryRun, FileGcReportDto report) {
+        Batch batch = new Batch(imageBlobRepository::findHashesIn, dryRun, report);
+        try {
+            blobStore.forEach(blob -> {
+                report.setFilesScanned(report.getFilesScanned() + 1);
+                if (blob.getLastModified() > cutoff) {
+                    report.setSkippedRecent(report.getSkippedRecent() + 1);
+                    return;
+                }
+                String hash = blobHashOf(blob.getKey());
+                if (hash != null) {
+                    batch.add(new Candidate(null, blob.getKey(), hash, blob.getSize()));
+                }
+            });
+            batch.flush();
+            // 쓰다가 중단된 임시 파일, 완료되지 않은 multipart upload
+            if (!dryRun) {
+                report.setFilesDeleted(report.getFilesDeleted() + blobStore.purgeIncomplete(cutoff));
+            }
+        } catch (IOException e) {
+            log.error("Failed to scan blob store", e);
+        }
+    }
+
+    /**
+     * @param keyOf 파일 이름을 참조 조회 키로 변환 (null 이면 알 수 없는 파일이므로 건너뜀)
+     * @param findReferenced 키 목록 중 참조되고 있는 키
+     */
+    private void sweep(Path dir, Function<String, String> keyOf, Function<Collection<String>, List<String>> findReferenced,
+            long cutoff, boolean dryRun, FileGcReportDto report) {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        Batch batch = new Batch(findReferenced, dryRun, report);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path path : entries) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                report.setFilesScanned(report.getFilesScanned() + 1);
+                if (attributes.lastModifiedTime().toMillis() > cutoff) {
+                    report.setSkippedRecent(report.getSkippedRecent() + 1);
+                    continue;
+                }
+                String name = path.getFileName().toString();
+                // 쓰다가 남은 임시 파일은 조회 없이 삭제
+                String key = isTempFile(name) ? null : keyOf.apply(name);
+                if (key == null && !isTempFile(name)) {
+                    continue;
+                }
+                batch.add(new Candidate(path, null, key, attributes.size()));
+            }
+        } catch (IOException e) {
+            log.error("Failed to scan directory: {}", dir, e);
+        }
+        batch.flush();
+    }
+
+    private void throttle() {
+        if (deleteIntervalNanos == 0L) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(deleteIntervalNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파일 정리 작업이 중단되었습니다.", e);
+        }
+    }
+
+    // 다른 저장소와 같은 디렉토리를 쓰면 한쪽 참조만으로 판단할 수 없으므로 정리하지 않는다.
+    private boolean isDedicated(Path dir, List<Path> dirs) {
+        Path normalized = dir.toAbsolutePath().normalize();
+        long same = dirs.stream().filter(other -> other.toAbsolutePath().normalize().equals(normalized)).count();
+        if (same > 1) {
+            log.warn("File GC skipped shared directory: {}", dir);
+            return false;
+        }
+        return true;
+    }
+
+    // 이전 방식 디렉토리에 있더라도 저장소 형식 이름은 건드리지 않는다.
+    private Function<String, String> legacy(Function<String, String> keyOf) {
+        return name -> blobHashOf(name) != null ? null : keyOf.apply(name);
+    }
+
+    private String blobHashOf(String name) {
+        String hash = ImageBlobService.hashOf(name);
+        if (hash != null) {
+            return hash;
+        }
+        Matcher matcher = DERIVATIVE_NAME.matcher(name);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    // 이전 버전에서 쓰다가 남은 임시 파일
+    private boolean isTempFile(String name) {
+        return (name.startsWith(".upload-") || name.startsWith(".derivative-")) && name.endsWith(".tmp");
+    }
+
+    private class Batch {
+        private final Function<Collection<String>, List<String>> findReferenced;
+        private final boolean dryRun;
+        private final FileGcReportDto report;
+        private final List<Candidate> candidates = new ArrayList<>(BATCH_SIZE);
+
+        Batch(Function<Collection<String>, List<String>> findReferenced, boolean dryRun, FileGcReportDto report) {
+            this.findReferenced = findReferenced;
+            this.dryRun = dryRun;
+            this.report = report;
+        }
+
+        void add(Candidate candidate) {
+            candidates.add(candidate);
+            if (candidates.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (candidates.isEmpty()) {
+                return;
+            }
+            Set<String> keys = new LinkedHashSet<>();
+            for (Candidate candidate : candidates) {
+                if (candidate.key != null) {
+                    keys.add(candidate.key);
+                }
+            }
+            Set<String> referenced = new HashSet<>();
+            for (List<String> chunk : InClause.partition(keys)) {
+                referenced.addAll(findReferenced.apply(chunk));
+            }
+            for (Candidate candidate : candidates) {
+                if (candidate.key != null && referenced.contains(candidate.key)) {
+                    continue;
+                }
+                report.setOrphansFound(report.getOrphansFound() + 1);
+                if (dryRun) {
+                    report.setBytesReclaimed(report.getBytesReclaimed() + candidate.size);
+                    continue;
+                }
+                // 조회 이후 새로 참조되었으면 남긴다.
+                if (candidate.key != null && !findReferenced.apply(List.of(candidate.key)).isEmpty()) {
+                    continue;
+                }
+                try {
+                    if (delete(candidate)) {
+                        report.setFilesDeleted(report.getFilesDeleted() + 1);
+                        report.setBytesReclaimed(report.getBytesReclaimed() + candidate.size);
+                    }
+                } catch (IOException e) {
+                    report.setFailed(report.getFailed() + 1);
+                    log.warn("Failed to delete orphan file: {}", candidate.path != null ? candidate.path : candidate.blobKey);
+                }
+                throttle();
+            }
+            candidates.clear();
+        }
+
+        private boolean delete(Candidate candidate) throws IOException {
+            if (candidate.path != null) {
+                hotContentCache.invalidate(candidate.path);
+                return Files.deleteIfExists(candidate.path);
+            }
+            blobStore.delete(candidate.blobKey);
+            hotContentCache.invalidateBlobs(candidate.blobKey);
+            return true;
+        }
+    }
+
+    private static class Candidate {
+        private final Path path;
+        private final String blobKey;
+        private final String key;
+        private final long size;
+
+        Candidate(Path path, String blobKey, String key, long size) {
+            this.path = path;
+            this.blobKey = blobKey;
+            this.key = key;
+            this.size = size;
+        }
+    }
+}
@@ -2,45 +2,86 @@ package project.service;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import project.service.entity.Task;
 import project.service.entity.TaskImage;
 import project.service.kafka.event.TaskCreateEvent;
-import project.service.kafka.event.TaskUpdateEvent;
 import project.service.repository.TaskImageRepository;
 @RequiredArgsConstructor
 @Service
+@Slf4j
 public class FileStorageService {
     @Value("${files.upload-dir.task.description}")
     private String uploadDescriptionDir;
     private final TaskImageRepository taskImageRepository;
+    private final ImageBlobService imageBlobService;
+    private final DeferredFileService deferredFileService;
+    // 같은 내용의 파일은 이미지 저장소에 한 번만 쓰고 업무 이미지 행만 추가
     public <T extends project.service.global.FileData> void saveFiles(Task task, List<T> files) throws IOException {
         if (files != null) {
             for (T fileData : files) {
-                String fileName = fileData.getFileName();
-                Path copyLocation = Paths.get(uploadDescriptionDir + File.separator + fileName);
-                Files.createDirectories(copyLocation.getParent());
-                Files.write(copyLocation, fileData.getFileContent(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+                String fileName = imageBlobService.store(fileData.getFileContent(), extensionOf(fileData.getFileName()));
                 TaskImage taskImage = TaskImage.builder()
-                    .imagePath(copyLocation.toString())
+                    .imagePath(imageBlobService.referencePath(fileName))
                     .task(task)
                     .build();
                 taskImageRepository.save(taskImage);
             }
         }
     }
-    public void deleteFiles(List<TaskUpdateEvent.FileData> files) throws IOException {
-        if (files != null) {
-            for (TaskUpdateEvent.FileData fileData : files) {
-                Path filePath = Paths.get(uploadDescriptionDir + File.separator + fileData.getFileName());
-                Files.deleteIfExists(filePath);
-            }
+    /**
+     * 업무 이미지 행 삭제 후 참조 해제 (이전 방식으로 저장된 파일은 커밋 이후 바로 삭제)
+     */
+    public void deleteImages(Collection<TaskImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        List<String> blobPaths = new ArrayList<>();
+        List<String> legacyPaths = new ArrayList<>();
+        for (TaskImage image : images) {
+            (imageBlobService.isBlob(image.getImagePath()) ? blobPaths : legacyPaths).add(image.getImagePath());
+        }
+        taskImageRepository.deleteAll(images);
+        imageBlobService.release(blobPaths);
+        deleteFilesAfterCommit(legacyPaths);
+    }
+    // 경로가 포함된 이름이 들어와도 업로드 디렉토리 밖을 가리키지 않도록 파일 이름만 사용
+    public String resolveDescriptionPath(String fileName) {
+        return Paths.get(uploadDescriptionDir + File.separator + Paths.get(fileName).getFileName()).toString();
+    }
+    public String getUploadDescriptionDir() {
+        return uploadDescriptionDir;
+    }
+    // 이미지 저장소 이름이면 저장소 경로, 아니면 이전 업로드 디렉토리 경로
+    public String resolveImagePath(String fileName) {
+        if (imageBlobService.isBlob(fileName)) {
+            return imageBlobService.referencePath(fileName);
+        }
+        return resolveDescriptionPath(fileName);
+    }
+    private String extensionOf(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return null;
+        }
+        return fileName.substring(fileName.lastIndexOf('.') + 1);
+    }
+    /**
+     * 트랜잭션이 커밋된 뒤에 파일 삭제 (롤백되면 파일은 남는다)
+     */
+    public void deleteFilesAfterCommit(Collection<String> filePaths) {
+        if (filePaths == null || filePaths.isEmpty()) {
+            return;
         }
+        deferredFileService.deleteAfterCommit(filePaths.stream().map(Paths::get).collect(Collectors.toList()));
     }
 }
\ No newline at end of file
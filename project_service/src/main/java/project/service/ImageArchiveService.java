@@ -0,0 +1,192 @@
+package project.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import project.service.global.exception.ArchiveBusyException;
+import project.service.global.storage.BlobMetadata;
+import project.service.global.storage.BlobStore;
+import project.service.global.storage.StoredFile;
+import project.service.repository.ProjectRepository;
+import project.service.repository.TaskImageRepository;
+import project.service.repository.TaskRepository;
+import project.service.repository.projection.TaskImagePathView;
+
+/**
+ * 업무/프로젝트 이미지 ZIP 다운로드
+ * 이미지 목록만 요청 스레드에서 조회하고, ZIP 은 전용 작업 풀(archiveExecutor)에서 응답 스트림에 바로 쓴다 (메모리나 디스크에 만들어 두지 않음).
+ * 작업 풀과 긴 timeout 은 WebAsyncTask 로 이 응답에만 지정하고, 다른 MVC 비동기 응답은 기본 설정을 그대로 쓴다.
+ * 동시에 만드는 ZIP 수를 제한하고, 넘으면 기다리지 않고 503 으로 응답한다.
+ * 허가는 비동기 요청이 끝날 때 (완료, timeout, 작업 풀 거절, 클라이언트 끊김 모두) 한 번만 반환한다.
+ * 이미지는 이미 압축된 형식이므로 다시 압축하지 않는다.
+ */
+@Service
+@Slf4j
+public class ImageArchiveService {
+    private static final Pattern UUID_PREFIX = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}_");
+
+    private final TaskImageRepository taskImageRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ImageBlobService imageBlobService;
+    private final FileStorageService fileStorageService;
+    private final BlobStore blobStore;
+    private final Semaphore permits;
+    private final ThreadPoolTaskExecutor archiveExecutor;
+    private final long timeoutMillis;
+
+    public ImageArchiveService(TaskImageRepository taskImageRepository, TaskRepository taskRepository,
+            ProjectRepository projectRepository, ImageBlobService imageBlobService, FileStorageService fileStorageService,
+            BlobStore blobStore, @Value("${files.archive.max-concurrent:4}") int maxConcurrent,
+            @Qualifier("archiveExecutor") ThreadPoolTaskExecutor archiveExecutor,
+            @Value("${files.archive.timeout-minutes:30}") long timeoutMinutes) {
+        this.taskImageRepository = taskImageRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.imageBlobService = imageBlobService;
+        this.fileStorageService = fileStorageService;
+        this.blobStore = blobStore;
+        this.permits = new Semaphore(maxConcurrent);
+        this.archiveExecutor = archiveExecutor;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+    }
+
+    /**
+     * ZIP 을 전용 작업 풀에서 응답에 쓰는 비동기 작업 (헤더는 이 메소드가 돌아온 뒤 호출하는 쪽에서 설정)
+     * 큰 ZIP 이 컨테이너 기본 비동기 timeout 에 끊기지 않도록 이 작업에만 긴 timeout 을 준다.
+     * 작업이 시작되지 않고 끝나도 (timeout 으로 취소, 작업 풀 거절) onCompletion 이 허가를 반환한다.
+     */
+    public WebAsyncTask<Void> toAsyncTask(StreamingResponseBody body, HttpServletResponse response) {
+        if (!permits.tryAcquire()) {
+            throw new ArchiveBusyException("동시 ZIP 다운로드 수를 초과하였습니다.");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        WebAsyncTask<Void> task = new WebAsyncTask<>(timeoutMillis, archiveExecutor, () -> {
+            try {
+                body.writeTo(response.getOutputStream());
+                response.flushBuffer();
+                return null;
+            } finally {
+                release.run();
+            }
+        });
+        task.onCompletion(release);
+        return task;
+    }
+
+    public StreamingResponseBody archiveTask(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new EntityNotFoundException("Task not found with ID: " + taskId);
+        }
+        return stream(taskImageRepository.findPathViewsByTaskId(taskId), false);
+    }
+
+    /**
+     * 업무마다 taskId 디렉토리로 나눈다.
+     */
+    public StreamingResponseBody archiveProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+        return stream(taskImageRepository.findPathViewsByProjectId(projectId), true);
+    }
+
+    private StreamingResponseBody stream(List<TaskImagePathView> images, boolean groupByTask) {
+        return output -> write(images, groupByTask, output);
+    }
+
+    private void write(List<TaskImagePathView> images, boolean groupByTask, OutputStream output) throws IOException {
+        Map<String, Integer> usedNames = new HashMap<>();
+        ZipOutputStream zip = new ZipOutputStream(output);
+        zip.setLevel(Deflater.NO_COMPRESSION);
+        for (TaskImagePathView image : images) {
+            try (InputStream input = open(image.getImagePath())) {
+                if (input == null) {
+                    continue;
+                }
+                String entryName = uniqueName(usedNames,
+                        (groupByTask ? image.getTaskId() + "/" : "") + displayName(image.getImagePath()));
+                zip.putNextEntry(new ZipEntry(entryName));
+                StreamUtils.copy(input, zip);
+                zip.closeEntry();
+            }
+        }
+        // 응답 스트림은 컨테이너가 닫으므로 ZIP 끝부분만 쓴다.
+        zip.finish();
+        zip.flush();
+    }
+
+    // 파일이 없으면 건너뛴다 (null)
+    private InputStream open(String imagePath) throws IOException {
+        StoredFile file = imageBlobService.isBlob(imagePath)
+                ? imageBlobService.toStoredFile(imagePath)
+                : StoredFile.local(Paths.get(fileStorageService.resolveDescriptionPath(imagePath)));
+        try {
+            if (!file.isBlob()) {
+                return Files.newInputStream(file.getPath());
+            }
+            BlobMetadata metadata = blobStore.stat(file.getKey());
+            if (metadata == null || metadata.getSize() == 0) {
+                log.warn("Image not found for archive: {}", imagePath);
+                return null;
+            }
+            return blobStore.open(file.getKey(), 0, metadata.getSize() - 1);
+        } catch (NoSuchFileException e) {
+            log.warn("Image not found for archive: {}", imagePath);
+            return null;
+        }
+    }
+
+    // 이전 방식 파일은 업로드 시 붙인 UUID 를 떼고 원래 이름으로
+    private String displayName(String imagePath) {
+        String fileName = Paths.get(imagePath).getFileName().toString();
+        return UUID_PREFIX.matcher(fileName).replaceFirst("");
+    }
+
+    // 같은 이름이 있으면 name (2).ext 형식으로
+    private String uniqueName(Map<String, Integer> usedNames, String name) {
+        int count = usedNames.merge(name, 1, Integer::sum);
+        if (count == 1) {
+            return name;
+        }
+        int dot = name.lastIndexOf('.');
+        String candidate = dot > name.lastIndexOf('/')
+                ? name.substring(0, dot) + " (" + count + ")" + name.substring(dot)
+                : name + " (" + count + ")";
+        if (usedNames.containsKey(candidate)) {
+            return uniqueName(usedNames, candidate);
+        }
+        usedNames.put(candidate, 1);
+        return candidate;
+    }
+}
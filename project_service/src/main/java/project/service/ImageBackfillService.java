@@ -0,0 +1,501 @@
+package project.service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.ImageBackfillStatusDto;
+import project.service.entity.ImageBackfillCheckpoint;
+import project.service.global.cache.HotContentCache;
+import project.service.global.storage.BlobMetadata;
+import project.service.global.storage.BlobStore;
+import project.service.global.util.FileManagement;
+import project.service.global.util.ImageTransforms;
+import project.service.repository.ImageBackfillCheckpointRepository;
+import project.service.repository.ImageBlobRepository;
+import project.service.repository.ProjectRepository;
+import project.service.repository.TaskImageRepository;
+import project.service.repository.TaskRepository;
+import project.service.repository.projection.ImageRefView;
+
+/**
+ * 이미 저장된 이미지 재인코딩 (관리자 실행)
+ * 이미지 저장소(image_blob), 이전 방식 업무 이미지, 업무/프로젝트 썸네일 순서로 묶음(chunk)씩 조회하고,
+ * 묶음 안의 이미지는 CPU 예산(image.backfill.parallelism)만큼의 ForkJoinPool 에서 나눠 재인코딩한다.
+ * 긴 변을 max-dimension 이하로 줄이고 메타데이터 없이 다시 인코딩해서, min-savings-percent 이상 작아진 경우에만 교체한다.
+ * 교체는 같은 이름으로 원자적으로 한다 (이미지 저장소는 put, 이전 방식 파일은 임시 파일 작성 후 이동). 참조하는 행은 바꾸지 않는다.
+ * image_blob 행은 올린 원본의 hash -> 저장된 파일 이름 대응이고, 재인코딩 후에도 유지된다.
+ * ImageBlobService.store 는 이미 있는 파일을 다시 쓰지 않으므로 같은 원본을 다시 올리면 줄인 파일을 함께 쓴다.
+ * 이미지 저장소 파일은 행을 잠근 채 교체하므로 그 사이 참조가 모두 해제되어 삭제된 파일은 되살리지 않는다.
+ * 묶음마다 진행 위치를 기록하므로 일시 정지 후 다시 시작하면 다음 묶음부터 이어서 실행한다.
+ * 실행은 image_backfill_checkpoint 행을 조건부 UPDATE 로 가져간 인스턴스 하나만 하고, 묶음마다 lease 를 연장한다.
+ * lease 를 잃으면 (다른 인스턴스가 가져갔으면) 그 자리에서 멈춘다.
+ */
+@Service
+@Slf4j
+public class ImageBackfillService {
+    static final String JOB_NAME = "image-reencode";
+
+    enum Phase { BLOB, TASK_IMAGE, TASK_THUMBNAIL, PROJECT_THUMBNAIL }
+
+    private final ImageBackfillCheckpointRepository checkpointRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final TaskImageRepository taskImageRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final BlobStore blobStore;
+    private final HotContentCache hotContentCache;
+    private final FileStorageService fileStorageService;
+    private final FileManagement fileManagement;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxDimension;
+    private final long maxPixels;
+    private final long maxFileBytes;
+    private final float jpegQuality;
+    private final int minSavingsPercent;
+    private final long leaseMillis;
+
+    public ImageBackfillService(ImageBackfillCheckpointRepository checkpointRepository, ImageBlobRepository imageBlobRepository,
+            TaskImageRepository taskImageRepository, TaskRepository taskRepository, ProjectRepository projectRepository,
+            BlobStore blobStore, HotContentCache hotContentCache, FileStorageService fileStorageService,
+            FileManagement fileManagement, TransactionTemplate transactionTemplate,
+            @Qualifier("imageBackfillExecutor") ThreadPoolTaskExecutor executor,
+            @Qualifier("imageBackfillPool") ForkJoinPool pool,
+            @Value("${image.backfill.chunk-size:100}") int chunkSize,
+            @Value("${image.backfill.max-dimension:4096}") int maxDimension,
+            @Value("${image.backfill.max-decoded-pixels:25000000}") long maxPixels,
+            @Value("${image.backfill.max-file-bytes:31457280}") long maxFileBytes,
+            @Value("${image.backfill.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${image.backfill.min-savings-percent:10}") int minSavingsPercent,
+            @Value("${image.backfill.lease-minutes:10}") long leaseMinutes) {
+        this.checkpointRepository = checkpointRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.taskImageRepository = taskImageRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.blobStore = blobStore;
+        this.hotContentCache = hotContentCache;
+        this.fileStorageService = fileStorageService;
+        this.fileManagement = fileManagement;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+        this.maxFileBytes = maxFileBytes;
+        this.jpegQuality = jpegQuality;
+        this.minSavingsPercent = minSavingsPercent;
+        this.leaseMillis = leaseMinutes * 60_000L;
+    }
+
+    /**
+     * 기록된 위치부터 백그라운드로 실행
+     * @param restart true 이면 기록을 지우고 처음부터 (이미 재인코딩한 파일도 다시 검사)
+     */
+    public ImageBackfillStatusDto start(boolean restart) {
+        createIfAbsent();
+        String runner = UUID.randomUUID().toString();
+        Date now = new Date();
+        Integer claimed = transactionTemplate.execute(
+                status -> checkpointRepository.claim(JOB_NAME, runner, now, new Date(now.getTime() + leaseMillis)));
+        if (claimed == null || claimed == 0) {
+            throw new IllegalStateException("이미지 재인코딩 작업이 이미 실행 중입니다.");
+        }
+        try {
+            ImageBackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseThrow();
+            if (checkpoint.getCompletedDate() != null && !restart) {
+                throw new IllegalStateException("이미지 재인코딩 작업이 이미 완료되었습니다. 다시 실행하려면 restart=true 로 요청해 주세요.");
+            }
+            if (restart) {
+                checkpoint.setPhase(Phase.BLOB.name());
+                checkpoint.setLastKey(null);
+                checkpoint.setProcessed(0);
+                checkpoint.setReplaced(0);
+                checkpoint.setSkipped(0);
+                checkpoint.setFailed(0);
+                checkpoint.setBytesSaved(0);
+                checkpoint.setStartedDate(now);
+                checkpoint.setUpdatedDate(now);
+                checkpoint.setCompletedDate(null);
+                if (!saveProgress(checkpoint, runner)) {
+                    throw new IllegalStateException("이미지 재인코딩 작업이 이미 실행 중입니다.");
+                }
+            }
+            executor.execute(() -> {
+                try {
+                    run(checkpoint, runner);
+                } catch (Exception e) {
+                    log.error("Image backfill stopped", e);
+                } finally {
+                    release(runner);
+                }
+            });
+            return status();
+        } catch (RuntimeException e) {
+            release(runner);
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 중인 묶음을 마치고 멈춘다 (진행 위치는 남는다)
+     * 실행 중인 인스턴스가 묶음마다 확인하므로 어느 인스턴스에 요청해도 된다.
+     */
+    public ImageBackfillStatusDto pause() {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.requestPause(JOB_NAME, new Date()));
+        return status();
+    }
+
+    public ImageBackfillStatusDto status() {
+        return toStatus(checkpointRepository.findById(JOB_NAME).orElse(null));
+    }
+
+    // 처음 실행이면 가져갈 행을 만든다 (동시에 만들면 한쪽은 무시)
+    private void createIfAbsent() {
+        if (checkpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        Date now = new Date();
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.save(ImageBackfillCheckpoint.builder()
+                    .jobName(JOB_NAME)
+                    .phase(Phase.BLOB.name())
+                    .startedDate(now)
+                    .updatedDate(now)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Image backfill checkpoint already created");
+        }
+    }
+
+    // 진행 위치 기록과 lease 연장 (false == 다른 인스턴스가 가져감)
+    private boolean saveProgress(ImageBackfillCheckpoint checkpoint, String runner) {
+        Date leaseUntil = new Date(System.currentTimeMillis() + leaseMillis);
+        Integer updated = transactionTemplate.execute(status -> checkpointRepository.saveProgress(JOB_NAME, runner,
+                checkpoint.getPhase(), checkpoint.getLastKey(), checkpoint.getProcessed(), checkpoint.getReplaced(),
+                checkpoint.getSkipped(), checkpoint.getFailed(), checkpoint.getBytesSaved(), checkpoint.getStartedDate(),
+                checkpoint.getUpdatedDate(), checkpoint.getCompletedDate(), leaseUntil));
+        return updated != null && updated > 0;
+    }
+
+    private void release(String runner) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.release(JOB_NAME, runner));
+        } catch (RuntimeException e) {
+            // lease 가 지나면 다른 인스턴스가 가져갈 수 있다
+            log.warn("Failed to release image backfill lease", e);
+        }
+    }
+
+    private void run(ImageBackfillCheckpoint checkpoint, String runner) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        Phase[] phases = Phase.values();
+        for (int i = Phase.valueOf(checkpoint.getPhase()).ordinal(); i < phases.length; i++) {
+            Phase phase = phases[i];
+            if (!phase.name().equals(checkpoint.getPhase())) {
+                checkpoint.setPhase(phase.name());
+                checkpoint.setLastKey(null);
+            }
+            while (true) {
+                if (checkpointRepository.isPauseRequested(JOB_NAME)) {
+                    log.info("Image backfill paused: phase={}, lastKey={}", checkpoint.getPhase(), checkpoint.getLastKey());
+                    return;
+                }
+                Chunk chunk = fetch(phase, checkpoint.getLastKey());
+                if (chunk.lastKey == null) {
+                    break;
+                }
+                processChunk(chunk, checkpoint);
+                checkpoint.setLastKey(chunk.lastKey);
+                checkpoint.setUpdatedDate(new Date());
+                if (!saveProgress(checkpoint, runner)) {
+                    log.warn("Image backfill lease lost: phase={}, lastKey={}", checkpoint.getPhase(), checkpoint.getLastKey());
+                    return;
+                }
+            }
+        }
+        checkpoint.setCompletedDate(new Date());
+        checkpoint.setUpdatedDate(checkpoint.getCompletedDate());
+        saveProgress(checkpoint, runner);
+        log.info("Image backfill finished: processed={}, replaced={}, skipped={}, failed={}, saved={} bytes, elapsed={}ms",
+                checkpoint.getProcessed(), checkpoint.getReplaced(), checkpoint.getSkipped(), checkpoint.getFailed(),
+                checkpoint.getBytesSaved(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 이미지 저장소 형식 이름은 BLOB 단계에서 처리하므로 이전 방식 단계에서는 건너뛴다.
+    private Chunk fetch(Phase phase, String lastKey) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        Chunk chunk = new Chunk();
+        if (phase == Phase.BLOB) {
+            for (String fileName : imageBlobRepository.findFileNamesAfter(lastKey == null ? "" : lastKey, page)) {
+                chunk.targets.add(new Target(fileName, null));
+                chunk.lastKey = ImageBlobService.hashOf(fileName);
+            }
+            return chunk;
+        }
+        long afterId = lastKey == null ? 0L : Long.parseLong(lastKey);
+        List<ImageRefView> refs;
+        switch (phase) {
+            case TASK_IMAGE:
+                refs = taskImageRepository.findImageRefsAfter(afterId, page);
+                break;
+            case TASK_THUMBNAIL:
+                refs = taskRepository.findUploadedThumbnailRefsAfter(afterId, page);
+                break;
+            default:
+                refs = projectRepository.findUploadedThumbnailRefsAfter(afterId, page);
+                break;
+        }
+        for (ImageRefView ref : refs) {
+            chunk.lastKey = String.valueOf(ref.getId());
+            if (ref.getPath() == null || ImageBlobService.hashOf(ref.getPath()) != null) {
+                continue;
+            }
+            Path path;
+            switch (phase) {
+                case TASK_IMAGE:
+                    path = Paths.get(fileStorageService.resolveDescriptionPath(ref.getPath()));
+                    break;
+                case TASK_THUMBNAIL:
+                    path = fileManagement.getThumbnailPath(ref.getPath(), 'T');
+                    break;
+                default:
+                    path = fileManagement.getThumbnailPath(ref.getPath(), 'P');
+                    break;
+            }
+            chunk.targets.add(new Target(null, path));
+        }
+        return chunk;
+    }
+
+    private void processChunk(Chunk chunk, ImageBackfillCheckpoint checkpoint) throws InterruptedException {
+        List<Callable<Long>> tasks = new ArrayList<>(chunk.targets.size());
+        for (Target target : chunk.targets) {
+            tasks.add(() -> process(target));
+        }
+        for (Future<Long> result : pool.invokeAll(tasks)) {
+            long saved;
+            try {
+                saved = result.get();
+            } catch (ExecutionException e) {
+                saved = -1L;
+            }
+            checkpoint.setProcessed(checkpoint.getProcessed() + 1);
+            if (saved > 0) {
+                checkpoint.setReplaced(checkpoint.getReplaced() + 1);
+                checkpoint.setBytesSaved(checkpoint.getBytesSaved() + saved);
+            } else if (saved == 0) {
+                checkpoint.setSkipped(checkpoint.getSkipped() + 1);
+            } else {
+                checkpoint.setFailed(checkpoint.getFailed() + 1);
+            }
+        }
+    }
+
+    /**
+     * @return 줄어든 바이트 수 (교체하지 않았으면 0, 실패하면 -1)
+     */
+    private long process(Target target) {
+        String name = target.blobKey != null ? target.blobKey : target.path.getFileName().toString();
+        try {
+            byte[] original = read(target);
+            if (original == null) {
+                return 0L;
+            }
+            byte[] reencoded = reencode(original, name);
+            if (reencoded == null || reencoded.length > original.length * (100L - minSavingsPercent) / 100) {
+                return 0L;
+            }
+            return replace(target, reencoded) ? original.length - reencoded.length : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to re-encode image: {}", name, e);
+            return -1L;
+        }
+    }
+
+    // 없거나 max-file-bytes 보다 큰 파일은 null
+    private byte[] read(Target target) throws IOException {
+        if (target.blobKey == null) {
+            try {
+                if (Files.size(target.path) > maxFileBytes) {
+                    return null;
+                }
+                return Files.readAllBytes(target.path);
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+        BlobMetadata metadata = blobStore.stat(target.blobKey);
+        if (metadata == null || metadata.getSize() == 0 || metadata.getSize() > maxFileBytes) {
+            return null;
+        }
+        try (InputStream input = blobStore.open(target.blobKey, 0, metadata.getSize() - 1)) {
+            return input.readAllBytes();
+        }
+    }
+
+    // 교체 직전에 삭제된 이미지는 되살리지 않는다.
+    private boolean replace(Target target, byte[] content) throws IOException {
+        if (target.blobKey == null) {
+            if (!Files.exists(target.path)) {
+                return false;
+            }
+            // 같은 디렉토리에 쓰고 이동해서 읽는 쪽이 쓰다 만 파일을 보지 않도록 (남은 임시 파일은 FileGcService 가 정리)
+            Path temp = Files.createTempFile(target.path.getParent(), ".upload-", ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, target.path, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            hotContentCache.invalidate(target.path);
+            return true;
+        }
+        String hash = ImageBlobService.hashOf(target.blobKey);
+        Boolean replaced = transactionTemplate.execute(status -> {
+            if (imageBlobRepository.lockReferenced(hash) == null) {
+                return false;
+            }
+            try {
+                blobStore.put(target.blobKey, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            imageBlobRepository.updateSize(hash, content.length);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(replaced)) {
+            return false;
+        }
+        hotContentCache.invalidateBlobs(hash);
+        return true;
+    }
+
+    /**
+     * @return 다시 인코딩한 내용 (대상이 아니면 null)
+     */
+    private byte[] reencode(byte[] original, String name) throws IOException {
+        String lower = name.toLowerCase(Locale.ROOT);
+        String format;
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            // 회전 정보를 지우면 화면에 돌아간 채로 보이므로 건너뛴다.
+            if (ImageTransforms.exifOrientation(original) != 1) {
+                return null;
+            }
+            format = "jpg";
+        } else if (lower.endsWith(".png")) {
+            format = "png";
+        } else {
+            // gif 는 애니메이션이 사라지므로 건너뛴다.
+            return null;
+        }
+        BufferedImage image = decode(original);
+        if (image == null) {
+            return null;
+        }
+        if (Math.max(image.getWidth(), image.getHeight()) > maxDimension) {
+            image = ImageTransforms.scale(image, maxDimension, format);
+        }
+        return ImageTransforms.encode(image, format, jpegQuality);
+    }
+
+    // 긴 변이 max-dimension 의 2배 이상이거나 픽셀 수가 max-decoded-pixels 를 넘으면 건너뛰며 읽어 디코딩 메모리를 제한한다.
+    private BufferedImage decode(byte[] content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int step = Math.max(1, Math.max(width, height) / maxDimension);
+                while ((long) (width / step) * (height / step) > maxPixels) {
+                    step++;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private ImageBackfillStatusDto toStatus(ImageBackfillCheckpoint checkpoint) {
+        ImageBackfillStatusDto status = new ImageBackfillStatusDto();
+        if (checkpoint != null) {
+            boolean running = checkpoint.getLeaseUntil() != null && checkpoint.getLeaseUntil().after(new Date());
+            status.setRunning(running);
+            status.setPauseRequested(running && checkpoint.isPauseRequested());
+            status.setPhase(checkpoint.getPhase());
+            status.setLastKey(checkpoint.getLastKey());
+            status.setProcessed(checkpoint.getProcessed());
+            status.setReplaced(checkpoint.getReplaced());
+            status.setSkipped(checkpoint.getSkipped());
+            status.setFailed(checkpoint.getFailed());
+            status.setBytesSaved(checkpoint.getBytesSaved());
+            status.setStartedDate(checkpoint.getStartedDate());
+            status.setUpdatedDate(checkpoint.getUpdatedDate());
+            status.setCompletedDate(checkpoint.getCompletedDate());
+        }
+        return status;
+    }
+
+    // 한 묶음의 대상과 다음 조회 위치 (조회 결과가 없으면 lastKey == null)
+    private static class Chunk {
+        private final List<Target> targets = new ArrayList<>();
+        private String lastKey;
+    }
+
+    // 이미지 저장소 키 또는 이전 방식 파일 경로 중 하나
+    private static class Target {
+        private final String blobKey;
+        private final Path path;
+
+        Target(String blobKey, Path path) {
+            this.blobKey = blobKey;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package project.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.global.cache.HotContentCache;
+import project.service.global.storage.BlobStore;
+import project.service.global.storage.StoredFile;
+import project.service.repository.ImageBlobRepository;
+
+/**
+ * 내용 주소(SHA-256) 기반 이미지 저장소
+ * 같은 내용은 한 번만 쓰고 참조 수만 늘린다. 참조하는 쪽은 파일 이름(hash.ext)을 그대로 저장한다.
+ * 참조 수는 호출한 트랜잭션 안에서 바뀌고, 파일 쓰기와 삭제는 커밋 이후 파일 I/O 작업 풀에서 BlobStore 로 한다.
+ * 업무 이미지 행에는 이전과 같이 blobDir/파일 이름 을 식별자로 저장한다 (S3 저장소여도 같은 값).
+ * 참조 수가 0 이 된 행은 커밋 이후 잠근 상태로 파일을 지운 뒤 삭제하므로, 같은 내용을 다시 저장하는 store 는 파일 삭제가 끝날 때까지 기다린다.
+ * 파일은 행을 새로 만든 경우나 파일이 없는 경우에만 쓴다. 이미 있는 파일을 다시 쓰면 수정 시각(ETag)이 바뀌고 파생 이미지를 다시 만든다.
+ * 커밋 이후의 쓰기도 행을 잠근 채 하므로 그 사이 참조가 모두 해제되어 삭제된 내용은 되살리지 않는다.
+ * 이 형식이 아닌 이름(이전 UUID 파일)은 저장소 밖의 파일로 보고 참조 수를 관리하지 않는다.
+ */
+@Service
+@Slf4j
+public class ImageBlobService {
+    private static final Pattern BLOB_NAME = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]{1,10})?$");
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final DeferredFileService deferredFileService;
+    private final BlobStore blobStore;
+    private final HotContentCache hotContentCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Path blobDir;
+    private final int writeAttempts;
+    private final long writeRetryMillis;
+
+    public ImageBlobService(ImageBlobRepository imageBlobRepository, DeferredFileService deferredFileService,
+            BlobStore blobStore, HotContentCache hotContentCache, TransactionTemplate transactionTemplate, @Value("${files.upload-dir.blob:${files.upload-dir.task.description}/blob}") String blobDir,
+            @Value("${image.blob.write-attempts:3}") int writeAttempts,
+            @Value("${image.blob.write-retry-millis:500}") long writeRetryMillis) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.deferredFileService = deferredFileService;
+        this.blobStore = blobStore;
+        this.hotContentCache = hotContentCache;
+        this.transactionTemplate = transactionTemplate;
+        this.blobDir = Paths.get(blobDir);
+        this.writeAttempts = Math.max(1, writeAttempts);
+        this.writeRetryMillis = writeRetryMillis;
+    }
+
+    public String store(byte[] content, String extension) {
+        return store(content, extension, null);
+    }
+
+    /**
+     * 참조 하나를 추가하고, 새 내용이거나 파일이 없으면 커밋 이후에 쓴다
+     * @param afterWrite 파일을 새로 쓴 뒤 파일 I/O 작업 풀에서 파일 이름으로 호출 (없으면 null)
+     * @return 참조하는 쪽에 저장할 파일 이름
+     */
+    public String store(byte[] content, String extension, Consumer<String> afterWrite) {
+        String hash = sha256(content);
+        // 행을 잠근 뒤 참조 수를 늘린다. 같은 내용이 다른 확장자로 먼저 저장되었으면 그 이름을 쓴다.
+        String existing = imageBlobRepository.lockFileName(hash);
+        boolean inserted = existing == null;
+        String fileName;
+        if (inserted) {
+            String ext = normalizeExtension(extension);
+            imageBlobRepository.acquire(hash, ext == null ? hash : hash + "." + ext, content.length, 1, new Date());
+            fileName = imageBlobRepository.findFileNameByHash(hash);
+        } else {
+            imageBlobRepository.addRefCount(hash, 1);
+            fileName = existing;
+        }
+        deferredFileService.runAfterCommit(() -> write(hash, fileName, content, inserted, afterWrite));
+        return fileName;
+    }
+
+    /**
+     * 이미 저장된 파일을 count 곳에서 더 참조 (반복 업무 회차가 썸네일을 복사하는 경우)
+     */
+    public void retain(String fileName, int count) {
+        String hash = hashOf(fileName);
+        if (hash != null && count > 0) {
+            imageBlobRepository.addRefCount(hash, count);
+        }
+    }
+
+    /**
+     * 참조 해제 (같은 이름이 여러 번 있으면 그 수만큼)
+     * 저장소 형식이 아닌 이름은 무시한다.
+     */
+    public void release(Collection<String> fileNames) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String fileName : fileNames) {
+            String hash = hashOf(fileName);
+            if (hash != null) {
+                counts.merge(hash, 1, Integer::sum);
+            }
+        }
+        // hash 순서로 잠가서 동시에 해제하는 트랜잭션끼리 교착되지 않도록 한다.
+        counts.forEach((hash, count) -> {
+            String fileName = imageBlobRepository.findFileNameByHash(hash);
+            imageBlobRepository.addRefCount(hash, -count);
+            if (fileName != null && imageBlobRepository.existsByHashAndRefCountLessThanEqual(hash, 0)) {
+                deferredFileService.runAfterCommit(() -> deleteIfUnreferenced(hash, fileName));
+            }
+        });
+    }
+
+    public Path getBlobDir() {
+        return blobDir;
+    }
+
+    public boolean isBlob(String fileName) {
+        return hashOf(fileName) != null;
+    }
+
+    /**
+     * 업무 이미지 행에 저장하는 식별자
+     */
+    public String referencePath(String fileName) {
+        return blobDir.resolve(keyOf(fileName)).toString();
+    }
+
+    public StoredFile toStoredFile(String fileName) {
+        return StoredFile.blob(keyOf(fileName));
+    }
+
+    // 경로가 포함된 이름이 들어와도 파일 이름만 키로 사용
+    private String keyOf(String fileName) {
+        return Paths.get(fileName).getFileName().toString();
+    }
+
+    /**
+     * 파일 이름 또는 경로에서 hash 추출 (저장소 형식이 아니면 null)
+     */
+    public static String hashOf(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        Path name = Paths.get(fileName).getFileName();
+        if (name == null) {
+            return null;
+        }
+        Matcher matcher = BLOB_NAME.matcher(name.toString());
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    // 행을 잠근 채 쓴다. 실패하면 writeAttempts 번까지 다시 시도하고, 그래도 실패하면 예외로 끝낸다.
+    // 파일이 끝내 없으면 같은 내용을 다음에 저장할 때 다시 쓴다.
+    private void write(String hash, String fileName, byte[] content, boolean inserted, Consumer<String> afterWrite) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                Boolean written = transactionTemplate.execute(status -> {
+                    if (imageBlobRepository.lockReferenced(hash) == null) {
+                        return false;
+                    }
+                    if (!inserted && blobStore.exists(fileName)) {
+                        return false;
+                    }
+                    try {
+                        blobStore.put(fileName, content);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    // 재인코딩으로 줄었던 파일이 없어져 원본을 다시 쓴 경우
+                    if (!inserted) {
+                        imageBlobRepository.updateSize(hash, content.length);
+                    }
+                    return true;
+                });
+                if (Boolean.TRUE.equals(written) && afterWrite != null) {
+                    afterWrite.accept(fileName);
+                }
+                return;
+            } catch (UncheckedIOException e) {
+                if (attempt >= writeAttempts) {
+                    throw new IllegalStateException("Failed to write blob after " + attempt + " attempts: " + fileName, e.getCause());
+                }
+                log.warn("Failed to write blob (attempt {}): {}", attempt, fileName, e.getCause());
+            }
+            try {
+                Thread.sleep(writeRetryMillis * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while writing blob: " + fileName, e);
+            }
+        }
+    }
+
+    // 커밋 사이에 같은 내용이 다시 저장되었으면 파일을 남긴다. 파생 이미지(hash_크기.ext)도 함께 삭제
+    // 참조 수가 0 인 행을 잠근 채 파일을 지우고 행을 삭제하므로, 같은 hash 의 acquire(MERGE) 는 이 트랜잭션이 끝난 뒤 새 행을 만든다.
+    private void deleteIfUnreferenced(String hash, String fileName) {
+        try {
+            Boolean deleted = transactionTemplate.execute(status -> {
+                if (imageBlobRepository.lockUnreferenced(hash) == null) {
+                    return false;
+                }
+                try {
+                    blobStore.delete(fileName);
+                    blobStore.deleteByPrefix(hash + "_");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                imageBlobRepository.deleteUnreferenced(hash);
+                return true;
+            });
+            if (Boolean.TRUE.equals(deleted)) {
+                hotContentCache.invalidateBlobs(hash);
+            }
+        } catch (UncheckedIOException e) {
+            log.error("Failed to delete blob: {}", fileName, e.getCause());
+        }
+    }
+
+    private String normalizeExtension(String extension) {
+        if (extension == null) {
+            return null;
+        }
+        String ext = extension.toLowerCase(Locale.ROOT);
+        if (ext.startsWith(".")) {
+            ext = ext.substring(1);
+        }
+        return ext.matches("[a-z0-9]{1,10}") ? ext : null;
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
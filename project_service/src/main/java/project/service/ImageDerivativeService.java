@@ -0,0 +1,222 @@
+package project.service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.global.storage.BlobMetadata;
+import project.service.global.storage.BlobStore;
+import project.service.global.storage.StoredFile;
+import project.service.global.util.ImageTransforms;
+
+/**
+ * 썸네일 파생 이미지 (정해진 크기로 줄인 사본)
+ * 업로드가 커밋되고 원본 파일이 쓰인 뒤 별도 작업 풀에서 크기마다 hash_크기.ext 파일을 만든다. Kafka 소비 스레드는 기다리지 않는다.
+ * 조회 시 요청한 크기 이상인 가장 작은 파생 이미지로 응답하고, 아직 없으면 원본으로 응답하면서 생성을 다시 예약한다.
+ * 원본과 같은 hash 로 이름을 정하므로 파생 이미지도 내용이 바뀌지 않는다.
+ * 원본과 파생 이미지 모두 BlobStore 로 읽고 쓰며, 있는 것으로 확인한 파생 이미지 키는 잠시 기억하여 매 조회마다 확인하지 않는다.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+    private static final long EXIF_SCAN_BYTES = 64 * 1024 + 4;
+
+    private final ImageBlobService imageBlobService;
+    private final BlobStore blobStore;
+    private final ThreadPoolTaskExecutor executor;
+    private final int[] sizes;
+    private final float jpegQuality;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // ImageIO 로 읽을 수 없거나 디코딩에 실패한 원본은 매 조회마다 다시 시도하지 않는다.
+    private final Cache<String, Boolean> unsupported = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+    // S3 저장소에서는 존재 확인이 HEAD 요청이므로 확인된 키를 캐시
+    private final Cache<String, Boolean> existing = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public ImageDerivativeService(ImageBlobService imageBlobService, BlobStore blobStore,
+            @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${image.derivative.sizes:48,128,320}") int[] sizes,
+            @Value("${image.derivative.jpeg-quality:0.85}") float jpegQuality) {
+        this.imageBlobService = imageBlobService;
+        this.blobStore = blobStore;
+        this.executor = executor;
+        this.sizes = Arrays.stream(sizes).filter(size -> size > 0).sorted().distinct().toArray();
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 썸네일 원본을 저장하고, 커밋 후 원본 파일이 쓰이면 파생 이미지 생성을 예약
+     * @return 참조하는 쪽에 저장할 파일 이름
+     */
+    public String storeThumbnail(byte[] content, String extension) {
+        return imageBlobService.store(content, extension, this::submit);
+    }
+
+    /**
+     * size 에 맞는 파생 이미지 (size 가 없거나 가장 큰 크기보다 크면 원본)
+     */
+    public StoredFile resolve(String fileName, Integer size) {
+        StoredFile original = imageBlobService.toStoredFile(fileName);
+        String hash = ImageBlobService.hashOf(fileName);
+        if (size == null || hash == null) {
+            return original;
+        }
+        int target = pickSize(size);
+        if (target < 0) {
+            return original;
+        }
+        String derivative = derivativeName(hash, target, formatOf(fileName));
+        if (exists(derivative)) {
+            return StoredFile.blob(derivative);
+        }
+        submit(fileName);
+        return original;
+    }
+
+    /**
+     * resolve 결과가 이 size 에 대한 최종 응답인지 (아직 생성 중이라 원본을 보낸 경우 false)
+     */
+    public boolean isFinal(StoredFile served, Integer size) {
+        return size == null || !served.isBlob() || ImageBlobService.hashOf(served.getKey()) == null || pickSize(size) < 0;
+    }
+
+    private boolean exists(String key) {
+        if (existing.getIfPresent(key) != null) {
+            return true;
+        }
+        if (blobStore.exists(key)) {
+            existing.put(key, Boolean.TRUE);
+            return true;
+        }
+        return false;
+    }
+
+    private void submit(String fileName) {
+        String hash = ImageBlobService.hashOf(fileName);
+        if (unsupported.getIfPresent(hash) != null || !inFlight.add(hash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(hash, fileName);
+                } catch (Exception e) {
+                    log.error("Failed to generate derivatives: {}", fileName, e);
+                } finally {
+                    inFlight.remove(hash);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(hash);
+            log.warn("Derivative queue is full, skipped: {}", fileName);
+        }
+    }
+
+    private void generate(String hash, String fileName) throws IOException {
+        BlobMetadata original = blobStore.stat(fileName);
+        if (original == null) {
+            return;
+        }
+        String format = formatOf(fileName);
+        BufferedImage source;
+        try {
+            source = original.getSize() > 0 ? read(fileName, original.getSize(), sizes[sizes.length - 1]) : null;
+        } catch (IOException | RuntimeException e) {
+            // 손상된 원본은 조회마다 다시 디코딩하지 않도록 기억
+            log.warn("Failed to decode original, derivatives disabled: {}", fileName, e);
+            source = null;
+        }
+        if (source == null) {
+            unsupported.put(hash, Boolean.TRUE);
+            return;
+        }
+        if ("jpg".equals(format)) {
+            source = ImageTransforms.orient(source, readOrientation(fileName, original.getSize()));
+        }
+        for (int size : sizes) {
+            String target = derivativeName(hash, size, format);
+            if (!blobStore.exists(target)) {
+                blobStore.put(target, ImageTransforms.encode(ImageTransforms.scale(source, size, format), format, jpegQuality));
+            }
+            existing.put(target, Boolean.TRUE);
+        }
+    }
+
+    // 원본이 가장 큰 파생 크기의 2배보다 크면 읽으면서 건너뛰어(subsampling) 디코딩 메모리를 줄인다.
+    private BufferedImage read(String fileName, long length, int largestSize) throws IOException {
+        try (InputStream stream = blobStore.open(fileName, 0, length - 1);
+                ImageInputStream input = ImageIO.createImageInputStream(stream)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (largestSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // EXIF 는 JPEG 앞부분의 APP1 세그먼트(최대 64KB)에 있으므로 그 만큼만 읽는다.
+    private int readOrientation(String fileName, long length) throws IOException {
+        try (InputStream stream = blobStore.open(fileName, 0, Math.min(length, EXIF_SCAN_BYTES) - 1)) {
+            return ImageTransforms.exifOrientation(stream.readAllBytes());
+        }
+    }
+
+    // 요청한 크기 이상인 가장 작은 파생 크기 (없으면 -1)
+    private int pickSize(int requested) {
+        for (int size : sizes) {
+            if (size >= requested) {
+                return size;
+            }
+        }
+        return -1;
+    }
+
+    // 투명도를 가질 수 있는 형식은 png, 나머지는 jpg 로 다시 인코딩
+    private String formatOf(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        return name.endsWith(".png") || name.endsWith(".gif") ? "png" : "jpg";
+    }
+
+    static String derivativeName(String hash, int size, String format) {
+        return hash + "_" + size + "." + format;
+    }
+}
@@ -0,0 +1,48 @@
+package project.service;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.repository.JobLockRepository;
+
+/**
+ * job_lock 행으로 인스턴스 간 작업 실행을 한 곳으로 모은다.
+ * 실행이 죽어도 leaseMillis 가 지나면 다른 인스턴스가 다시 가져갈 수 있다.
+ */
+@Service
+@Slf4j
+public class JobLockService {
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobLockService(JobLockRepository jobLockRepository, TransactionTemplate transactionTemplate) {
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * @return 이 인스턴스가 실행 권한을 가져갔으면 true
+     */
+    public boolean tryLock(String jobName, long leaseMillis) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobLockRepository.createIfAbsent(jobName, new Date(0)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 순간에 행을 만든 경우
+            log.debug("Job lock row created concurrently: {}", jobName);
+        }
+        Date now = new Date();
+        Integer claimed = transactionTemplate.execute(status ->
+                jobLockRepository.claim(jobName, owner, now, new Date(now.getTime() + leaseMillis)));
+        return claimed != null && claimed == 1;
+    }
+
+    public void unlock(String jobName) {
+        transactionTemplate.executeWithoutResult(status -> jobLockRepository.release(jobName, owner, new Date()));
+    }
+}
@@ -0,0 +1,186 @@
+package project.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.GetKanbanBoardResponseDto;
+import project.service.dto.response.KanbanCardDto;
+import project.service.entity.ProjectStatusCount;
+import project.service.entity.ProjectStatusCountId;
+import project.service.global.SuccessResponse;
+import project.service.repository.ProjectStatusCountRepository;
+import project.service.repository.TaskRepository;
+import project.service.repository.projection.StatusCountView;
+import project.service.security.ImageUrlSigner;
+
+/**
+ * 칸반 보드 (상태별 컬럼)
+ * 컬럼별 업무 수는 project_status_count 에서 읽고, 카드 목록은 컬럼마다 task_id 기준 keyset 페이지로 조회한다.
+ * 집계 행이 없는 프로젝트는 기동 시 task 에서 채우고, 채워지기 전에는 task 를 직접 센다.
+ * 채우기는 Kafka 리스너 컨테이너와 웹 서버보다 먼저 시작하는 lifecycle 단계에서 끝낸다.
+ * 먼저 증감(MERGE)이 행 일부를 만들면 그 프로젝트는 NOT EXISTS 로 건너뛰어 어긋나고, 같은 키가 부딪히면 채우기 전체가 실패하기 때문이다.
+ * 다른 인스턴스가 채우는 중이면 끝날 때까지 기다린 뒤 시작한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KanbanService implements SmartLifecycle {
+    static final String SEED_JOB = "kanban-status-count-seed";
+    private static final long SEED_LEASE_MILLIS = 10 * 60 * 1000L;
+    private static final long SEED_WAIT_MILLIS = 1000L;
+    // 리스너 컨테이너(Integer.MAX_VALUE - 100)와 웹 서버보다 먼저 시작
+    private static final int SEED_PHASE = 0;
+
+    // 업무가 없어도 항상 보여주는 기본 컬럼
+    private static final int[] DEFAULT_STATUSES = {0, 1, 2};
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProjectStatusCountRepository projectStatusCountRepository;
+    private final TaskRepository taskRepository;
+    private final JobLockService jobLockService;
+    private final ImageUrlSigner imageUrlSigner;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        seedMissingCounts();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SEED_PHASE;
+    }
+
+    public void seedMissingCounts() {
+        // 다른 인스턴스가 끝내면 이 인스턴스도 한 번 더 실행한다 (남은 프로젝트가 없으면 아무것도 넣지 않는다)
+        long deadline = System.currentTimeMillis() + SEED_LEASE_MILLIS;
+        while (!jobLockService.tryLock(SEED_JOB, SEED_LEASE_MILLIS)) {
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("Kanban status count seed skipped: lock held by another instance");
+                return;
+            }
+            try {
+                Thread.sleep(SEED_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        try {
+            Integer rows = transactionTemplate.execute(status -> projectStatusCountRepository.insertMissingProjectRows());
+            if (rows != null && rows > 0) {
+                log.info("Kanban status counts seeded: rows={}", rows);
+            }
+        } catch (DataAccessException e) {
+            // 채우지 못한 프로젝트는 task 를 직접 세고, 정합성 작업(CounterReconciliationService)이 행을 맞춘다
+            log.warn("Kanban status count seed failed", e);
+        } finally {
+            jobLockService.unlock(SEED_JOB);
+        }
+    }
+
+    public SuccessResponse getBoard(Long projectId, int size) {
+        int pageSize = pageSize(size);
+        Map<Integer, Integer> counts = new TreeMap<>();
+        for (int status : DEFAULT_STATUSES) {
+            counts.put(status, 0);
+        }
+        List<ProjectStatusCount> stored = projectStatusCountRepository.findByProjectId(projectId);
+        if (stored.isEmpty()) {
+            // 아직 채워지지 않은 프로젝트
+            for (StatusCountView view : taskRepository.countByProjectIdInGroupByStatus(List.of(projectId))) {
+                counts.put(view.getStatus(), view.getTaskCount().intValue());
+            }
+        }
+        for (ProjectStatusCount count : stored) {
+            counts.put(count.getId().getStatus(), count.getTaskCount());
+        }
+
+        List<GetKanbanBoardResponseDto.Column> columns = new ArrayList<>(counts.size());
+        counts.forEach((status, count) -> {
+            GetKanbanBoardResponseDto.Column column = count > 0
+                    ? page(projectId, status, 0L, pageSize)
+                    : GetKanbanBoardResponseDto.Column.builder().status(status).tasks(List.of()).build();
+            column.setCount(count);
+            columns.add(column);
+        });
+        GetKanbanBoardResponseDto result = GetKanbanBoardResponseDto.builder()
+                .projectId(projectId)
+                .columns(columns)
+                .build();
+        return SuccessResponse.builder().data(result).build();
+    }
+
+    /**
+     * 컬럼 하나의 다음 페이지 (cursor 는 이전 페이지의 nextCursor)
+     */
+    public SuccessResponse getColumn(Long projectId, int status, Long cursor, int size) {
+        GetKanbanBoardResponseDto.Column column = page(projectId, status, cursor == null ? 0L : cursor, pageSize(size));
+        projectStatusCountRepository.findById(new ProjectStatusCountId(projectId, status))
+                .ifPresent(count -> column.setCount(count.getTaskCount()));
+        return SuccessResponse.builder().data(column).build();
+    }
+
+    public void addCount(long projectId, int status, int delta) {
+        if (delta != 0) {
+            projectStatusCountRepository.addCount(projectId, status, delta);
+        }
+    }
+
+    /**
+     * 하위 업무를 포함한 업무 묶음을 더하거나(sign = 1) 빼기(sign = -1)
+     */
+    public void addCounts(List<StatusCountView> counts, long projectId, int sign) {
+        for (StatusCountView count : counts) {
+            addCount(projectId, count.getStatus(), sign * count.getTaskCount().intValue());
+        }
+    }
+
+    public void removeProject(long projectId) {
+        projectStatusCountRepository.deleteByProjectId(projectId);
+    }
+
+    // 한 건을 더 조회하여 다음 페이지 존재 여부 판단
+    private GetKanbanBoardResponseDto.Column page(Long projectId, int status, long afterId, int pageSize) {
+        List<KanbanCardDto> cards = taskRepository.findKanbanCards(projectId, status, afterId, PageRequest.of(0, pageSize + 1));
+        Long nextCursor = null;
+        if (cards.size() > pageSize) {
+            cards = new ArrayList<>(cards.subList(0, pageSize));
+            nextCursor = cards.get(pageSize - 1).getTaskId();
+        }
+        for (KanbanCardDto card : cards) {
+            card.setThumbnail(imageUrlSigner.taskThumbnailUrl(card.getThumbnail(), card.getThumbnailType()));
+        }
+        return GetKanbanBoardResponseDto.Column.builder()
+                .status(status)
+                .tasks(cards)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
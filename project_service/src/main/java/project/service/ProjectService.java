@@ -1,14 +1,11 @@
 package project.service;
-import java.util.Collections;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,23 +16,52 @@ import lombok.extern.slf4j.Slf4j;
 import project.service.dto.request.CreateProjectRequestDto;
 import project.service.dto.request.UpdateProjectRequestDto;
 import project.service.dto.response.GetProjectsResponseDto;
+import project.service.dto.response.ProjectSummaryDto;
 import project.service.entity.Project;
 import project.service.global.SuccessResponse;
+import project.service.global.cache.ProjectSummaryCache;
+import project.service.global.exception.SavingImageFailedException;
+import project.service.global.storage.StoredFile;
 import project.service.global.util.FileManagement;
+import project.service.kafka.event.ClaimCheck;
 import project.service.kafka.event.ProjectDeleteEvent;
 import project.service.kafka.event.ProjectUpdateEvent;
 import project.service.repository.ProjectRepository;
+import project.service.repository.TaskImageRepository;
+import project.service.repository.TaskRepository;
+import project.service.security.ImageUrlSigner;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProjectService {
 	private final ProjectRepository projectRepository;
+	private final TaskRepository taskRepository;
+	private final TaskImageRepository taskImageRepository;
 	private final FileManagement fileManagement;
+	private final ImageBlobService imageBlobService;
+	private final ImageDerivativeService imageDerivativeService;
+	private final DeferredFileService deferredFileService;
+	private final ProjectSummaryCache projectSummaryCache;
+	private final WorkloadService workloadService;
+	private final KanbanService kanbanService;
+	private final ImageUrlSigner imageUrlSigner;
+	private final ResumableUploadService resumableUploadService;
 	
+	/**
+	 * @param eventKey 생성 이벤트 레코드 (토픽-파티션@오프셋). 이미 이 레코드로 만든 프로젝트가 있으면 새로 만들지 않고 돌려준다.
+	 */
 	@Transactional(rollbackFor = { Exception.class })
-	public Project createProject(CreateProjectRequestDto projectCreateRequestDto, byte[] img, String extsn) {
+	public Project createProject(String eventKey, CreateProjectRequestDto projectCreateRequestDto, byte[] img, String extsn, ClaimCheck imgRef) {
+		Optional<Project> created = projectRepository.findByCreateEventKey(eventKey);
+		if (created.isPresent()) {
+			return created.get();
+		}
+		if (img == null && imgRef != null) {
+			img = claim(imgRef);
+		}
 		Project project = new Project();
+		project.setCreateEventKey(eventKey);
 		project.setTitle(projectCreateRequestDto.getTitle());
 		project.setDescription(projectCreateRequestDto.getDescription());
 		project.setSubTitle(projectCreateRequestDto.getSubTitle());
@@ -44,10 +70,7 @@ public class ProjectService {
 		
 		String thumbnail;
 		if (img != null && projectCreateRequestDto.getIcon() == null) {
-			thumbnail = UUID.randomUUID().toString() + "." + extsn;
-			// 만약 Exception 발생하면 저장된 썸네일 이미지도 삭제 시켜야함 (롤백)
-			// 나중에 개발...ㅋㅋ...
-			fileManagement.uploadThumbnail(img, thumbnail, 'P');
+			thumbnail = imageDerivativeService.storeThumbnail(img, extsn);
 			project.setThumbnail(thumbnail);
 			project.setThumbnailType('M');
 		} else if(projectCreateRequestDto.getIcon() != null && img == null) {
@@ -75,45 +98,66 @@ public class ProjectService {
 	@Transactional(rollbackFor = { Exception.class })
     public void deleteProject(ProjectDeleteEvent event) {
 		Optional<Project> project = projectRepository.findById(event.getProjectId());
-		//관련 task 파일 삭제
 		//프로젝트가 존재하지 않을 경우 에러 처리 로직 추가
+		// 프로젝트, 업무 이미지와 썸네일 참조 해제 (이전 방식으로 저장된 파일은 그대로 둔다)
+		List<String> releasedImages = new ArrayList<>(taskImageRepository.findImagePathsByProjectId(event.getProjectId()));
+		releasedImages.addAll(taskRepository.findUploadedThumbnailsByProjectId(event.getProjectId()));
+		if (project.get().getThumbnailType() == 'M') {
+			releasedImages.add(project.get().getThumbnail());
+		}
 		projectRepository.delete(project.get());
+		imageBlobService.release(releasedImages);
+		workloadService.removeProject(event.getProjectId());
+		kanbanService.removeProject(event.getProjectId());
+		projectSummaryCache.evictAfterCommit(event.getProjectId());
     }
 
-	@Transactional(rollbackFor = { Exception.class })
+	// 캐시에 있는 프로젝트는 DB 커넥션 없이 응답하도록 트랜잭션을 열지 않음
 	public SuccessResponse getProjects(HttpServletRequest request, List<Long> projectIds) {
-		List<GetProjectsResponseDto> result = projectIds.stream()
-				.map(projectRepository::findById)
-				.filter(Optional::isPresent)
-				.map(Optional::get)
-				.map(project -> {
-					float progress = 0.0f;
-					if (project.getChildCount() > 0) {
-						progress = (float) project.getChildCompleteCount() / project.getChildCount();
-					}
-					return new GetProjectsResponseDto(
-						project.getId(),
-						project.getTitle(),
-						project.getSubTitle(),
-						project.getDescription(),
-						project.getStartDate(),
-						project.getEndDate(),
-						project.getThumbnailType() == 'M' ? request.getScheme() + "://" +request.getServerName() + ":" + request.getServerPort() + "/project/thumbnail/" + project.getThumbnail() : project.getThumbnail(),
-						project.getThumbnailType(),
-						progress
-					);
-				})
-				.collect(Collectors.toList());
-		return SuccessResponse.builder().message("프로젝트 조회 완료").data(Collections.singletonMap("projectInfos", result)).build();
+		Map<Long, ProjectSummaryDto> summaries = projectSummaryCache.getAll(projectIds);
+		String thumbnailBaseUrl = request.getScheme() + "://" + request.getServerName() + ":" + request.getServerPort() + "/project/thumbnail/";
+
+		// 요청한 순서를 유지하고, 존재하지 않는 프로젝트 아이디는 따로 응답
+		List<GetProjectsResponseDto> result = new ArrayList<>(projectIds.size());
+		List<Long> missingProjectIds = new ArrayList<>();
+		for (Long projectId : projectIds) {
+			ProjectSummaryDto summary = summaries.get(projectId);
+			if (summary == null) {
+				missingProjectIds.add(projectId);
+				continue;
+			}
+			result.add(new GetProjectsResponseDto(
+				summary.getProjectId(),
+				summary.getTitle(),
+				summary.getSubTitle(),
+				summary.getDescription(),
+				summary.getStartDate(),
+				summary.getEndDate(),
+				summary.getThumbnailType() == 'M'
+						? thumbnailBaseUrl + summary.getThumbnail() + "?" + imageUrlSigner.query(ImageUrlSigner.PROJECT_THUMBNAIL, summary.getThumbnail())
+						: summary.getThumbnail(),
+				summary.getThumbnailType(),
+				summary.getProgress()
+			));
+		}
+		if (!missingProjectIds.isEmpty()) {
+			log.warn("getProjects: missing projectIds={}", missingProjectIds);
+		}
+
+		Map<String, Object> data = new HashMap<>();
+		data.put("projectInfos", result);
+		data.put("missingProjectIds", missingProjectIds);
+		return SuccessResponse.builder().message("프로젝트 조회 완료").data(data).build();
 	}
-	
-	public ResponseEntity<Resource> getProjectThumbnail(String thumbnail) {
-		Resource image = fileManagement.getThumbnail(thumbnail, 'P');
-		HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_TYPE, "image/" + thumbnail.substring(thumbnail.lastIndexOf(".") + 1).toLowerCase());
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + thumbnail + "\"");
-        
-        return new ResponseEntity<>(image, headers, HttpStatus.OK);
+
+	/**
+	 * @param size 원하는 긴 변 픽셀 수 (없으면 원본)
+	 */
+	public StoredFile getProjectThumbnail(String thumbnail, Integer size) {
+		if (imageBlobService.isBlob(thumbnail)) {
+			return imageDerivativeService.resolve(thumbnail, size);
+		}
+		return StoredFile.local(fileManagement.getThumbnailPath(thumbnail, 'P'));
 	}
 
 	@Transactional(rollbackFor = { Exception.class })
@@ -128,16 +172,23 @@ public class ProjectService {
 		getProject.setTitle(updateProjectRequestDto.getTitle());
 		
 		if (getProject.getThumbnailType() == 'M') {
-			fileManagement.deleteThumbnail(getProject.getThumbnail(), 'P');
+			if (imageBlobService.isBlob(getProject.getThumbnail())) {
+				imageBlobService.release(List.of(getProject.getThumbnail()));
+			} else {
+				deferredFileService.deleteAfterCommit(List.of(fileManagement.getThumbnailPath(getProject.getThumbnail(), 'P')));
+			}
 		}
 		
+		byte[] img = event.getImg();
+		if (img == null && event.getImgRef() != null) {
+			img = claim(event.getImgRef());
+		}
 		String thumbnail;
-		if (event.getImg() != null && event.getProjectUpdateRequestDto().getIcon() == null) {
-			thumbnail = UUID.randomUUID().toString() + "." + event.getExtsn();
-			fileManagement.uploadThumbnail(event.getImg(), thumbnail, 'P');
+		if (img != null && event.getProjectUpdateRequestDto().getIcon() == null) {
+			thumbnail = imageDerivativeService.storeThumbnail(img, event.getExtsn());
 			getProject.setThumbnail(thumbnail);
 			getProject.setThumbnailType('M');
-		} else if(event.getProjectUpdateRequestDto().getIcon() != null && event.getImg() == null) {
+		} else if(event.getProjectUpdateRequestDto().getIcon() != null && img == null) {
 			thumbnail = event.getProjectUpdateRequestDto().getIcon();
 			getProject.setThumbnail(thumbnail);
 			getProject.setThumbnailType('C');
@@ -146,5 +197,16 @@ public class ProjectService {
 		}
 		
 		//projectRepository.save(getProject);
+		// 진행률 컬럼은 다른 트랜잭션의 원자적 UPDATE 로도 바뀌므로 이 트랜잭션이 읽은 값을 캐시에 넣지 않는다
+		projectSummaryCache.evictAfterCommit(getProject.getId());
+	}
+
+	// 이벤트에 참조로 실려 온 이미지는 처리 트랜잭션 안에서 꺼낸다 (커밋되면 스테이징 파일 삭제, 롤백되면 재처리 때 다시 꺼냄)
+	private byte[] claim(ClaimCheck imgRef) {
+		try {
+			return resumableUploadService.claim(imgRef).getFileContent();
+		} catch (IOException e) {
+			throw new SavingImageFailedException(e.getMessage());
+		}
 	}
 }
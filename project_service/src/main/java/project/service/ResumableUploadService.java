@@ -0,0 +1,460 @@
+package project.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import project.service.entity.UploadPart;
+import project.service.entity.UploadSession;
+import project.service.global.exception.UploadChecksumMismatchException;
+import project.service.global.exception.UploadConflictException;
+import project.service.global.exception.UploadNotFoundException;
+import project.service.global.exception.UploadTooLargeException;
+import project.service.global.storage.BlobStore;
+import project.service.global.util.InClause;
+import project.service.kafka.event.ClaimCheck;
+import project.service.repository.UploadPartRepository;
+import project.service.repository.UploadSessionRepository;
+
+/**
+ * 업무 이미지 이어 올리기 (tus 방식)
+ * 요청 본문을 partBytes 크기의 조각으로 나누어 BlobStore 에 쓰고 (업로드 전체를 메모리에 모으지 않음), DB 에는 조각 목록과 offset 을 기록한다.
+ * 스테이징이 공유 저장소에 있으므로 이어 쓰기와 가져가기(take)가 어느 인스턴스로 와도 된다.
+ * 같은 업로드에 동시에 쓰지 않도록 upload_session 의 writer/leaseUntil 을 조건부 UPDATE 로 가져간 요청만 쓴다.
+ * 연결이 끊기면 받은 만큼만 offset 에 반영하므로 클라이언트는 HEAD 로 offset 을 확인하고 이어서 보낸다.
+ * 끝까지 받은 업로드는 업무 생성/수정 이벤트가 id 로 가져가 이미지 저장소에 저장한다.
+ */
+@Service
+@Slf4j
+public class ResumableUploadService {
+    private static final Pattern IMAGE_NAME = Pattern.compile(".*\\.(jpg|jpeg|png|gif)$");
+    // Upload-Checksum 헤더의 알고리즘 이름 -> MessageDigest 이름
+    private static final Map<String, String> CHECKSUM_ALGORITHMS = Map.of("sha1", "SHA-1", "sha256", "SHA-256");
+    private static final String PART_PREFIX = "upload_";
+    static final String CLEANUP_JOB = "upload-cleanup";
+    private static final long CLEANUP_LEASE_MILLIS = 10 * 60 * 1000L;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadPartRepository uploadPartRepository;
+    private final DeferredFileService deferredFileService;
+    private final BlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+    private final long maxLength;
+    private final int partBytes;
+    private final long leaseMillis;
+    private final long expireMillis;
+
+    public ResumableUploadService(UploadSessionRepository uploadSessionRepository, UploadPartRepository uploadPartRepository,
+            DeferredFileService deferredFileService, BlobStore blobStore, TransactionTemplate transactionTemplate,
+            JobLockService jobLockService,
+            @Value("${files.upload.max-length-bytes:20971520}") long maxLength,
+            @Value("${files.upload.part-bytes:5242880}") int partBytes,
+            @Value("${files.upload.lease-seconds:300}") long leaseSeconds,
+            @Value("${files.upload.expire-hours:24}") long expireHours) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadPartRepository = uploadPartRepository;
+        this.deferredFileService = deferredFileService;
+        this.blobStore = blobStore;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLockService = jobLockService;
+        this.maxLength = maxLength;
+        this.partBytes = partBytes;
+        this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        this.expireMillis = TimeUnit.HOURS.toMillis(expireHours);
+    }
+
+    public long getMaxLength() {
+        return maxLength;
+    }
+
+    public String getChecksumAlgorithms() {
+        return String.join(",", CHECKSUM_ALGORITHMS.keySet().stream().sorted().toList());
+    }
+
+    /**
+     * 업로드 행 생성 (조각은 이어 쓸 때 만든다)
+     */
+    public UploadSession create(String fileName, long length) {
+        if (fileName == null || !IMAGE_NAME.matcher(fileName.toLowerCase(Locale.ROOT)).matches()) {
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+        }
+        if (length <= 0) {
+            throw new IllegalArgumentException("Upload-Length 는 0 보다 커야 합니다.");
+        }
+        if (length > maxLength) {
+            throw new UploadTooLargeException("업로드 크기 " + length + " 바이트가 " + maxLength + " 바이트를 초과합니다.");
+        }
+        UploadSession session = UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .fileName(Paths.get(fileName).getFileName().toString())
+                .uploadLength(length)
+                .uploadOffset(0L)
+                .createdDate(new Date())
+                .build();
+        return uploadSessionRepository.save(session);
+    }
+
+    public UploadSession get(String id) {
+        checkId(id);
+        return uploadSessionRepository.findById(id)
+                .orElseThrow(() -> new UploadNotFoundException("Upload not found with ID: " + id));
+    }
+
+    /**
+     * offset 위치부터 이어 쓰기
+     * 본문을 쓰는 동안에는 DB 커넥션을 잡지 않고, 조각마다 짧은 트랜잭션으로 조각 행과 lease 만 갱신한다.
+     * 다 쓴 뒤 offset 을 조건부로 갱신하면서 이번 요청의 조각을 committed 로 바꾼다.
+     * @param checksum "알고리즘 base64" 형식의 이번 요청 본문 checksum (없으면 검증하지 않음)
+     * @return 갱신된 offset
+     */
+    public long append(String id, long offset, String checksum, InputStream input) throws IOException {
+        UploadSession session = get(id);
+        if (session.isCompleted() || session.getUploadOffset() != offset) {
+            throw new UploadConflictException("Upload-Offset " + offset + " does not match " + session.getUploadOffset());
+        }
+        MessageDigest digest = null;
+        byte[] expected = null;
+        if (checksum != null) {
+            String[] parts = checksum.trim().split(" ", 2);
+            String algorithm = CHECKSUM_ALGORITHMS.get(parts[0].toLowerCase(Locale.ROOT));
+            if (algorithm == null || parts.length < 2) {
+                throw new IllegalArgumentException("지원하지 않는 Upload-Checksum 입니다: " + checksum);
+            }
+            digest = newDigest(algorithm);
+            expected = Base64.getDecoder().decode(parts[1].trim());
+        }
+        String writer = UUID.randomUUID().toString();
+        Date now = new Date();
+        Integer acquired = transactionTemplate.execute(status ->
+                uploadSessionRepository.acquireLease(id, offset, writer, now, new Date(now.getTime() + leaseMillis)));
+        if (acquired == null || acquired == 0) {
+            throw new UploadConflictException("Upload " + id + " is already being written");
+        }
+        List<UploadPart> parts = new ArrayList<>();
+        try {
+            long remaining = session.getUploadLength() - offset;
+            long written = 0L;
+            boolean tooLarge = false;
+            IOException interrupted = null;
+            byte[] buffer = new byte[(int) Math.min(partBytes, remaining)];
+            int filled = 0;
+            try {
+                while (true) {
+                    int limit = (int) Math.min(buffer.length, remaining - written);
+                    if (filled < limit) {
+                        int read = input.read(buffer, filled, limit - filled);
+                        if (read < 0) {
+                            break;
+                        }
+                        filled += read;
+                        continue;
+                    }
+                    // 조각이 가득 찼거나 Upload-Length 까지 받은 경우
+                    parts.add(writePart(id, writer, offset + written, buffer, filled));
+                    if (digest != null) {
+                        digest.update(buffer, 0, filled);
+                    }
+                    written += filled;
+                    filled = 0;
+                    if (written == remaining) {
+                        tooLarge = input.read() >= 0;
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊긴 경우: checksum 이 없으면 받은 만큼 반영
+                interrupted = e;
+            }
+            if (filled > 0) {
+                parts.add(writePart(id, writer, offset + written, buffer, filled));
+                if (digest != null) {
+                    digest.update(buffer, 0, filled);
+                }
+                written += filled;
+            }
+            boolean mismatch = digest != null && interrupted == null && !MessageDigest.isEqual(expected, digest.digest());
+            // 검증할 수 없거나 틀린 본문은 쓰기 전 상태로 되돌린다.
+            if (tooLarge || mismatch || (digest != null && interrupted != null)) {
+                discard(parts);
+                parts.clear();
+                written = 0L;
+            }
+            if (tooLarge) {
+                throw new UploadTooLargeException("Upload " + id + " exceeds Upload-Length " + session.getUploadLength());
+            }
+            if (mismatch) {
+                throw new UploadChecksumMismatchException("Upload-Checksum mismatch for upload " + id);
+            }
+            long newOffset = offset + written;
+            if (written > 0L) {
+                record(session, writer, offset, newOffset, parts);
+            }
+            if (interrupted != null) {
+                throw interrupted;
+            }
+            return newOffset;
+        } catch (IOException | RuntimeException e) {
+            // 기록하지 못한 조각 (record 가 성공한 경우 parts 는 비어 있다)
+            discard(parts);
+            throw e;
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.releaseLease(id, writer));
+        }
+    }
+
+    /**
+     * 완료된 업로드 내용을 꺼내고 업로드 행 삭제 (조각은 커밋 이후 삭제)
+     * 호출하는 쪽 트랜잭션이 롤백되면 업로드는 남아 다시 참조할 수 있다.
+     */
+    public List<StagedFile> take(List<String> ids) throws IOException {
+        return take(ids, null);
+    }
+
+    public StagedFile take(String id) throws IOException {
+        return take(List.of(id)).get(0);
+    }
+
+    /**
+     * 이벤트에 참조로 실려 온 업로드를 꺼낸다 (claim-check). 이벤트에 적힌 sha256 과 업로드 내용이 같아야 한다.
+     */
+    public List<StagedFile> claim(List<ClaimCheck> claimChecks) throws IOException {
+        if (claimChecks == null || claimChecks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> ids = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        for (ClaimCheck claimCheck : claimChecks) {
+            ids.add(claimCheck.getUploadId());
+            hashes.add(claimCheck.getSha256());
+        }
+        return take(ids, hashes);
+    }
+
+    public StagedFile claim(ClaimCheck claimCheck) throws IOException {
+        return claim(List.of(claimCheck)).get(0);
+    }
+
+    private List<StagedFile> take(List<String> ids, List<String> expectedHashes) throws IOException {
+        List<StagedFile> files = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return files;
+        }
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            UploadSession session = get(id);
+            if (!session.isCompleted() || isLeased(session)) {
+                throw new UploadConflictException("Upload " + id + " is not completed");
+            }
+            if (expectedHashes != null && !session.getContentHash().equalsIgnoreCase(expectedHashes.get(i))) {
+                throw new UploadChecksumMismatchException("Upload " + id + " does not match the referenced content");
+            }
+            List<UploadPart> parts = uploadPartRepository.findCommittedByUploadId(id);
+            byte[] content = read(parts, session.getUploadLength());
+            if (!HexFormat.of().formatHex(newDigest("SHA-256").digest(content)).equals(session.getContentHash())) {
+                throw new UploadChecksumMismatchException("Staged content of upload " + id + " has changed");
+            }
+            files.add(new StagedFile(session.getFileName(), content));
+            uploadSessionRepository.delete(session);
+        }
+        for (List<String> chunk : InClause.partition(ids)) {
+            keys.addAll(uploadPartRepository.findKeysByUploadIdIn(chunk));
+            uploadPartRepository.deleteByUploadIdIn(chunk);
+        }
+        deferredFileService.runAfterCommit(() -> deleteBlobs(keys));
+        return files;
+    }
+
+    @Transactional(rollbackFor = { Exception.class })
+    public void delete(String id) {
+        UploadSession session = get(id);
+        if (isLeased(session)) {
+            throw new UploadConflictException("Upload " + id + " is being written");
+        }
+        List<String> keys = uploadPartRepository.findKeysByUploadIdIn(List.of(id));
+        uploadPartRepository.deleteByUploadIdIn(List.of(id));
+        uploadSessionRepository.delete(session);
+        deferredFileService.runAfterCommit(() -> deleteBlobs(keys));
+    }
+
+    /**
+     * 만료된 업로드와 조각, 기록되지 못하고 남은 조각 정리
+     * job_lock 을 가져간 인스턴스 하나만 실행하고, 이어 쓰는 중(lease)인 업로드는 만료되었어도 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${files.upload.cleanup-millis:3600000}")
+    public void cleanupExpired() {
+        if (!jobLockService.tryLock(CLEANUP_JOB, CLEANUP_LEASE_MILLIS)) {
+            return;
+        }
+        try {
+            Date now = new Date();
+            Date cutoff = new Date(now.getTime() - expireMillis);
+            List<String> keys = new ArrayList<>();
+            int removed = 0;
+            for (List<String> chunk : InClause.partition(uploadSessionRepository.findExpiredIds(cutoff, now))) {
+                Integer count = transactionTemplate.execute(status -> {
+                    List<String> locked = uploadSessionRepository.lockUnleasedByIdIn(chunk, new Date());
+                    if (locked.isEmpty()) {
+                        return 0;
+                    }
+                    keys.addAll(uploadPartRepository.findKeysByUploadIdIn(locked));
+                    uploadPartRepository.deleteByUploadIdIn(locked);
+                    uploadSessionRepository.deleteAllByIdInBatch(locked);
+                    return locked.size();
+                });
+                removed += count == null ? 0 : count;
+            }
+            // lease 보다 훨씬 오래 전에 만들어졌는데 committed 가 아닌 조각
+            List<String> pending = uploadPartRepository.findPendingKeysCreatedBefore(cutoff, now);
+            for (List<String> chunk : InClause.partition(pending)) {
+                transactionTemplate.executeWithoutResult(status -> uploadPartRepository.deleteAllByIdInBatch(chunk));
+            }
+            keys.addAll(pending);
+            deleteBlobs(keys);
+            if (removed > 0 || !pending.isEmpty()) {
+                log.info("Expired uploads removed: sessions={}, parts={}", removed, keys.size());
+            }
+        } finally {
+            jobLockService.unlock(CLEANUP_JOB);
+        }
+    }
+
+    // 조각 행을 먼저 만들고(정리 대상으로 남도록) lease 를 연장한 뒤 BlobStore 에 쓴다.
+    private UploadPart writePart(String id, String writer, long partOffset, byte[] buffer, int length) throws IOException {
+        Date now = new Date();
+        UploadPart part = UploadPart.builder()
+                .blobKey(PART_PREFIX + UUID.randomUUID())
+                .uploadId(id)
+                .offset(partOffset)
+                .length(length)
+                .committed(false)
+                .createdDate(now)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (uploadSessionRepository.renewLease(id, writer, new Date(now.getTime() + leaseMillis)) == 0) {
+                throw new UploadConflictException("Upload " + id + " was taken over by another request");
+            }
+            uploadPartRepository.save(part);
+        });
+        blobStore.put(part.getBlobKey(), Arrays.copyOf(buffer, length));
+        return part;
+    }
+
+    // lease 를 잃었거나 다른 요청이 먼저 이어 쓴 경우 (offset 이 바뀜) 충돌
+    private void record(UploadSession session, String writer, long offset, long newOffset, List<UploadPart> parts) throws IOException {
+        String hash = null;
+        if (newOffset == session.getUploadLength()) {
+            List<UploadPart> all = new ArrayList<>(uploadPartRepository.findCommittedByUploadId(session.getId()));
+            all.addAll(parts);
+            hash = HexFormat.of().formatHex(newDigest("SHA-256").digest(read(all, newOffset)));
+        }
+        String contentHash = hash;
+        List<String> keys = parts.stream().map(UploadPart::getBlobKey).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (uploadSessionRepository.advanceOffset(session.getId(), writer, offset, newOffset) == 0) {
+                throw new UploadConflictException("Upload " + session.getId() + " was modified concurrently");
+            }
+            for (List<String> chunk : InClause.partition(keys)) {
+                uploadPartRepository.markCommitted(chunk);
+            }
+            if (contentHash != null) {
+                uploadSessionRepository.complete(session.getId(), new Date(), contentHash);
+            }
+        });
+        parts.clear();
+    }
+
+    // offset 순서로 이어 붙이기 (조각이 비거나 겹치면 내용이 바뀐 것으로 본다)
+    private byte[] read(List<UploadPart> parts, long length) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream((int) length);
+        for (UploadPart part : parts) {
+            if (part.getOffset() != content.size()) {
+                throw new UploadChecksumMismatchException("Staged parts of upload " + part.getUploadId() + " are not contiguous");
+            }
+            try (InputStream input = blobStore.open(part.getBlobKey(), 0, part.getLength() - 1)) {
+                input.transferTo(content);
+            }
+        }
+        return content.toByteArray();
+    }
+
+    private void discard(List<UploadPart> parts) {
+        if (parts.isEmpty()) {
+            return;
+        }
+        List<String> keys = parts.stream().map(UploadPart::getBlobKey).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> uploadPartRepository.deleteAllByIdInBatch(keys));
+        } catch (RuntimeException e) {
+            // 행이 남으면 정리 작업이 지운다
+            log.warn("Failed to remove discarded upload parts: {}", keys, e);
+            return;
+        }
+        deleteBlobs(keys);
+    }
+
+    private void deleteBlobs(List<String> keys) {
+        for (String key : keys) {
+            try {
+                blobStore.delete(key);
+            } catch (IOException e) {
+                log.error("Failed to delete upload part: {}", key, e);
+            }
+        }
+    }
+
+    private boolean isLeased(UploadSession session) {
+        return session.getLeaseUntil() != null && session.getLeaseUntil().after(new Date());
+    }
+
+    private MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+
+    // id 는 UUID 형식만 허용
+    private void checkId(String id) {
+        try {
+            if (id != null && UUID.fromString(id).toString().equals(id)) {
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 처리
+        }
+        throw new UploadNotFoundException("Upload not found with ID: " + id);
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StagedFile implements project.service.global.FileData {
+        private String fileName;
+        private byte[] fileContent;
+    }
+}
@@ -0,0 +1,246 @@
+package project.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import project.service.global.cache.HotContentCache;
+import project.service.global.cache.HotContentCache.HotContent;
+import project.service.global.exception.ImageNotFoundException;
+import project.service.global.storage.BlobMetadata;
+import project.service.global.storage.BlobStore;
+import project.service.global.storage.StoredFile;
+
+/**
+ * 썸네일, 업무 이미지 같은 정적 파일 전송
+ * 파일 이름이 UUID 또는 내용 hash 라 내용이 바뀌지 않으므로 immutable 로 오래 캐시하고, ETag / Last-Modified 로 304 를 응답한다.
+ * 이미지 재인코딩(ImageBackfillService)은 같은 이름으로 내용을 교체하므로 ETag 는 이름이 아니라 크기와 수정 시각으로 만든다.
+ * Range 는 단일 구간만 206 으로 응답하고 여러 구간 요청은 전체 파일로 응답한다.
+ * 커널이 파일을 소켓으로 바로 보내는(zero-copy) 경로는 Tomcat sendfile 뿐이다. 구간이 sendfile-min-bytes(기본 48KB) 이상이고
+ * 커넥터가 sendfile 을 지원할 때만 쓰고, 나머지는 응답 스트림으로 복사한다 (transferTo 도 소켓 채널이 아니면 버퍼 복사).
+ * 작은 썸네일은 대부분 HotContentCache 에서 보내므로 sendfile 기준을 낮추지 않는다.
+ * 이미지 저장소가 로컬이 아니면 (S3) 요청한 구간만 읽어 그대로 복사한다.
+ * 썸네일은 자주 요청되는 것을 HotContentCache 의 메모리 버퍼에서 바로 보낸다.
+ */
+@Service
+@Slf4j
+public class StaticContentService {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final BlobStore blobStore;
+    private final HotContentCache hotContentCache;
+    private final CacheControl cacheControl;
+    private final long sendfileMinBytes;
+
+    public StaticContentService(BlobStore blobStore, HotContentCache hotContentCache, @Value("${static-content.max-age-days:365}") long maxAgeDays,
+            @Value("${static-content.sendfile-min-bytes:49152}") long sendfileMinBytes) {
+        this.blobStore = blobStore;
+        this.hotContentCache = hotContentCache;
+        this.cacheControl = CacheControl.maxAge(Duration.ofDays(maxAgeDays)).cachePublic().immutable();
+        this.sendfileMinBytes = sendfileMinBytes;
+    }
+
+    public void serve(Path file, String disposition, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(file, disposition, true, request, response);
+    }
+
+    /**
+     * @param disposition "inline" 또는 "attachment"
+     * @param immutable false 이면 같은 URL 의 응답이 바뀔 수 있으므로 매번 ETag 로 재검증하게 한다.
+     */
+    public void serve(Path file, String disposition, boolean immutable, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new ImageNotFoundException(file.getFileName().toString());
+        }
+        if (!attributes.isRegularFile()) {
+            throw new ImageNotFoundException(file.getFileName().toString());
+        }
+        long[] range = prepare(file.getFileName().toString(), attributes.size(), attributes.lastModifiedTime().toMillis(),
+                null, disposition, immutable, request, response);
+        if (range == null) {
+            return;
+        }
+        long start = range[0];
+        long end = range[1];
+        long count = end - start + 1;
+        if (count >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        // 응답 스트림을 감싼 채널이라 JDK 가 버퍼로 읽어 쓴다 (zero-copy 아님)
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /**
+     * 이미지 저장소 파일은 로컬이면 경로로 보내고, 아니면 저장소에서 요청한 구간만 읽어 보낸다.
+     * 재인코딩으로 같은 키의 내용이 바뀔 수 있으므로 ETag 는 크기와 수정 시각으로 만든다 (If-Range 로 이전 내용과 섞이지 않게).
+     */
+    public void serve(StoredFile file, String disposition, boolean immutable, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!file.isBlob()) {
+            serve(file.getPath(), disposition, immutable, request, response);
+            return;
+        }
+        Path local = blobStore.localPath(file.getKey());
+        if (local != null) {
+            serve(local, disposition, immutable, request, response);
+            return;
+        }
+        BlobMetadata metadata = blobStore.stat(file.getKey());
+        if (metadata == null) {
+            throw new ImageNotFoundException(file.getKey());
+        }
+        long[] range = prepare(file.getKey(), metadata.getSize(), metadata.getLastModified(), null,
+                disposition, immutable, request, response);
+        if (range == null) {
+            return;
+        }
+        try (InputStream input = blobStore.open(file.getKey(), range[0], range[1])) {
+            StreamUtils.copy(input, response.getOutputStream());
+        }
+    }
+
+    /**
+     * 썸네일 전송 (캐시에 있으면 파일을 열지 않고 메모리 버퍼에서 보냄)
+     */
+    public void serveThumbnail(StoredFile file, boolean immutable, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        HotContent content = hotContentCache.get(file);
+        if (content == null) {
+            serve(file, "inline", immutable, request, response);
+            return;
+        }
+        long[] range = prepare(content.getFileName(), content.getLength(), content.getLastModified(), content.getEtag(),
+                "inline", immutable, request, response);
+        if (range == null) {
+            return;
+        }
+        ByteBuffer buffer = content.getContent();
+        buffer.position((int) range[0]).limit((int) range[1] + 1);
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * 캐시, 조건부 요청, Range 헤더 처리
+     * @param etag null 이면 크기와 수정 시각으로 만든다.
+     * @return 보낼 구간 {start, end} (본문을 보낼 필요가 없으면 null)
+     */
+    private long[] prepare(String fileName, long length, long lastModified, String etag, String disposition,
+            boolean immutable, HttpServletRequest request, HttpServletResponse response) {
+        if (etag == null) {
+            etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (immutable ? cacheControl : CacheControl.noCache()).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // ETag, Last-Modified 헤더를 설정하고 조건부 요청이 일치하면 304 로 끝낸다.
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition + "; filename=\"" + fileName + "\"");
+
+        long start = 0L;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                // HttpRange 는 시작 위치가 파일 크기를 넘어도 예외를 던지지 않는다
+                if (start >= length || start > end) {
+                    throw new IllegalArgumentException("Range starts beyond " + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return null;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count <= 0 || "HEAD".equals(request.getMethod())) {
+            return null;
+        }
+        return new long[] { start, end };
+    }
+
+    // If-Range 가 현재 파일과 다르면 Range 를 무시하고 전체 파일을 보낸다.
+    private HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(etag)) {
+                    return null;
+                }
+            } else {
+                try {
+                    if (request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 != lastModified / 1000) {
+                        return null;
+                    }
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid Range header: {}", rangeHeader);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package project.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.GetProjectScheduleResponseDto;
+import project.service.entity.Task;
+import project.service.entity.TaskDependency;
+import project.service.global.SuccessResponse;
+import project.service.global.exception.DependencyCycleException;
+import project.service.global.util.AfterCommit;
+import project.service.global.util.DependencyGraph;
+import project.service.kafka.event.TaskDependencyAddEvent;
+import project.service.kafka.event.TaskDependencyDeleteEvent;
+import project.service.repository.TaskDependencyRepository;
+import project.service.repository.TaskRepository;
+import project.service.repository.projection.DependencyEdgeView;
+import project.service.repository.projection.TaskScheduleView;
+
+/**
+ * 업무 선후 관계 관리와 임계 경로 일정 계산
+ * 선후 관계 이벤트는 projectId 를 key 로 발행되므로 같은 프로젝트의 추가 요청은 순서대로 처리된다.
+ * 계산한 일정은 선후 관계나 업무 날짜가 바뀔 때까지 프로젝트 단위로 캐시한다.
+ */
+@Service
+@Slf4j
+public class TaskDependencyService {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final Cache<Long, GetProjectScheduleResponseDto> scheduleCache;
+
+    public TaskDependencyService(TaskRepository taskRepository, TaskDependencyRepository taskDependencyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.project-schedule.maximum-size:1000}") long maximumSize,
+            @Value("${cache.project-schedule.expire-after-write-minutes:60}") long expireAfterWriteMinutes) {
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.scheduleCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, scheduleCache, "projectSchedule");
+    }
+
+    /**
+     * blockedByTask 가 끝나야 task 를 시작할 수 있도록 선후 관계 추가
+     * 기존 간선만으로 task 에서 blockedByTask 에 도달할 수 있으면 순환이므로 거부한다.
+     */
+    @Transactional(rollbackFor = { Exception.class })
+    public void addDependency(TaskDependencyAddEvent event) {
+        Long projectId = event.getProjectId();
+        Long taskId = event.getTaskId();
+        Long blockedByTaskId = event.getBlockedByTaskId();
+        checkSelf(taskId, blockedByTaskId);
+        Task task = findTaskInProject(taskId, projectId);
+        Task blockedByTask = findTaskInProject(blockedByTaskId, projectId);
+        if (taskDependencyRepository.existsByTaskIdAndBlockedByTaskId(taskId, blockedByTaskId)) {
+            return;
+        }
+        checkCycle(projectId, taskId, blockedByTaskId);
+
+        TaskDependency dependency = TaskDependency.builder()
+                .task(task)
+                .blockedByTask(blockedByTask)
+                .projectId(projectId)
+                .build();
+        taskDependencyRepository.save(dependency);
+        evictScheduleAfterCommit(projectId);
+    }
+
+    /**
+     * 선후 관계를 추가할 수 있는지 미리 확인 (user_service 가 이벤트 발행 전에 호출해 순환이면 T001 로 바로 응답)
+     * 동시에 들어온 요청끼리 만드는 순환은 이벤트 처리 시 addDependency 에서 다시 거부된다.
+     */
+    @Transactional(readOnly = true)
+    public SuccessResponse validateDependency(Long projectId, Long taskId, Long blockedByTaskId) {
+        checkSelf(taskId, blockedByTaskId);
+        findTaskInProject(taskId, projectId);
+        findTaskInProject(blockedByTaskId, projectId);
+        if (!taskDependencyRepository.existsByTaskIdAndBlockedByTaskId(taskId, blockedByTaskId)) {
+            checkCycle(projectId, taskId, blockedByTaskId);
+        }
+        return SuccessResponse.builder().message("업무 선후 관계 추가 가능").build();
+    }
+
+    @Transactional(rollbackFor = { Exception.class })
+    public void removeDependency(TaskDependencyDeleteEvent event) {
+        int deleted = taskDependencyRepository.deleteEdge(event.getTaskId(), event.getBlockedByTaskId());
+        if (deleted > 0) {
+            evictScheduleAfterCommit(event.getProjectId());
+        }
+    }
+
+    public SuccessResponse getSchedule(Long projectId) {
+        GetProjectScheduleResponseDto result = scheduleCache.get(projectId, this::computeSchedule);
+        return SuccessResponse.builder().data(result).build();
+    }
+
+    public void evictScheduleAfterCommit(long projectId) {
+        AfterCommit.run(() -> scheduleCache.invalidate(projectId));
+    }
+
+    private void checkSelf(Long taskId, Long blockedByTaskId) {
+        if (taskId.equals(blockedByTaskId)) {
+            throw new DependencyCycleException("A task cannot be blocked by itself: " + taskId);
+        }
+    }
+
+    // 기존 간선만으로 task 에서 blockedByTask 에 도달할 수 있으면 순환
+    private void checkCycle(Long projectId, Long taskId, Long blockedByTaskId) {
+        DependencyGraph graph = new DependencyGraph();
+        for (DependencyEdgeView edge : taskDependencyRepository.findEdgesByProjectId(projectId)) {
+            graph.addNode(edge.getBlockedByTaskId(), null, 1);
+            graph.addNode(edge.getTaskId(), null, 1);
+            graph.addEdge(edge.getBlockedByTaskId(), edge.getTaskId());
+        }
+        if (graph.wouldCreateCycle(blockedByTaskId, taskId)) {
+            throw new DependencyCycleException("Dependency " + blockedByTaskId + " -> " + taskId + " would create a cycle");
+        }
+    }
+
+    private Task findTaskInProject(Long taskId, Long projectId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + taskId));
+        if (task.getProject() == null || task.getProject().getId() != projectId) {
+            throw new IllegalArgumentException("Task " + taskId + " does not belong to project " + projectId);
+        }
+        return task;
+    }
+
+    private GetProjectScheduleResponseDto computeSchedule(Long projectId) {
+        List<TaskScheduleView> tasks = taskRepository.findSchedulesByProjectId(projectId);
+        List<DependencyEdgeView> edges = taskDependencyRepository.findEdgesByProjectId(projectId);
+
+        DependencyGraph graph = new DependencyGraph();
+        for (TaskScheduleView task : tasks) {
+            Long start = toEpochDay(task.getStartDate());
+            Long end = toEpochDay(task.getEndDate());
+            long duration = (start == null || end == null) ? 1 : end - start + 1;
+            graph.addNode(task.getTaskId(), start, duration);
+        }
+        Map<Long, List<Long>> blockedBy = new HashMap<>();
+        for (DependencyEdgeView edge : edges) {
+            graph.addEdge(edge.getBlockedByTaskId(), edge.getTaskId());
+            blockedBy.computeIfAbsent(edge.getTaskId(), id -> new ArrayList<>()).add(edge.getBlockedByTaskId());
+        }
+
+        DependencyGraph.Schedule schedule = graph.schedule();
+        List<GetProjectScheduleResponseDto.TaskSchedule> taskSchedules = new ArrayList<>(tasks.size());
+        for (TaskScheduleView task : tasks) {
+            DependencyGraph.Slot slot = schedule.getSlot(task.getTaskId());
+            taskSchedules.add(GetProjectScheduleResponseDto.TaskSchedule.builder()
+                    .taskId(task.getTaskId())
+                    .title(task.getTitle())
+                    .blockedByTaskIds(blockedBy.getOrDefault(task.getTaskId(), List.of()))
+                    .earliestStart(LocalDate.ofEpochDay(slot.getEarliestStart()))
+                    .earliestFinish(LocalDate.ofEpochDay(slot.getEarliestFinish() - 1))
+                    .latestStart(LocalDate.ofEpochDay(slot.getLatestStart()))
+                    .latestFinish(LocalDate.ofEpochDay(slot.getLatestFinish() - 1))
+                    .slack(slot.getSlack())
+                    .critical(slot.isCritical())
+                    .build());
+        }
+        return GetProjectScheduleResponseDto.builder()
+                .projectId(projectId)
+                .startDate(tasks.isEmpty() ? null : LocalDate.ofEpochDay(schedule.getStart()))
+                .endDate(tasks.isEmpty() ? null : LocalDate.ofEpochDay(schedule.getFinish() - 1))
+                .criticalPath(schedule.getCriticalPath())
+                .tasks(taskSchedules)
+                .build();
+    }
+
+    // java.sql.Date 는 toInstant 를 지원하지 않으므로 epoch millis 로 변환
+    private Long toEpochDay(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZONE).toLocalDate().toEpochDay();
+    }
+}
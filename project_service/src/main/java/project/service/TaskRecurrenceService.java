@@ -0,0 +1,283 @@
+package project.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import project.service.entity.Task;
+import project.service.entity.TaskRecurrence;
+import project.service.global.cache.ProjectSummaryCache;
+import project.service.kafka.event.TaskRecurrenceCreateEvent;
+import project.service.kafka.event.TaskRecurrenceDeleteEvent;
+import project.service.repository.ProjectRepository;
+import project.service.repository.TaskRecurrenceRepository;
+import project.service.repository.TaskRepository;
+
+/**
+ * 반복 업무 생성
+ * 반복 규칙마다 앞으로 window 일 안에 시작하는 회차만 미리 만들어 두고, 스케줄러가 매일 그 다음 구간을 채운다.
+ * IDENTITY 키는 Hibernate 배치 insert 가 되지 않으므로 JdbcTemplate 배치로 insert 한다.
+ */
+@Service
+@Slf4j
+public class TaskRecurrenceService {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final String INSERT_OCCURRENCE_SQL = "INSERT INTO task "
+            + "(title, description, start_date, end_date, thumbnail, thumbnail_type, status, depth, "
+            + "child_count, child_complete_count, project_id, parent_task_id, recurrence_id, recurrence_index, overdue_counted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, 0, 0, ?, ?, ?, ?, 0)";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRecurrenceRepository taskRecurrenceRepository;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final TaskDependencyService taskDependencyService;
+    private final KanbanService kanbanService;
+    private final ImageBlobService imageBlobService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int windowDays;
+    private final int batchSize;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public TaskRecurrenceService(TaskRepository taskRepository, ProjectRepository projectRepository,
+            TaskRecurrenceRepository taskRecurrenceRepository, ProjectSummaryCache projectSummaryCache,
+            TaskDependencyService taskDependencyService, KanbanService kanbanService, ImageBlobService imageBlobService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${recurrence.window-days:28}") int windowDays,
+            @Value("${recurrence.batch-size:500}") int batchSize,
+            @Value("${recurrence.chunk-size:200}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.taskRecurrenceRepository = taskRecurrenceRepository;
+        this.projectSummaryCache = projectSummaryCache;
+        this.taskDependencyService = taskDependencyService;
+        this.kanbanService = kanbanService;
+        this.imageBlobService = imageBlobService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.windowDays = windowDays;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 업무에 반복 규칙 추가 후 window 안의 회차를 바로 생성
+     */
+    @Transactional(rollbackFor = { Exception.class })
+    public void createRecurrence(TaskRecurrenceCreateEvent event) {
+        Task task = taskRepository.findById(event.getTaskId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + event.getTaskId()));
+        if (task.getProject().getId() != event.getProjectId()) {
+            throw new IllegalArgumentException("Task " + task.getId() + " does not belong to project " + event.getProjectId());
+        }
+        if (task.getRecurrenceId() != null) {
+            throw new IllegalArgumentException("A generated occurrence cannot have its own recurrence.");
+        }
+        if (task.getStartDate() == null || task.getEndDate() == null) {
+            throw new IllegalArgumentException("Recurring task requires start and end dates.");
+        }
+        if (event.getFrequency() == null || event.getInterval() < 1) {
+            throw new IllegalArgumentException("Invalid recurrence frequency or interval.");
+        }
+        if (taskRecurrenceRepository.findByTaskId(task.getId()).isPresent()) {
+            throw new IllegalArgumentException("Task " + task.getId() + " already has a recurrence.");
+        }
+
+        Date anchor = new Date(task.getStartDate().getTime());
+        // 지난 회차는 만들지 않고 오늘 이후에 시작하는 회차부터 생성
+        long firstIndex = event.getFrequency().firstIndexFrom(toLocalDateTime(anchor), event.getInterval(),
+                LocalDate.now(ZONE).atStartOfDay());
+        TaskRecurrence recurrence = TaskRecurrence.builder()
+                .task(task)
+                .projectId(event.getProjectId())
+                .frequency(event.getFrequency())
+                .interval(event.getInterval())
+                .anchorDate(anchor)
+                .durationMillis(Math.max(0L, task.getEndDate().getTime() - anchor.getTime()))
+                .nextIndex(firstIndex)
+                .nextStartDate(toDate(event.getFrequency().occurrence(toLocalDateTime(anchor), event.getInterval(), firstIndex)))
+                .untilDate(event.getUntilDate())
+                .build();
+        taskRecurrenceRepository.save(recurrence);
+        materialize(recurrence, horizon());
+    }
+
+    /**
+     * 반복 규칙 삭제 (이미 생성된 회차는 일반 업무로 남는다)
+     */
+    @Transactional(rollbackFor = { Exception.class })
+    public void deleteRecurrence(TaskRecurrenceDeleteEvent event) {
+        taskRecurrenceRepository.findByTaskId(event.getTaskId())
+                .filter(recurrence -> recurrence.getProjectId().equals(event.getProjectId()))
+                .ifPresent(taskRecurrenceRepository::delete);
+    }
+
+    @Scheduled(cron = "${recurrence.cron:0 30 3 * * *}")
+    public void scheduledMaterialize() {
+        try {
+            materializeDue();
+        } catch (IllegalStateException e) {
+            log.warn(e.getMessage());
+        }
+    }
+
+    /**
+     * 다음 회차가 window 안에 들어온 반복 규칙을 찾아 회차를 생성
+     * 규칙마다 별도 트랜잭션으로 처리하여 한 규칙의 실패가 다른 규칙에 영향을 주지 않는다.
+     * @return 생성한 업무 수
+     */
+    public int materializeDue() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("반복 업무 생성 작업이 이미 실행 중입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Date horizon = horizon();
+            int created = 0;
+            int failed = 0;
+            long afterId = 0L;
+            while (true) {
+                List<Long> recurrenceIds = taskRecurrenceRepository.findDueIdsAfter(afterId, horizon, PageRequest.of(0, chunkSize));
+                if (recurrenceIds.isEmpty()) {
+                    break;
+                }
+                for (Long recurrenceId : recurrenceIds) {
+                    try {
+                        Integer count = transactionTemplate.execute(status -> taskRecurrenceRepository.findById(recurrenceId)
+                                .map(recurrence -> materialize(recurrence, horizon))
+                                .orElse(0));
+                        created += count == null ? 0 : count;
+                    } catch (DataIntegrityViolationException e) {
+                        // 다른 인스턴스가 같은 회차를 먼저 생성한 경우
+                        failed++;
+                        log.warn("Recurrence {} skipped: {}", recurrenceId, e.getMessage());
+                    }
+                }
+                afterId = recurrenceIds.get(recurrenceIds.size() - 1);
+            }
+            log.info("Recurring tasks materialized: created={}, failed={}, elapsed={}ms",
+                    created, failed, System.currentTimeMillis() - startedAt);
+            return created;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * horizon 까지의 회차를 배치 insert 하고 상위 업무/프로젝트 childCount 를 한 번에 보정
+     */
+    private int materialize(TaskRecurrence recurrence, Date horizon) {
+        Task template = recurrence.getTask();
+        LocalDateTime anchor = toLocalDateTime(recurrence.getAnchorDate());
+        Date until = recurrence.getUntilDate();
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        long index = recurrence.getNextIndex();
+        Date start = recurrence.getNextStartDate();
+        while (!start.after(horizon) && (until == null || !start.after(until))) {
+            occurrences.add(new Occurrence(index, new Timestamp(start.getTime()),
+                    new Timestamp(start.getTime() + recurrence.getDurationMillis())));
+            index++;
+            start = toDate(recurrence.getFrequency().occurrence(anchor, recurrence.getInterval(), index));
+        }
+        if (occurrences.isEmpty()) {
+            return 0;
+        }
+
+        Long projectId = recurrence.getProjectId();
+        Task parentTask = template.getParentTask();
+        jdbcTemplate.batchUpdate(INSERT_OCCURRENCE_SQL, occurrences, batchSize,
+                (PreparedStatement ps, Occurrence occurrence) -> {
+                    ps.setString(1, template.getTitle());
+                    setNullableString(ps, 2, template.getDescription(), Types.CLOB);
+                    ps.setTimestamp(3, occurrence.startDate);
+                    ps.setTimestamp(4, occurrence.endDate);
+                    setNullableString(ps, 5, template.getThumbnail(), Types.VARCHAR);
+                    ps.setString(6, String.valueOf(template.getThumbnailType()));
+                    ps.setInt(7, template.getDepth());
+                    ps.setLong(8, projectId);
+                    if (parentTask == null) {
+                        ps.setNull(9, Types.BIGINT);
+                    } else {
+                        ps.setLong(9, parentTask.getId());
+                    }
+                    ps.setLong(10, recurrence.getId());
+                    ps.setLong(11, occurrence.index);
+                });
+
+        // 새 회차는 모두 미완료(0) 상태이므로 childCount 만 증가
+        if (parentTask == null) {
+            projectRepository.addChildCount(projectId, occurrences.size());
+        } else {
+            taskRepository.addChildCount(parentTask.getId(), occurrences.size());
+        }
+        kanbanService.addCount(projectId, 0, occurrences.size());
+        Occurrence last = occurrences.get(occurrences.size() - 1);
+        projectRepository.extendDateRange(projectId, occurrences.get(0).startDate, last.endDate);
+        // 회차는 템플릿의 썸네일 파일을 같이 참조
+        if (template.getThumbnailType() == 'M') {
+            imageBlobService.retain(template.getThumbnail(), occurrences.size());
+        }
+        recurrence.setNextIndex(index);
+        recurrence.setNextStartDate(start);
+        projectSummaryCache.evictAfterCommit(projectId);
+        taskDependencyService.evictScheduleAfterCommit(projectId);
+        return occurrences.size();
+    }
+
+    private void setNullableString(PreparedStatement ps, int index, String value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    private Date horizon() {
+        return toDate(LocalDateTime.now(ZONE).plusDays(windowDays));
+    }
+
+    // java.sql.Timestamp 로 읽혀도 동작하도록 epoch millis 로 변환
+    private LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZONE);
+    }
+
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZONE).toInstant());
+    }
+
+    private static class Occurrence {
+        private final long index;
+        private final Timestamp startDate;
+        private final Timestamp endDate;
+
+        Occurrence(long index, Timestamp startDate, Timestamp endDate) {
+            this.index = index;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+    }
+}
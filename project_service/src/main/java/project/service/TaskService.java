@@ -2,19 +2,18 @@ package project.service;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,12 +34,23 @@ import project.service.entity.TaskImage;
 import project.service.entity.UserTask;
 import project.service.entity.UserTaskId;
 import project.service.global.SuccessResponse;
+import project.service.global.cache.ProjectSummaryCache;
+import project.service.global.exception.ImageNotFoundException;
+import project.service.global.storage.StoredFile;
 import project.service.global.util.FileManagement;
+import project.service.global.util.InClause;
 import project.service.kafka.event.*;
 import project.service.repository.ProjectRepository;
+import project.service.repository.TaskDependencyRepository;
 import project.service.repository.TaskImageRepository;
+import project.service.repository.TaskRecurrenceRepository;
 import project.service.repository.TaskRepository;
 import project.service.repository.UserTaskRepository;
+import project.service.repository.projection.AssignmentView;
+import project.service.repository.projection.StatusCountView;
+import project.service.repository.projection.TaskStatusProjection;
+import project.service.security.ImageUrlSigner;
+import project.service.security.SignedImageFilter;
 
 @Service
 @RequiredArgsConstructor
@@ -51,25 +61,37 @@ public class TaskService {
     private final UserTaskRepository userTaskRepository;
     private final FileStorageService fileStorageService;
     private final TaskImageRepository taskImageRepository;
+    private final ImageBlobService imageBlobService;
+    private final ImageDerivativeService imageDerivativeService;
     private final FileManagement fileManagement;
+    private final ProjectSummaryCache projectSummaryCache;
+    private final TaskDependencyService taskDependencyService;
+    private final WorkloadService workloadService;
+    private final KanbanService kanbanService;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRecurrenceRepository taskRecurrenceRepository;
+    private final ResumableUploadService resumableUploadService;
+    private final ImageUrlSigner imageUrlSigner;
     
-    @Transactional(rollbackFor = { Exception.class })
-    public ResponseEntity<Resource> getImage(String filename) {
-        try {
-            // 파일 경로에서 특수 문자 제거
-            String cleanedFilename = filename.replaceAll("[^\\x20-\\x7E]", "");
-            Path filePath = Paths.get(cleanedFilename).normalize();
-            log.info("getImage: filePath={}", filePath);
-            if (!Files.exists(filePath)) {
-                throw new IOException("File not found: " + cleanedFilename);
-            }
-            Resource resource = new UrlResource(filePath.toUri());
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-        } catch (Exception e) {
-            throw new RuntimeException(e.getMessage());
+    /**
+     * @param size 원하는 긴 변 픽셀 수 (없으면 원본)
+     */
+    public StoredFile getTaskThumbnail(String thumbnail, Integer size) {
+        if (imageBlobService.isBlob(thumbnail)) {
+            return imageDerivativeService.resolve(thumbnail, size);
         }
+        return StoredFile.local(fileManagement.getThumbnailPath(thumbnail, 'T'));
+    }
+    public StoredFile getImage(String filename) {
+        // 파일 경로에서 특수 문자 제거 후 업로드 디렉토리 안의 파일로만 해석
+        String cleanedFilename = filename.replaceAll("[^\\x20-\\x7E]", "");
+        if (Paths.get(cleanedFilename).getFileName() == null) {
+            throw new ImageNotFoundException(cleanedFilename);
+        }
+        if (imageBlobService.isBlob(cleanedFilename)) {
+            return imageBlobService.toStoredFile(cleanedFilename);
+        }
+        return StoredFile.local(Paths.get(fileStorageService.resolveDescriptionPath(cleanedFilename)));
     }
     @Transactional(rollbackFor = { Exception.class })
     public SuccessResponse getTask(Long taskId) {
@@ -82,7 +104,8 @@ public class TaskService {
             .map(taskImage -> {
                 String filePath = taskImage.getImagePath();
                 File file = new File(filePath);
-                if (file.exists()) {
+                // 이미지 저장소 파일은 로컬에 없을 수 있으므로 (S3) 확인하지 않는다.
+                if (imageBlobService.isBlob(filePath) || file.exists()) {
                     return file;
                 } else {
                     log.warn("File not found: " + filePath);
@@ -92,12 +115,26 @@ public class TaskService {
             .filter(Objects::nonNull) // null이 아닌 것만 필터링
             .collect(Collectors.toList());
 
+        List<GetTaskResponseDto.Image> images = taskImages.stream()
+            .map(taskImage -> {
+                String fileName = Paths.get(taskImage.getImagePath()).getFileName().toString();
+                return new GetTaskResponseDto.Image(taskImage.getId(), fileName, signedImageUrl(fileName));
+            })
+            .collect(Collectors.toList());
+
         //path와 filename을 분리하여 response 할 것
         // GetTaskResponseDto 객체 생성
-        GetTaskResponseDto result = GetTaskResponseDto.fromEntity(task, imageFiles);
+        GetTaskResponseDto result = GetTaskResponseDto.fromEntity(task, imageFiles, images, signedThumbnailUrl(task));
 
         return SuccessResponse.builder().data(result).build();
     }
+    private String signedImageUrl(String fileName) {
+        return SignedImageFilter.TASK_IMAGE_PATH + "?filename=" + URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                + "&" + imageUrlSigner.query(ImageUrlSigner.TASK_IMAGE, fileName);
+    }
+    private String signedThumbnailUrl(Task task) {
+        return imageUrlSigner.taskThumbnailUrl(task.getThumbnail(), task.getThumbnailType());
+    }
     private String removeUUIDFromFileName(String filePath) {
         String fileName = Paths.get(filePath).getFileName().toString();
         int underscoreIndex = fileName.indexOf("_");
@@ -108,26 +145,153 @@ public class TaskService {
     public SuccessResponse getOnlyChildrenTasks(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + taskId));
-        GetTasksResponseDto result = GetTasksResponseDto.fromEntityOnlyChildrenTasks(task);
+        GetTasksResponseDto result = GetTasksResponseDto.fromEntityOnlyChildrenTasks(task, this::signedThumbnailUrl);
         return SuccessResponse.builder().data(result).build();
     }
     @Transactional(rollbackFor = { Exception.class })
     public void addUserToTask(UserAddToTaskEvent userAddToTaskEvent) {
-        Optional<Task> task = taskRepository.findById(userAddToTaskEvent.getTaskId());
+        // 기한 초과 sweep 과 겹치지 않도록 업무 행을 잠근 뒤 overdue_counted 기준으로 집계
+        Optional<Task> task = taskRepository.findByIdForUpdate(userAddToTaskEvent.getTaskId());
         //task id 존재하지 않는경우 예외처리 해야함 (추가)
         List<Long> userIds = userAddToTaskEvent.getUserIds();
+        WorkloadService.Deltas workloadDeltas = workloadService.newDeltas();
         userIds.stream().forEach(userId -> {
             UserTaskId userTaskId = UserTaskId.builder()
                 .userId(userId)
                 .taskId(task.get().getId())
                 .build();
+            // 이미 배정된 담당자는 집계에 다시 더하지 않음
+            if (userTaskRepository.existsById(userTaskId)) {
+                return;
+            }
             UserTask userTask = UserTask.builder()
                 .task(task.get())
                 .id(userTaskId).build();
             userTaskRepository.save(userTask);
+            workloadDeltas.add(userId, task.get().getProject().getId(), task.get().getStatus(), task.get().isOverdueCounted(), 1);
         });
+        workloadService.apply(workloadDeltas);
     }
 
+    /**
+     * 업무를 다른 상위 업무(또는 다른 프로젝트의 최상위)로 이동
+     * 하위 업무의 depth/project 는 UPDATE 한 번으로 옮기고, 카운터는 직속 하위 기준이므로
+     * 이전/새 상위(업무 또는 프로젝트) 한 곳씩만 보정한다.
+     * @return 이동 결과 이벤트 (변경이 없으면 null)
+     */
+    @Transactional(rollbackFor = { Exception.class })
+    public TaskMovedEvent moveTask(TaskMoveEvent event) {
+        Task task = taskRepository.findById(event.getTaskId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + event.getTaskId()));
+        Project fromProject = task.getProject();
+        if (fromProject.getId() != event.getProjectId()) {
+            throw new IllegalArgumentException("Task " + task.getId() + " does not belong to project " + event.getProjectId());
+        }
+        Long targetProjectId = event.getTargetProjectId() == null ? event.getProjectId() : event.getTargetProjectId();
+        Project toProject = projectRepository.findById(targetProjectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + targetProjectId));
+
+        Task fromParent = task.getParentTask();
+        Task toParent = null;
+        if (event.getTargetParentTaskId() != null) {
+            toParent = taskRepository.findById(event.getTargetParentTaskId())
+                    .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + event.getTargetParentTaskId()));
+            if (toParent.getProject().getId() != toProject.getId()) {
+                throw new IllegalArgumentException("Parent task " + toParent.getId() + " does not belong to project " + targetProjectId);
+            }
+            // 자기 자신이나 자신의 하위 업무 밑으로는 이동할 수 없음
+            for (Task ancestor = toParent; ancestor != null; ancestor = ancestor.getParentTask()) {
+                if (ancestor.getId() == task.getId()) {
+                    throw new IllegalArgumentException("A task cannot be moved under itself or its subtask.");
+                }
+            }
+        }
+        Long fromParentId = fromParent == null ? null : fromParent.getId();
+        Long toParentId = toParent == null ? null : toParent.getId();
+        if (fromProject.getId() == toProject.getId() && Objects.equals(fromParentId, toParentId)) {
+            return null;
+        }
+
+        int newDepth = toParent == null ? 0 : toParent.getDepth() + 1;
+        Integer maxDepth = taskRepository.findMaxDepthInSubtree(task.getId());
+        int height = (maxDepth == null ? task.getDepth() : maxDepth) - task.getDepth();
+        if (newDepth + height > 2) {
+            throw new IllegalArgumentException("Task depth cannot exceed 2.");
+        }
+
+        boolean projectChanged = fromProject.getId() != toProject.getId();
+        boolean datesExtended = false;
+        if (task.getStartDate() != null && (toProject.getStartDate() == null || task.getStartDate().before(toProject.getStartDate()))) {
+            toProject.setStartDate(task.getStartDate());
+            datesExtended = true;
+        }
+        if (task.getEndDate() != null && (toProject.getEndDate() == null || task.getEndDate().after(toProject.getEndDate()))) {
+            toProject.setEndDate(task.getEndDate());
+            datesExtended = true;
+        }
+        // 아래 벌크 UPDATE 가 영속성 컨텍스트를 비우므로 먼저 반영
+        if (datesExtended) {
+            projectRepository.saveAndFlush(toProject);
+        }
+
+        // 이전 상위에서 빼고 새 상위에 더하기
+        int done = task.getStatus() == 2 ? 1 : 0;
+        if (fromParent == null) {
+            projectRepository.addChildCount(fromProject.getId(), -1);
+            projectRepository.addChildCompleteCount(fromProject.getId(), -done);
+        } else {
+            taskRepository.addChildCount(fromParent.getId(), -1);
+            taskRepository.addChildCompleteCount(fromParent.getId(), -done);
+        }
+        if (toParent == null) {
+            projectRepository.addChildCount(toProject.getId(), 1);
+            projectRepository.addChildCompleteCount(toProject.getId(), done);
+        } else {
+            taskRepository.addChildCount(toParent.getId(), 1);
+            taskRepository.addChildCompleteCount(toParent.getId(), done);
+        }
+
+        List<Long> subtreeIds = taskRepository.findSubtreeIds(task.getId());
+        if (projectChanged) {
+            // 상태별 업무 수와 담당자 집계를 프로젝트 간에 옮기기
+            List<StatusCountView> statusCounts = taskRepository.countSubtreeByStatus(task.getId());
+            kanbanService.addCounts(statusCounts, fromProject.getId(), -1);
+            kanbanService.addCounts(statusCounts, toProject.getId(), 1);
+            // 기한 초과 sweep 이 이전 프로젝트에 더하지 않도록 하위 업무 행을 먼저 잠근다
+            for (List<Long> chunk : InClause.partition(subtreeIds)) {
+                taskRepository.lockByIdIn(chunk);
+            }
+            WorkloadService.Deltas workloadDeltas = workloadService.newDeltas();
+            for (AssignmentView assignment : userTaskRepository.findAssignmentsInSubtree(task.getId())) {
+                workloadDeltas.add(assignment.getUserId(), fromProject.getId(), assignment.getStatus(), assignment.getOverdueCounted(), -1)
+                        .add(assignment.getUserId(), toProject.getId(), assignment.getStatus(), assignment.getOverdueCounted(), 1);
+            }
+            workloadService.apply(workloadDeltas);
+            for (List<Long> chunk : InClause.partition(subtreeIds)) {
+                taskRecurrenceRepository.updateProjectIdByTaskIdIn(chunk, toProject.getId());
+            }
+        }
+        int depthDelta = newDepth - task.getDepth();
+        taskRepository.updateParentTask(task.getId(), toParent);
+        for (List<Long> chunk : InClause.partition(subtreeIds)) {
+            taskRepository.moveSubtree(chunk, depthDelta, toProject);
+        }
+        if (projectChanged) {
+            // 하위 업무끼리의 선후 관계는 함께 옮기고, 이전 프로젝트에 남은 업무와의 관계만 삭제 (업무 이동 후 실행)
+            for (List<Long> chunk : InClause.partition(subtreeIds)) {
+                taskDependencyRepository.deleteCrossProject(chunk, toProject.getId());
+                taskDependencyRepository.updateProjectIdByTaskIdIn(chunk, toProject.getId());
+            }
+        }
+
+        projectSummaryCache.evictAfterCommit(fromProject.getId());
+        taskDependencyService.evictScheduleAfterCommit(fromProject.getId());
+        if (projectChanged) {
+            projectSummaryCache.evictAfterCommit(toProject.getId());
+            taskDependencyService.evictScheduleAfterCommit(toProject.getId());
+        }
+        return new TaskMovedEvent(task.getId(), fromProject.getId(), fromParentId, toProject.getId(), toParentId, subtreeIds);
+    }
     @Transactional(rollbackFor = { Exception.class })
     public void deleteTask(TaskDeleteEvent event) {
         Optional<Task> task = taskRepository.findById(event.getTaskId());
@@ -135,6 +299,24 @@ public class TaskService {
             throw new EntityNotFoundException("Task not found with ID: " + event.getTaskId());
         }
         Task taskEntity = task.get();
+        List<Long> subtreeIds = taskRepository.findSubtreeIds(taskEntity.getId());
+        // 하위 업무도 함께 삭제되므로 하위 업무 담당자까지 집계에서 제외 (기한 초과 sweep 과 겹치지 않도록 행을 먼저 잠금)
+        for (List<Long> ids : InClause.partition(subtreeIds)) {
+            taskRepository.lockByIdIn(ids);
+        }
+        WorkloadService.Deltas workloadDeltas = workloadService.newDeltas();
+        for (AssignmentView assignment : userTaskRepository.findAssignmentsInSubtree(taskEntity.getId())) {
+            workloadDeltas.add(assignment.getUserId(), assignment.getProjectId(), assignment.getStatus(), assignment.getOverdueCounted(), -1);
+        }
+        workloadService.apply(workloadDeltas);
+        kanbanService.addCounts(taskRepository.countSubtreeByStatus(taskEntity.getId()), taskEntity.getProject().getId(), -1);
+        // 하위 업무의 이미지, 썸네일 참조도 함께 해제
+        List<String> releasedImages = new ArrayList<>();
+        for (List<Long> ids : InClause.partition(subtreeIds)) {
+            releasedImages.addAll(taskImageRepository.findImagePathsByTaskIdIn(ids));
+            releasedImages.addAll(taskRepository.findUploadedThumbnailsByIdIn(ids));
+        }
+        imageBlobService.release(releasedImages);
         if (taskEntity.getParentTask() == null) {
             Project project = taskEntity.getProject();
             project.setChildCount(project.getChildCount() - 1);
@@ -147,74 +329,220 @@ public class TaskService {
             taskRepository.save(parentTask);
         }
         taskRepository.delete(task.get());
+        projectSummaryCache.evictAfterCommit(taskEntity.getProject().getId());
+        taskDependencyService.evictScheduleAfterCommit(taskEntity.getProject().getId());
     }
+    /**
+     * 이전 전체 수정 이벤트 (task-update-topic 에 남은 메시지 처리용)
+     * 값이 같은 필드는 건너뛰도록 부분 수정 이벤트로 바꾸어 처리한다.
+     */
     @Transactional(rollbackFor = { Exception.class })
     public void updateTask(TaskUpdateEvent event) {
         UpdateTaskRequestDto updateTaskRequestDto = event.getUpdateTaskRequestDto();
-        Optional<Task> task = taskRepository.findById(updateTaskRequestDto.getTaskId());
-        if (!task.isPresent()) {
-            throw new EntityNotFoundException("Task not found with ID: " + updateTaskRequestDto.getTaskId());
+        TaskPatchEvent patch = new TaskPatchEvent();
+        patch.setProjectId(updateTaskRequestDto.getProjectId());
+        patch.setTaskId(updateTaskRequestDto.getTaskId());
+        patch.setTitle(updateTaskRequestDto.getTitle());
+        patch.setDescription(updateTaskRequestDto.getDescription());
+        patch.setStartDate(updateTaskRequestDto.getStartDate());
+        patch.setEndDate(updateTaskRequestDto.getEndDate());
+        patch.setStatus(updateTaskRequestDto.getStatus());
+        if (event.getDeletedImages() != null) {
+            patch.setDeletedImageNames(event.getDeletedImages().stream()
+                    .map(TaskUpdateEvent.FileData::getFileName)
+                    .collect(Collectors.toList()));
         }
-
-        Task taskEntity = task.get();
-        int oldStatus = taskEntity.getStatus();
-        int newStatus = updateTaskRequestDto.getStatus();
-
-        taskEntity.setTitle(updateTaskRequestDto.getTitle());
-        taskEntity.setDescription(updateTaskRequestDto.getDescription());
-        taskEntity.setStartDate(updateTaskRequestDto.getStartDate());
-        taskEntity.setEndDate(updateTaskRequestDto.getEndDate());
-        taskEntity.setStatus(newStatus);
-
-        Project project = taskEntity.getProject();
-        if (updateTaskRequestDto.getStartDate().before(project.getStartDate())) {
-            project.setStartDate(updateTaskRequestDto.getStartDate());
+        if (event.getDescriptionFiles() != null) {
+            patch.setDescriptionFiles(event.getDescriptionFiles().stream()
+                    .map(file -> new TaskPatchEvent.FileData(file.getFileName(), file.getFileContent()))
+                    .collect(Collectors.toList()));
         }
-
-        if (updateTaskRequestDto.getEndDate().after(project.getEndDate())) {
-            project.setEndDate(updateTaskRequestDto.getEndDate());
+        patchTask(patch);
+    }
+    /**
+     * 업무 부분 수정
+     * 실제로 값이 바뀐 필드만 엔티티에 반영하고(@DynamicUpdate), 프로젝트는 기간이 늘어날 때만 수정한다.
+     * 완료 개수는 상위 업무/프로젝트 행을 다시 쓰지 않고 UPDATE ... + delta 로 보정한다.
+     */
+    @Transactional(rollbackFor = { Exception.class })
+    public void patchTask(TaskPatchEvent event) {
+        // 기한 초과 sweep 과 겹치지 않도록 업무 행을 잠근다 (overdue_counted 를 읽고 바꿈)
+        Task task = taskRepository.findByIdForUpdate(event.getTaskId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + event.getTaskId()));
+        Project project = task.getProject();
+        if (event.getProjectId() != null && project.getId() != event.getProjectId()) {
+            throw new IllegalArgumentException("Task " + task.getId() + " does not belong to project " + event.getProjectId());
         }
 
-        projectRepository.save(project);
-
-        if (taskEntity.getParentTask() != null) {
-            Task parentTask = taskEntity.getParentTask();
-            updateChildCompleteCount(parentTask, oldStatus, newStatus);
-            taskRepository.save(parentTask);
-        } else {
-            updateChildCompleteCountForProject(project, oldStatus, newStatus);
-            projectRepository.save(project);
+        int oldStatus = task.getStatus();
+        boolean oldOverdue = task.isOverdueCounted();
+        boolean summaryChanged = false;
+        boolean scheduleChanged = false;
+        if (event.getTitle() != null && !event.getTitle().equals(task.getTitle())) {
+            task.setTitle(event.getTitle());
+            scheduleChanged = true;
+        }
+        if (event.getDescription() != null && !event.getDescription().equals(task.getDescription())) {
+            task.setDescription(event.getDescription());
+        }
+        if (event.getStartDate() != null && !sameDate(task.getStartDate(), event.getStartDate())) {
+            task.setStartDate(event.getStartDate());
+            scheduleChanged = true;
+            if (project.getStartDate() == null || event.getStartDate().before(project.getStartDate())) {
+                project.setStartDate(event.getStartDate());
+                summaryChanged = true;
+            }
+        }
+        if (event.getEndDate() != null && !sameDate(task.getEndDate(), event.getEndDate())) {
+            task.setEndDate(event.getEndDate());
+            scheduleChanged = true;
+            if (project.getEndDate() == null || event.getEndDate().after(project.getEndDate())) {
+                project.setEndDate(event.getEndDate());
+                summaryChanged = true;
+            }
+        }
+        if (event.getStatus() != null && event.getStatus() != task.getStatus()) {
+            int delta = completeCountDelta(task.getStatus(), event.getStatus());
+            kanbanService.addCount(project.getId(), task.getStatus(), -1);
+            kanbanService.addCount(project.getId(), event.getStatus(), 1);
+            task.setStatus(event.getStatus());
+            if (delta != 0) {
+                if (task.getParentTask() != null) {
+                    taskRepository.addChildCompleteCount(task.getParentTask().getId(), delta);
+                } else {
+                    projectRepository.addChildCompleteCount(project.getId(), delta);
+                    summaryChanged = true;
+                }
+            }
+        }
+        // 완료되었거나 종료일이 다시 미래가 되면 기한 초과에서 뺀다 (새로 지난 종료일은 sweep 이 더함)
+        if (oldOverdue && (task.getStatus() == 2 || task.getEndDate() == null || !task.getEndDate().before(new Date()))) {
+            task.setOverdueCounted(false);
+        }
+        if (oldStatus != task.getStatus() || oldOverdue != task.isOverdueCounted()) {
+            List<Long> assignees = userTaskRepository.findByTaskId(task.getId()).stream()
+                    .map(userTask -> userTask.getId().getUserId())
+                    .collect(Collectors.toList());
+            workloadService.apply(workloadService.newDeltas()
+                    .addAll(assignees, project.getId(), oldStatus, oldOverdue, -1)
+                    .addAll(assignees, project.getId(), task.getStatus(), task.isOverdueCounted(), 1));
+        }
+        if (summaryChanged) {
+            projectSummaryCache.evictAfterCommit(project.getId());
+        }
+        if (scheduleChanged) {
+            taskDependencyService.evictScheduleAfterCommit(project.getId());
         }
 
-        taskRepository.save(taskEntity);
-
-        // 삭제할 파일 처리
-        try {
-            fileStorageService.deleteFiles(event.getDeletedImages());
-        } catch (IOException e) {
-            log.error("Failed to delete files", e);
-            throw new RuntimeException("Failed to delete files", e);
+        // 삭제할 이미지: 행은 지금 삭제하고 참조 해제, 파일은 마지막 참조가 없어진 경우 커밋 이후에 삭제
+        Map<Long, TaskImage> deletedImages = new HashMap<>();
+        if (event.getDeletedImageIds() != null && !event.getDeletedImageIds().isEmpty()) {
+            taskImageRepository.findByTaskIdAndIdIn(task.getId(), event.getDeletedImageIds())
+                    .forEach(image -> deletedImages.put(image.getId(), image));
         }
+        if (event.getDeletedImageNames() != null && !event.getDeletedImageNames().isEmpty()) {
+            List<String> paths = event.getDeletedImageNames().stream()
+                    .map(fileStorageService::resolveImagePath)
+                    .collect(Collectors.toList());
+            taskImageRepository.findByTaskIdAndImagePathIn(task.getId(), paths)
+                    .forEach(image -> deletedImages.put(image.getId(), image));
+        }
+        fileStorageService.deleteImages(deletedImages.values());
 
         // 저장할 파일 처리
         try {
-            fileStorageService.saveFiles(taskEntity, event.getDescriptionFiles());
+            fileStorageService.saveFiles(task, event.getDescriptionFiles());
+            fileStorageService.saveFiles(task, resumableUploadService.take(event.getUploadIds()));
+            fileStorageService.saveFiles(task, resumableUploadService.claim(event.getFileRefs()));
         } catch (IOException e) {
             log.error("Failed to save files", e);
             throw new RuntimeException("Failed to save files", e);
         }
     }
-    private void updateChildCompleteCountForProject(Project project, int oldStatus, int newStatus) {
-        Optional.of(project)
-                .filter(proj -> oldStatus != 2 && newStatus == 2)
-                .ifPresent(proj -> proj.setChildCompleteCount(proj.getChildCompleteCount() + 1));
+    /**
+     * 여러 업무의 상태를 한 번에 변경
+     * 상태는 UPDATE 한 번으로 반영하고, childCompleteCount 는 상위 업무/프로젝트마다 한 번씩만 보정한다.
+     * @return 실제로 상태가 바뀐 업무 아이디
+     */
+    @Transactional(rollbackFor = { Exception.class })
+    public List<Long> updateTaskStatuses(TaskStatusBulkUpdateEvent event) {
+        Long projectId = event.getProjectId();
+        int newStatus = event.getStatus();
 
-        Optional.of(project)
-                .filter(proj -> oldStatus == 2 && newStatus != 2)
-                .ifPresent(proj -> proj.setChildCompleteCount(proj.getChildCompleteCount() - 1));
+        List<Long> changedTaskIds = new ArrayList<>();
+        Map<Integer, Integer> statusDeltas = new HashMap<>();
+        Map<Long, Integer> parentDeltas = new HashMap<>();
+        int projectDelta = 0;
+        for (List<Long> chunk : InClause.partition(event.getTaskIds())) {
+            // 기한 초과 sweep 과 겹치지 않도록 업무 행을 먼저 잠근다
+            taskRepository.lockByIdIn(chunk);
+            for (TaskStatusProjection task : taskRepository.findStatusesByProjectIdAndIdIn(projectId, chunk)) {
+                if (task.getStatus() == newStatus) {
+                    continue;
+                }
+                changedTaskIds.add(task.getTaskId());
+                statusDeltas.merge(task.getStatus(), -1, Integer::sum);
+                int delta = completeCountDelta(task.getStatus(), newStatus);
+                if (delta == 0) {
+                    continue;
+                }
+                if (task.getParentTaskId() == null) {
+                    projectDelta += delta;
+                } else {
+                    parentDeltas.merge(task.getParentTaskId(), delta, Integer::sum);
+                }
+            }
+        }
+        if (changedTaskIds.isEmpty()) {
+            return changedTaskIds;
+        }
+
+        // 담당자 집계는 상태 변경 전 값을 기준으로 빼고 더한다.
+        WorkloadService.Deltas workloadDeltas = workloadService.newDeltas();
+        for (List<Long> chunk : InClause.partition(changedTaskIds)) {
+            for (AssignmentView assignment : userTaskRepository.findAssignmentsByTaskIdIn(chunk)) {
+                // 완료로 바뀌면 updateStatusByIdIn 이 overdue_counted 도 끈다
+                workloadDeltas.add(assignment.getUserId(), projectId, assignment.getStatus(), assignment.getOverdueCounted(), -1)
+                        .add(assignment.getUserId(), projectId, newStatus, newStatus != 2 && assignment.getOverdueCounted(), 1);
+            }
+        }
+        workloadService.apply(workloadDeltas);
+        for (List<Long> chunk : InClause.partition(changedTaskIds)) {
+            taskRepository.updateStatusByIdIn(chunk, newStatus);
+        }
+        statusDeltas.merge(newStatus, changedTaskIds.size(), Integer::sum);
+        statusDeltas.forEach((status, delta) -> kanbanService.addCount(projectId, status, delta));
+        parentDeltas.forEach((parentTaskId, delta) -> {
+            if (delta != 0) {
+                taskRepository.addChildCompleteCount(parentTaskId, delta);
+            }
+        });
+        if (projectDelta != 0) {
+            projectRepository.addChildCompleteCount(projectId, projectDelta);
+        }
+        projectSummaryCache.evictAfterCommit(projectId);
+        return changedTaskIds;
+    }
+    // DB 에서 읽은 Timestamp 와 요청의 Date 는 equals 로 비교할 수 없으므로 밀리초로 비교
+    private boolean sameDate(Date a, Date b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getTime() == b.getTime();
+    }
+    // 완료(2) 상태로 바뀌면 +1, 완료에서 다른 상태로 바뀌면 -1
+    private int completeCountDelta(int oldStatus, int newStatus) {
+        if (oldStatus != 2 && newStatus == 2) {
+            return 1;
+        }
+        if (oldStatus == 2 && newStatus != 2) {
+            return -1;
+        }
+        return 0;
     }
     @Transactional(rollbackFor = { Exception.class })
-    public void createTask(CreateTaskRequestDto createTaskRequestDto, List<TaskCreateEvent.FileData> files, byte[] thumbnailByte, String extsn) throws IOException {
+    public void createTask(CreateTaskRequestDto createTaskRequestDto, List<TaskCreateEvent.FileData> files, byte[] thumbnailByte, String extsn,
+            List<ClaimCheck> fileRefs, ClaimCheck thumbnailRef) throws IOException {
         Project project = projectRepository.findById(createTaskRequestDto.getProjectId())
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + createTaskRequestDto.getProjectId()));
         Optional<Task> parentTask = taskRepository.findById(createTaskRequestDto.getParentTaskId());
@@ -253,12 +581,16 @@ public class TaskService {
             task.setDepth(0);
         }
 
+        if (createTaskRequestDto.getThumbnailUploadId() != null && thumbnailByte == null) {
+            ResumableUploadService.StagedFile staged = resumableUploadService.take(createTaskRequestDto.getThumbnailUploadId());
+            thumbnailByte = staged.getFileContent();
+            extsn = staged.getFileName().substring(staged.getFileName().lastIndexOf('.') + 1);
+        } else if (thumbnailRef != null && thumbnailByte == null) {
+            thumbnailByte = resumableUploadService.claim(thumbnailRef).getFileContent();
+        }
         String thumbnail;
         if (thumbnailByte != null && createTaskRequestDto.getThumbnailIcon() == null) {
-            thumbnail = UUID.randomUUID().toString() + "." + extsn;
-            // 만약 Exception 발생하면 저장된 썸네일 이미지도 삭제 시켜야함 (롤백)
-            // 나중에 개발...ㅋㅋ...
-            fileManagement.uploadThumbnail(thumbnailByte, thumbnail, 'T');
+            thumbnail = imageDerivativeService.storeThumbnail(thumbnailByte, extsn);
             task.setThumbnail(thumbnail);
             task.setThumbnailType('M');
         } else if(createTaskRequestDto.getThumbnailIcon() != null && thumbnailByte == null) {
@@ -270,18 +602,14 @@ public class TaskService {
         }
 
         taskRepository.save(task);
+        kanbanService.addCount(project.getId(), task.getStatus(), 1);
+        projectSummaryCache.evictAfterCommit(project.getId());
+        taskDependencyService.evictScheduleAfterCommit(project.getId());
         if (files != null) {
             fileStorageService.saveFiles(task, files);
         }
-    }
-    private void updateChildCompleteCount(Task parentTask, int oldStatus, int newStatus) {
-        Optional.of(parentTask)
-                .filter(task -> oldStatus != 2 && newStatus == 2)
-                .ifPresent(task -> task.setChildCompleteCount(task.getChildCompleteCount() + 1));
-
-        Optional.of(parentTask)
-                .filter(task -> oldStatus == 2 && newStatus != 2)
-                .ifPresent(task -> task.setChildCompleteCount(task.getChildCompleteCount() - 1));
+        fileStorageService.saveFiles(task, resumableUploadService.take(createTaskRequestDto.getUploadIds()));
+        fileStorageService.saveFiles(task, resumableUploadService.claim(fileRefs));
     }
     public SuccessResponse getUserIdsFromTask(Long taskId) {
         List<UserTask> userTasks = userTaskRepository.findByTaskId(taskId);
@@ -327,6 +655,13 @@ public class TaskService {
                 .userId(event.getUserId())
                 .taskId(event.getTaskId())
                 .build();
-        userTaskRepository.deleteById(userTaskId);
+        // 기한 초과 sweep 과 겹치지 않도록 업무 행을 먼저 잠근다
+        taskRepository.findByIdForUpdate(event.getTaskId());
+        userTaskRepository.findById(userTaskId).ifPresent(userTask -> {
+            Task task = userTask.getTask();
+            userTaskRepository.delete(userTask);
+            workloadService.apply(workloadService.newDeltas()
+                .add(event.getUserId(), task.getProject().getId(), task.getStatus(), task.isOverdueCounted(), -1));
+        });
     }
 }
\ No newline at end of file
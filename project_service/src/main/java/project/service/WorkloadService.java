@@ -0,0 +1,261 @@
+package project.service;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.GetMemberWorkloadResponseDto;
+import project.service.entity.MemberWorkload;
+import project.service.entity.MemberWorkloadId;
+import project.service.global.SuccessResponse;
+import project.service.repository.MemberWorkloadRepository;
+import project.service.repository.TaskRepository;
+import project.service.repository.UserTaskRepository;
+import project.service.repository.projection.AssignmentView;
+
+/**
+ * 멤버별 담당 업무 집계 (열린 업무 / 기한 초과 / 완료)
+ * 이벤트 처리 트랜잭션 안에서 증감을 모아 사용자마다 프로젝트 행과 전체 합계 행에 한 번씩 반영한다.
+ * 기한 초과는 종료일이 지난 업무를 sweep 이 업무 행을 잠그고 task.overdue_counted 를 켜면서 더한다 (업무마다 한 번).
+ * 완료, 종료일 변경, 배정/해제 이벤트는 같은 업무 행을 먼저 잠근 뒤 그 플래그 기준으로 증감하므로 sweep 과 겹쳐도 어긋나지 않는다.
+ * 재구축(rebuild) 은 job_lock 을 가져간 인스턴스 하나만 실행하고, 사용자 묶음마다 행을 잠근 뒤 실제 값으로 덮어쓴다.
+ */
+@Service
+@Slf4j
+public class WorkloadService {
+    static final String REBUILD_JOB = "workload-rebuild";
+    static final String OVERDUE_SWEEP_JOB = "workload-overdue-sweep";
+    // 같은 키를 증감 트랜잭션이 먼저 INSERT 한 경우 묶음을 다시 시도
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private final MemberWorkloadRepository memberWorkloadRepository;
+    private final UserTaskRepository userTaskRepository;
+    private final TaskRepository taskRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long leaseMillis;
+
+    public WorkloadService(MemberWorkloadRepository memberWorkloadRepository, UserTaskRepository userTaskRepository,
+            TaskRepository taskRepository, JobLockService jobLockService, TransactionTemplate transactionTemplate,
+            @Value("${workload.rebuild.chunk-size:500}") int chunkSize,
+            @Value("${workload.rebuild.lease-millis:3600000}") long leaseMillis) {
+        this.memberWorkloadRepository = memberWorkloadRepository;
+        this.userTaskRepository = userTaskRepository;
+        this.taskRepository = taskRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.leaseMillis = leaseMillis;
+    }
+
+    public Deltas newDeltas() {
+        return new Deltas();
+    }
+
+    /**
+     * 모은 증감을 반영 (호출한 트랜잭션에 참여)
+     */
+    public void apply(Deltas deltas) {
+        deltas.counts.forEach((key, count) -> {
+            if (count[0] == 0 && count[1] == 0 && count[2] == 0) {
+                return;
+            }
+            memberWorkloadRepository.addCounts(key.getUserId(), key.getProjectId(), count[0], count[1], count[2]);
+        });
+    }
+
+    /**
+     * 프로젝트 삭제 시 프로젝트 행을 지우고 전체 합계에서 빼기
+     */
+    public void removeProject(long projectId) {
+        List<MemberWorkload> rows = memberWorkloadRepository.findByProjectId(projectId);
+        for (MemberWorkload row : rows) {
+            memberWorkloadRepository.addCounts(row.getId().getUserId(), MemberWorkload.ALL_PROJECTS,
+                    -row.getOpenCount(), -row.getOverdueCount(), -row.getDoneCount());
+        }
+        memberWorkloadRepository.deleteByProjectId(projectId);
+    }
+
+    /**
+     * 단일 행 조회 (projectId 가 없으면 전체 합계)
+     */
+    public SuccessResponse getWorkload(Long userId, Long projectId) {
+        long key = projectId == null ? MemberWorkload.ALL_PROJECTS : projectId;
+        GetMemberWorkloadResponseDto result = memberWorkloadRepository.findById(new MemberWorkloadId(userId, key))
+                .map(GetMemberWorkloadResponseDto::fromEntity)
+                .orElseGet(() -> GetMemberWorkloadResponseDto.empty(userId, key));
+        return SuccessResponse.builder().data(result).build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        // 집계를 처음 도입한 경우에만 채우기 (이후에는 증감과 정기 재구축으로 유지)
+        if (!memberWorkloadRepository.findAll(PageRequest.of(0, 1)).isEmpty()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Workload seed on startup failed", e);
+        }
+    }
+
+    /**
+     * 종료일이 지난 미완료 업무를 기한 초과로 옮긴다.
+     * 업무 행을 FOR UPDATE SKIP LOCKED 로 잠그고 플래그를 켠 트랜잭션 안에서 담당자 집계를 더하므로,
+     * 재시작이나 여러 인스턴스와 상관없이 업무마다 한 번만 더해진다.
+     * @return 기한 초과로 옮긴 업무 수 (다른 인스턴스가 실행 중이면 -1)
+     */
+    @Scheduled(fixedDelayString = "${workload.overdue-sweep-millis:60000}")
+    public int sweepOverdue() {
+        if (!jobLockService.tryLock(OVERDUE_SWEEP_JOB, leaseMillis)) {
+            return -1;
+        }
+        try {
+            Date now = new Date();
+            int moved = 0;
+            while (true) {
+                Integer swept = transactionTemplate.execute(status -> {
+                    List<Long> taskIds = taskRepository.lockNewlyOverdue(now, chunkSize);
+                    if (taskIds.isEmpty()) {
+                        return 0;
+                    }
+                    taskRepository.markOverdueByIdIn(taskIds);
+                    Deltas deltas = new Deltas();
+                    for (AssignmentView assignment : userTaskRepository.findAssignmentsByTaskIdIn(taskIds)) {
+                        deltas.addOverdue(assignment.getUserId(), assignment.getProjectId(), 1);
+                    }
+                    apply(deltas);
+                    return taskIds.size();
+                });
+                if (swept == null || swept == 0) {
+                    break;
+                }
+                moved += swept;
+                if (swept < chunkSize) {
+                    break;
+                }
+            }
+            if (moved > 0) {
+                log.info("Workload overdue sweep: {} tasks became overdue", moved);
+            }
+            return moved;
+        } finally {
+            jobLockService.unlock(OVERDUE_SWEEP_JOB);
+        }
+    }
+
+    @Scheduled(cron = "${workload.rebuild.cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * user_task, task 를 집계하여 전체 재구축
+     * 묶음마다 대상 사용자의 행을 먼저 UPDATE 로 잠그므로, 진행 중인 증감 트랜잭션이 끝난 뒤의 값으로 덮어쓰고
+     * 이후에 커밋되는 증감은 덮어쓴 값 위에 더해진다.
+     * @return 재구축한 사용자 수 (다른 인스턴스가 실행 중이면 -1)
+     */
+    public int rebuild() {
+        if (!jobLockService.tryLock(REBUILD_JOB, leaseMillis)) {
+            log.info("Workload rebuild skipped: running on another instance");
+            return -1;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            int users = 0;
+            long afterId = Long.MIN_VALUE;
+            List<Long> userIds;
+            while (!(userIds = userTaskRepository.findUserIdsAfter(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                rebuildUsers(userIds);
+                users += userIds.size();
+                afterId = userIds.get(userIds.size() - 1);
+            }
+            // 담당 업무가 모두 해제된 사용자의 남은 행
+            afterId = Long.MIN_VALUE;
+            while (!(userIds = memberWorkloadRepository.findUnassignedUserIdsAfter(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                rebuildUsers(userIds);
+                users += userIds.size();
+                afterId = userIds.get(userIds.size() - 1);
+            }
+            log.info("Workload rebuilt: users={}, elapsed={}ms", users, System.currentTimeMillis() - startedAt);
+            return users;
+        } finally {
+            jobLockService.unlock(REBUILD_JOB);
+        }
+    }
+
+    private void rebuildUsers(List<Long> userIds) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    memberWorkloadRepository.resetByUserIdIn(userIds);
+                    memberWorkloadRepository.mergeActualByUserIdIn(userIds);
+                    memberWorkloadRepository.deleteEmptyByUserIdIn(userIds);
+                });
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= REBUILD_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Workload rebuild chunk collided with a concurrent insert, retrying: {}", userIds.get(0));
+            }
+        }
+    }
+
+    /**
+     * 사용자별 증감 누적 (프로젝트 행과 전체 합계 행에 같이 더한다)
+     */
+    public static class Deltas {
+        private final Map<MemberWorkloadId, int[]> counts = new HashMap<>();
+
+        private Deltas() {
+        }
+
+        /**
+         * 담당 업무 하나를 더하거나(sign = 1) 빼기(sign = -1)
+         * @param overdueCounted 업무 행을 잠근 뒤 읽은 task.overdue_counted
+         */
+        public Deltas add(long userId, long projectId, int status, boolean overdueCounted, int sign) {
+            boolean done = status == 2;
+            addCounts(userId, projectId, done ? 0 : sign, !done && overdueCounted ? sign : 0, done ? sign : 0);
+            return this;
+        }
+
+        public Deltas addAll(Collection<Long> userIds, long projectId, int status, boolean overdueCounted, int sign) {
+            for (Long userId : userIds) {
+                add(userId, projectId, status, overdueCounted, sign);
+            }
+            return this;
+        }
+
+        private void addOverdue(long userId, long projectId, int delta) {
+            addCounts(userId, projectId, 0, delta, 0);
+        }
+
+        private void addCounts(long userId, long projectId, int open, int overdue, int done) {
+            merge(new MemberWorkloadId(userId, projectId), open, overdue, done);
+            merge(new MemberWorkloadId(userId, MemberWorkload.ALL_PROJECTS), open, overdue, done);
+        }
+
+        private void merge(MemberWorkloadId key, int open, int overdue, int done) {
+            int[] count = counts.computeIfAbsent(key, k -> new int[3]);
+            count[0] += open;
+            count[1] += overdue;
+            count[2] += done;
+        }
+    }
+}
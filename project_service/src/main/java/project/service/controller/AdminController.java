@@ -0,0 +1,73 @@
+package project.service.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import project.service.CounterReconciliationService;
+import project.service.FileGcService;
+import project.service.ImageBackfillService;
+import project.service.WorkloadService;
+import project.service.global.SuccessResponse;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+    private final CounterReconciliationService counterReconciliationService;
+    private final WorkloadService workloadService;
+    private final FileGcService fileGcService;
+    private final ImageBackfillService imageBackfillService;
+
+    @PostMapping("node2/admin/api/counter/reconcile")
+    public SuccessResponse reconcileCounters() {
+        return SuccessResponse.builder()
+            .message("카운터 정합성 작업 완료")
+            .data(counterReconciliationService.reconcile())
+            .build();
+    }
+
+    @PostMapping("node2/admin/api/workload/rebuild")
+    public SuccessResponse rebuildWorkload() {
+        return SuccessResponse.builder()
+            .message("담당 업무 집계 재구축 완료")
+            .data(workloadService.rebuild())
+            .build();
+    }
+
+    @PostMapping("node2/admin/api/files/gc")
+    public SuccessResponse collectOrphanFiles(@RequestParam(defaultValue = "false") boolean dryRun) {
+        return SuccessResponse.builder()
+            .message("고아 파일 정리 완료")
+            .data(fileGcService.collect(dryRun))
+            .build();
+    }
+
+    // 백그라운드로 실행하고 바로 응답 (진행 상황은 GET 으로 확인)
+    @PostMapping("node2/admin/api/images/backfill")
+    public SuccessResponse startImageBackfill(@RequestParam(defaultValue = "false") boolean restart) {
+        return SuccessResponse.builder()
+            .message("이미지 재인코딩 작업 시작")
+            .data(imageBackfillService.start(restart))
+            .build();
+    }
+
+    @PostMapping("node2/admin/api/images/backfill/pause")
+    public SuccessResponse pauseImageBackfill() {
+        return SuccessResponse.builder()
+            .message("이미지 재인코딩 작업 일시 정지 요청")
+            .data(imageBackfillService.pause())
+            .build();
+    }
+
+    @GetMapping("node2/admin/api/images/backfill")
+    public SuccessResponse getImageBackfillStatus() {
+        return SuccessResponse.builder()
+            .message("이미지 재인코딩 작업 상태")
+            .data(imageBackfillService.status())
+            .build();
+    }
+}
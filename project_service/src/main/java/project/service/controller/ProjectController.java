@@ -1,32 +1,53 @@
 package project.service.controller;
 
+import java.io.IOException;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import project.service.ImageArchiveService;
+import project.service.ImageDerivativeService;
 import project.service.ProjectService;
+import project.service.StaticContentService;
 import project.service.global.SuccessResponse;
+import project.service.global.storage.StoredFile;
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 public class ProjectController {
     final ProjectService projectService;
+    final StaticContentService staticContentService;
+    final ImageDerivativeService imageDerivativeService;
+    final ImageArchiveService imageArchiveService;
     
     @GetMapping("node2/project/api/v1")
     public SuccessResponse getProjects(HttpServletRequest request, @RequestParam(name="projectIds") List<Long> projectIds)  {
     	return projectService.getProjects(request, projectIds);
     }
+    @GetMapping("node2/project/images/zip")
+    public WebAsyncTask<Void> getProjectImagesZip(@RequestParam Long projectId, HttpServletResponse response) {
+    	StreamingResponseBody body = imageArchiveService.archiveProject(projectId);
+    	// 동시 ZIP 수를 넘으면 503 이므로 다운로드 헤더는 허가를 받은 뒤에 설정한다
+    	WebAsyncTask<Void> task = imageArchiveService.toAsyncTask(body, response);
+    	response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"project-" + projectId + "-images.zip\"");
+    	response.setContentType("application/zip");
+    	return task;
+    }
     @GetMapping("node2/project/thumbnail/{thumbnail}")
-    public ResponseEntity<Resource> getProjectThumbnail(@PathVariable("thumbnail") String thumbnail) {
-    	return projectService.getProjectThumbnail(thumbnail);
+    public void getProjectThumbnail(@PathVariable("thumbnail") String thumbnail, @RequestParam(required = false) Integer size,
+    		HttpServletRequest request, HttpServletResponse response) throws IOException {
+    	StoredFile file = projectService.getProjectThumbnail(thumbnail, size);
+    	staticContentService.serveThumbnail(file, imageDerivativeService.isFinal(file, size), request, response);
     }
 }
@@ -1,17 +1,28 @@
 package project.service.controller;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import project.service.ImageArchiveService;
+import project.service.ImageDerivativeService;
+import project.service.KanbanService;
+import project.service.StaticContentService;
+import project.service.TaskDependencyService;
 import project.service.TaskService;
 import project.service.dto.request.GetTaskRequestDto;
 import project.service.global.SuccessResponse;
+import project.service.global.storage.StoredFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -19,6 +30,11 @@ import java.util.List;
 @Slf4j
 public class TaskController {
     private final TaskService taskService;
+    private final TaskDependencyService taskDependencyService;
+    private final KanbanService kanbanService;
+    private final StaticContentService staticContentService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageArchiveService imageArchiveService;
     @GetMapping("node2/api/task/v1")
     public SuccessResponse getOnlyChildrenTasks(@RequestParam Long taskId)  {
         //progress 로직 추가
@@ -42,7 +58,42 @@ public class TaskController {
         return taskService.getTask(taskId);
     }
     @GetMapping("node2/api/task/image")
-    public ResponseEntity<Resource> getImage(@RequestParam String filename) {
-        return taskService.getImage(filename);
+    public void getImage(@RequestParam String filename, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        staticContentService.serve(taskService.getImage(filename), "attachment", true, request, response);
+    }
+    @GetMapping("node2/api/task/thumbnail/{thumbnail}")
+    public void getTaskThumbnail(@PathVariable("thumbnail") String thumbnail, @RequestParam(required = false) Integer size,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StoredFile file = taskService.getTaskThumbnail(thumbnail, size);
+        staticContentService.serveThumbnail(file, imageDerivativeService.isFinal(file, size), request, response);
+    }
+    @GetMapping("node2/api/task/images/zip")
+    public WebAsyncTask<Void> getTaskImagesZip(@RequestParam Long taskId, HttpServletResponse response) {
+        StreamingResponseBody body = imageArchiveService.archiveTask(taskId);
+        // 동시 ZIP 수를 넘으면 503 이므로 다운로드 헤더는 허가를 받은 뒤에 설정한다
+        WebAsyncTask<Void> task = imageArchiveService.toAsyncTask(body, response);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"task-" + taskId + "-images.zip\"");
+        response.setContentType("application/zip");
+        return task;
+    }
+    @GetMapping("node2/api/task/board")
+    public SuccessResponse getBoard(@RequestParam Long projectId, @RequestParam(defaultValue = "20") int size) {
+        return kanbanService.getBoard(projectId, size);
+    }
+    @GetMapping("node2/api/task/board/column")
+    public SuccessResponse getBoardColumn(@RequestParam Long projectId, @RequestParam int status,
+            @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "20") int size) {
+        return kanbanService.getColumn(projectId, status, cursor, size);
+    }
+    // 순환이면 T001
+    @GetMapping("node2/api/task/dependency/validate")
+    public SuccessResponse validateDependency(@RequestParam Long projectId, @RequestParam Long taskId,
+            @RequestParam Long blockedByTaskId) {
+        return taskDependencyService.validateDependency(projectId, taskId, blockedByTaskId);
+    }
+    @GetMapping("node2/api/task/schedule")
+    public SuccessResponse getSchedule(@RequestParam Long projectId) {
+        return taskDependencyService.getSchedule(projectId);
     }
 }
@@ -0,0 +1,107 @@
+package project.service.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import project.service.ResumableUploadService;
+import project.service.entity.UploadSession;
+
+/**
+ * 이어 올리기 업로드 (tus 1.0.0 core + creation, checksum, termination)
+ * 생성 -> HEAD 로 offset 확인 -> PATCH 로 offset 부터 이어 보내기. 완료된 업로드 id 를 업무 생성/수정 요청의 uploadIds 로 넘긴다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class UploadController {
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String TUS_VERSION = "1.0.0";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+
+    private final ResumableUploadService resumableUploadService;
+
+    @RequestMapping(value = "node2/api/upload", method = RequestMethod.OPTIONS)
+    public ResponseEntity<Void> options() {
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header("Tus-Version", TUS_VERSION)
+                .header("Tus-Extension", "creation,checksum,termination")
+                .header("Tus-Max-Size", String.valueOf(resumableUploadService.getMaxLength()))
+                .header("Tus-Checksum-Algorithm", resumableUploadService.getChecksumAlgorithms())
+                .build();
+    }
+
+    /**
+     * @param metadata tus 형식 "filename base64(파일 이름)"
+     */
+    @PostMapping("node2/api/upload")
+    public ResponseEntity<Void> create(@RequestHeader(UPLOAD_LENGTH) long length,
+            @RequestHeader(value = "Upload-Metadata", required = false) String metadata,
+            HttpServletRequest request) {
+        UploadSession session = resumableUploadService.create(fileNameOf(metadata), length);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(HttpHeaders.LOCATION, request.getRequestURL().append('/').append(session.getId()).toString())
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, "0")
+                .build();
+    }
+
+    @RequestMapping(value = "node2/api/upload/{uploadId}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> head(@PathVariable("uploadId") String uploadId) {
+        UploadSession session = resumableUploadService.get(uploadId);
+        return ResponseEntity.ok()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(session.getUploadOffset()))
+                .header(UPLOAD_LENGTH, String.valueOf(session.getUploadLength()))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .build();
+    }
+
+    // 본문은 요청 스트림에서 조각 단위로 BlobStore 에 쓴다 (Content-Type: application/offset+octet-stream)
+    @PatchMapping("node2/api/upload/{uploadId}")
+    public ResponseEntity<Void> patch(@PathVariable("uploadId") String uploadId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            @RequestHeader(value = "Upload-Checksum", required = false) String checksum,
+            HttpServletRequest request) throws IOException {
+        long newOffset = resumableUploadService.append(uploadId, offset, checksum, request.getInputStream());
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(newOffset))
+                .build();
+    }
+
+    @DeleteMapping("node2/api/upload/{uploadId}")
+    public ResponseEntity<Void> delete(@PathVariable("uploadId") String uploadId) {
+        resumableUploadService.delete(uploadId);
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, TUS_VERSION)
+                .build();
+    }
+
+    private String fileNameOf(String metadata) {
+        if (metadata != null) {
+            for (String pair : metadata.split(",")) {
+                String[] parts = pair.trim().split(" ", 2);
+                if (parts.length == 2 && parts[0].equals("filename")) {
+                    return new String(Base64.getDecoder().decode(parts[1].trim()), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Upload-Metadata 에 filename 이 필요합니다.");
+    }
+}
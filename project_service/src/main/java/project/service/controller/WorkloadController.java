@@ -0,0 +1,20 @@
+package project.service.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import project.service.WorkloadService;
+import project.service.global.SuccessResponse;
+
+@RestController
+@RequiredArgsConstructor
+public class WorkloadController {
+    private final WorkloadService workloadService;
+
+    @GetMapping("node2/api/workload")
+    public SuccessResponse getWorkload(@RequestParam Long userId, @RequestParam(required = false) Long projectId) {
+        return workloadService.getWorkload(userId, projectId);
+    }
+}
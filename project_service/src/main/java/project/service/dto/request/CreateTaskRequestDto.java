@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Setter
@@ -17,4 +18,7 @@ public class CreateTaskRequestDto {
     private Optional<Long> parentTaskId;
     private Long projectId;
     private int status;
+    // 이어 올리기로 완료한 업로드 id (설명 이미지, 썸네일)
+    private List<String> uploadIds;
+    private String thumbnailUploadId;
 }
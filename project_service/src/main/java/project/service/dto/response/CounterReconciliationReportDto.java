@@ -0,0 +1,54 @@
+package project.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class CounterReconciliationReportDto {
+    // 응답에 포함할 drift 상세 최대 개수
+    private static final int MAX_DRIFT_DETAILS = 100;
+
+    private long projectsScanned;
+    private long tasksScanned;
+    private long projectsFixed;
+    private long tasksFixed;
+    // 칸반 상태별 업무 수 (project_status_count)
+    private long statusCountsFixed;
+    // 검사 도중 이벤트로 값이 바뀌어 수정하지 않은 건수 (다음 실행에서 다시 검사)
+    private long skipped;
+    private long elapsedMillis;
+    private List<Drift> drifts = new ArrayList<>();
+
+    public void addDrift(Drift drift) {
+        if (drifts.size() < MAX_DRIFT_DETAILS) {
+            drifts.add(drift);
+        }
+    }
+
+    public void merge(CounterReconciliationReportDto other) {
+        projectsScanned += other.projectsScanned;
+        tasksScanned += other.tasksScanned;
+        projectsFixed += other.projectsFixed;
+        tasksFixed += other.tasksFixed;
+        statusCountsFixed += other.statusCountsFixed;
+        skipped += other.skipped;
+        other.drifts.forEach(this::addDrift);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Drift {
+        // 'P' = 프로젝트, 'T' = 업무
+        private char type;
+        private long id;
+        private long storedChildCount;
+        private long actualChildCount;
+        private long storedChildCompleteCount;
+        private long actualChildCompleteCount;
+    }
+}
@@ -0,0 +1,18 @@
+package project.service.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FileGcReportDto {
+    private boolean dryRun;
+    private long filesScanned;
+    private long orphansFound;
+    private long filesDeleted;
+    private long bytesReclaimed;
+    // 유예 기간 안에 만들어져 검사하지 않은 파일
+    private long skippedRecent;
+    private long failed;
+    private long elapsedMillis;
+}
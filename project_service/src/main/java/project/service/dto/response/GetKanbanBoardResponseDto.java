@@ -0,0 +1,28 @@
+package project.service.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GetKanbanBoardResponseDto {
+    private Long projectId;
+    private List<Column> columns;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Column {
+        private int status;
+        private int count;
+        private List<KanbanCardDto> tasks;
+        // 다음 페이지 요청 시 cursor 로 전달 (null 이면 마지막 페이지)
+        private Long nextCursor;
+    }
+}
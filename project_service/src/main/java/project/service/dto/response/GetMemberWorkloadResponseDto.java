@@ -0,0 +1,35 @@
+package project.service.dto.response;
+
+import lombok.*;
+import project.service.entity.MemberWorkload;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GetMemberWorkloadResponseDto {
+    private Long userId;
+    // 0 == 전체 프로젝트 합계
+    private Long projectId;
+    private int openCount;
+    private int overdueCount;
+    private int doneCount;
+
+    public static GetMemberWorkloadResponseDto fromEntity(MemberWorkload workload) {
+        return GetMemberWorkloadResponseDto.builder()
+                .userId(workload.getId().getUserId())
+                .projectId(workload.getId().getProjectId())
+                .openCount(workload.getOpenCount())
+                .overdueCount(workload.getOverdueCount())
+                .doneCount(workload.getDoneCount())
+                .build();
+    }
+
+    public static GetMemberWorkloadResponseDto empty(Long userId, Long projectId) {
+        return GetMemberWorkloadResponseDto.builder()
+                .userId(userId)
+                .projectId(projectId)
+                .build();
+    }
+}
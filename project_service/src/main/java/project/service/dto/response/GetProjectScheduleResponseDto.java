@@ -0,0 +1,39 @@
+package project.service.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 임계 경로 일정 (일 단위, finish 는 업무의 마지막 날)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GetProjectScheduleResponseDto {
+    private Long projectId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<Long> criticalPath;
+    private List<TaskSchedule> tasks;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class TaskSchedule {
+        private Long taskId;
+        private String title;
+        private List<Long> blockedByTaskIds;
+        private LocalDate earliestStart;
+        private LocalDate earliestFinish;
+        private LocalDate latestStart;
+        private LocalDate latestFinish;
+        private long slack;
+        private boolean critical;
+    }
+}
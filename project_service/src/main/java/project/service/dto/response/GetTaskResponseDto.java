@@ -21,9 +21,30 @@ public class GetTaskResponseDto {
     private int status;
     private int depth;
     private float progress;
+    // 업로드한 썸네일은 서명된 조회 주소, 아이콘은 이름
+    private String thumbnail;
+    private char thumbnailType;
     private List<File> imageFiles; // 이미지 파일 목록 추가
+    private List<Image> images; // 부분 수정 시 삭제할 이미지 아이디 확인용
+
+    @Getter
+    @AllArgsConstructor
+    public static class Image {
+        private Long imageId;
+        private String fileName;
+        // 서명된 조회 주소 (만료 시각 포함)
+        private String url;
+    }
 
     public static GetTaskResponseDto fromEntity(Task task, List<File> imageFiles) {
+        return fromEntity(task, imageFiles, null);
+    }
+
+    public static GetTaskResponseDto fromEntity(Task task, List<File> imageFiles, List<Image> images) {
+        return fromEntity(task, imageFiles, images, task.getThumbnail());
+    }
+
+    public static GetTaskResponseDto fromEntity(Task task, List<File> imageFiles, List<Image> images, String thumbnail) {
         float progress = 0.0f;
         if (task.getChildCount() > 0) {
             progress = (float) task.getChildCompleteCount() / task.getChildCount();
@@ -37,7 +58,10 @@ public class GetTaskResponseDto {
                 .status(task.getStatus())
                 .depth(task.getDepth())
                 .progress(progress)
+                .thumbnail(thumbnail)
+                .thumbnailType(task.getThumbnailType())
                 .imageFiles(imageFiles)
+                .images(images)
                 .build();
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import project.service.entity.Task;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Getter
@@ -21,9 +22,15 @@ public class GetTasksResponseDto {
     private int status;
     private int depth;
     private float progress;
+    // 업로드한 썸네일은 서명된 조회 주소, 아이콘은 이름
+    private String thumbnail;
+    private char thumbnailType;
     private List<GetTasksResponseDto> subTasks;
 
-    public static GetTasksResponseDto fromEntityOnlyChildrenTasks(Task task) {
+    /**
+     * @param thumbnailOf 업무 썸네일을 응답에 넣을 값으로 (업로드한 썸네일은 서명된 주소)
+     */
+    public static GetTasksResponseDto fromEntityOnlyChildrenTasks(Task task, Function<Task, String> thumbnailOf) {
         float progress = 0.0f;
         if (task.getChildCount() > 0) {
             progress = (float) task.getChildCompleteCount() / task.getChildCount();
@@ -37,6 +44,8 @@ public class GetTasksResponseDto {
             .status(task.getStatus())
             .depth(task.getDepth())
             .progress(progress)
+            .thumbnail(thumbnailOf.apply(task))
+            .thumbnailType(task.getThumbnailType())
             .subTasks(task.getSubTasks().stream()
                 .map(child -> GetTasksResponseDto.builder()
                     .id(child.getId())
@@ -46,6 +55,8 @@ public class GetTasksResponseDto {
                     .endDate(child.getEndDate())
                     .status(child.getStatus())
                     .depth(child.getDepth())
+                    .thumbnail(thumbnailOf.apply(child))
+                    .thumbnailType(child.getThumbnailType())
                     .build())
                 .collect(Collectors.toList()))
             .build();
@@ -0,0 +1,25 @@
+package project.service.dto.response;
+
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ImageBackfillStatusDto {
+    private boolean running;
+    // 현재 묶음을 마치고 멈출 예정
+    private boolean pauseRequested;
+    private String phase;
+    private String lastKey;
+    private long processed;
+    private long replaced;
+    // 없는 파일, 지원하지 않는 형식, 줄어드는 크기가 작은 파일
+    private long skipped;
+    private long failed;
+    private long bytesSaved;
+    private Date startedDate;
+    private Date updatedDate;
+    private Date completedDate;
+}
@@ -0,0 +1,27 @@
+package project.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * 칸반 카드 조회용 projection (연관관계를 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class KanbanCardDto {
+    private long taskId;
+    private String title;
+    private Date startDate;
+    private Date endDate;
+    private int status;
+    private int depth;
+    // null == 프로젝트 최상위 업무
+    private Long parentTaskId;
+    // 조회 후 업로드한 썸네일은 서명된 주소로 바꾼다 (KanbanService)
+    @Setter
+    private String thumbnail;
+    private char thumbnailType;
+}
@@ -0,0 +1,31 @@
+package project.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 프로젝트 카드 조회용 projection (연관관계를 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectSummaryDto {
+    private long projectId;
+    private String title;
+    private String subTitle;
+    private String description;
+    private Date startDate;
+    private Date endDate;
+    private String thumbnail;
+    private char thumbnailType;
+    private Integer childCount;
+    private Integer childCompleteCount;
+
+    public float getProgress() {
+        if (childCount == null || childCount <= 0 || childCompleteCount == null) {
+            return 0.0f;
+        }
+        return (float) childCompleteCount / childCount;
+    }
+}
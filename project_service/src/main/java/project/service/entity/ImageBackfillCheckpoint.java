@@ -0,0 +1,70 @@
+package project.service.entity;
+
+import java.util.Date;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 이미지 재인코딩 작업 진행 위치
+ * 묶음(chunk)마다 단계와 마지막으로 처리한 키를 기록하므로, 중단(일시 정지, 재시작)되어도 다음 묶음부터 이어서 실행한다.
+ * runner/leaseUntil 을 조건부 UPDATE 로 가져간 인스턴스 하나만 실행한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "image_backfill_checkpoint")
+public class ImageBackfillCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    // ImageBackfillService.Phase
+    @Column(name = "phase", nullable = false, length = 30)
+    private String phase;
+
+    // 단계 안에서 마지막으로 처리한 키 (hash 또는 id, null == 단계 처음)
+    @Column(name = "last_key", length = 64)
+    private String lastKey;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "replaced", nullable = false)
+    private long replaced;
+
+    @Column(name = "skipped", nullable = false)
+    private long skipped;
+
+    @Column(name = "failed", nullable = false)
+    private long failed;
+
+    @Column(name = "bytes_saved", nullable = false)
+    private long bytesSaved;
+
+    @Column(name = "started_date", nullable = false)
+    private Date startedDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private Date updatedDate;
+
+    @Column(name = "completed_date")
+    private Date completedDate;
+
+    // 실행 중인 인스턴스 (묶음마다 leaseUntil 을 연장하고, 지나면 다른 인스턴스가 가져갈 수 있다)
+    @Column(name = "runner", length = 36)
+    private String runner;
+
+    @Column(name = "lease_until")
+    private Date leaseUntil;
+
+    // 현재 묶음을 마치고 멈춤 (실행 중인 인스턴스가 묶음마다 확인)
+    @ColumnDefault("0")
+    @Column(name = "pause_requested", nullable = false)
+    private boolean pauseRequested;
+}
@@ -0,0 +1,36 @@
+package project.service.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 내용(SHA-256) 기준으로 한 번만 저장하는 이미지 파일
+ * 업무 이미지, 업무/프로젝트 썸네일이 같은 파일을 참조하며 refCount 가 0 이 되면 파일을 삭제한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "image_blob")
+public class ImageBlob {
+    @Id
+    @Column(name = "blob_hash", length = 64)
+    private String hash;
+
+    // 처음 저장할 때의 확장자를 붙인 파일 이름 (hash.ext)
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_date", nullable = false)
+    private Date createdDate;
+}
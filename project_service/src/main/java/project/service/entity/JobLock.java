@@ -0,0 +1,29 @@
+package project.service.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 여러 인스턴스에서 스케줄되는 작업의 실행 권한
+ * lockedUntil 이 지난 행을 조건부 UPDATE 로 가져간 인스턴스만 작업을 실행한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "job_lock")
+public class JobLock {
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "locked_until", nullable = false)
+    private Date lockedUntil;
+
+    @Column(name = "locked_by", length = 36)
+    private String lockedBy;
+}
@@ -0,0 +1,36 @@
+package project.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 멤버별 담당 업무 집계 (프로젝트별 행과 project_id = 0 인 전체 합계 행)
+ * 담당자 배정/해제, 업무 상태 변경 이벤트에서 증감으로 유지한다.
+ * 기한 초과는 종료일이 지난 업무를 WorkloadService sweep 이 옮기고 (task.overdue_counted), 완료/종료일 변경 이벤트가 되돌린다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "member_workload")
+public class MemberWorkload {
+    public static final long ALL_PROJECTS = 0L;
+
+    @EmbeddedId
+    private MemberWorkloadId id;
+
+    @Column(name = "open_count", nullable = false)
+    private int openCount;
+
+    // 열린 업무 중 기한 초과
+    @ColumnDefault("0")
+    @Column(name = "overdue_count", nullable = false)
+    private int overdueCount;
+
+    @Column(name = "done_count", nullable = false)
+    private int doneCount;
+}
@@ -0,0 +1,22 @@
+package project.service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class MemberWorkloadId implements Serializable {
+    @Column(name = "user_id")
+    private long userId;
+    // 0 == 전체 프로젝트 합계
+    @Column(name = "project_id")
+    private long projectId;
+}
@@ -54,6 +54,10 @@ public class Project{
     @ColumnDefault("0")
     @Column(name = "child_complete_count", nullable = false)
     private Integer childCompleteCount;
+
+    // 이 프로젝트를 만든 생성 이벤트 레코드 (재처리 시 중복 생성 방지)
+    @Column(name = "create_event_key", length = 300, unique = true)
+    private String createEventKey;
     
     // Add this for the one-to-many relationship with Task
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
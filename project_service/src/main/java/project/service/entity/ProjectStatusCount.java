@@ -0,0 +1,22 @@
+package project.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 프로젝트의 상태(칸반 컬럼)별 업무 수 (모든 depth 포함)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "project_status_count")
+public class ProjectStatusCount {
+    @EmbeddedId
+    private ProjectStatusCountId id;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+}
@@ -0,0 +1,21 @@
+package project.service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class ProjectStatusCountId implements Serializable {
+    @Column(name = "project_id")
+    private long projectId;
+    @Column(name = "status")
+    private int status;
+}
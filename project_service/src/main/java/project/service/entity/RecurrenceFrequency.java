@@ -0,0 +1,52 @@
+package project.service.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * 기준 일시로부터 index 번째 반복 일시
+     * 매번 기준 일시에서 계산하므로 31일 같은 월말 일정이 누적되어 밀리지 않는다.
+     */
+    public LocalDateTime occurrence(LocalDateTime anchor, int interval, long index) {
+        long steps = index * interval;
+        switch (this) {
+            case DAILY:
+                return anchor.plusDays(steps);
+            case WEEKLY:
+                return anchor.plusWeeks(steps);
+            default:
+                return anchor.plusMonths(steps);
+        }
+    }
+
+    /**
+     * from 과 같거나 이후에 시작하는 첫 회차 index (1 이상)
+     * 기간으로 대략 계산한 뒤 월말 보정만큼 앞뒤로 맞춘다.
+     */
+    public long firstIndexFrom(LocalDateTime anchor, int interval, LocalDateTime from) {
+        long index = Math.max(1L, unit().between(anchor, from) / interval);
+        while (index > 1 && !occurrence(anchor, interval, index - 1).isBefore(from)) {
+            index--;
+        }
+        while (occurrence(anchor, interval, index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+
+    private ChronoUnit unit() {
+        switch (this) {
+            case DAILY:
+                return ChronoUnit.DAYS;
+            case WEEKLY:
+                return ChronoUnit.WEEKS;
+            default:
+                return ChronoUnit.MONTHS;
+        }
+    }
+}
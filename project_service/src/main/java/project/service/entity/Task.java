@@ -6,13 +6,31 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "task")
+@DynamicUpdate
+@Table(name = "task",
+    uniqueConstraints = {
+        // 같은 회차가 두 번 생성되지 않도록 (일반 업무는 두 컬럼 모두 null)
+        @UniqueConstraint(
+            name = "task_recurrence_occurrence_uk",
+            columnNames = {"recurrence_id", "recurrence_index"}
+        )
+    },
+    indexes = {
+        // 칸반 컬럼별 keyset 페이지 조회
+        @Index(name = "task_project_status_idx", columnList = "project_id, status, task_id"),
+        // 기한 초과 sweep 대상 조회
+        @Index(name = "task_overdue_idx", columnList = "overdue_counted, end_date")
+    }
+)
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +50,11 @@ public class Task {
     
     @Column(name = "end_date")
     private Date endDate;
+
+    // 담당자 집계(member_workload)에 기한 초과로 더해져 있는지 (WorkloadService sweep 이 켜고, 완료/종료일 변경이 끈다)
+    @ColumnDefault("0")
+    @Column(name = "overdue_counted", nullable = false)
+    private boolean overdueCounted;
     
     @Column(name="thumbnail", length = 255, nullable = true)
     private String thumbnail;
@@ -43,6 +66,13 @@ public class Task {
     
     private int depth;
     
+    // 반복 규칙으로 생성된 업무인 경우 규칙 아이디와 회차
+    @Column(name = "recurrence_id")
+    private Long recurrenceId;
+    
+    @Column(name = "recurrence_index")
+    private Long recurrenceIndex;
+    
     @Column(name = "child_count")
     private Integer childCount = 0;
     
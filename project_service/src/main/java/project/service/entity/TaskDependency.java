@@ -0,0 +1,48 @@
+package project.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 업무 선후 관계 (blockedByTask 가 끝나야 task 를 시작할 수 있음)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "task_dependency",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "task_dependency_uk",
+            columnNames = {"task_id", "blocked_by_task_id"}
+        )
+    },
+    indexes = {
+        @Index(name = "task_dependency_project_idx", columnList = "project_id")
+    }
+)
+public class TaskDependency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dependency_id")
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocked_by_task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task blockedByTask;
+
+    // 프로젝트 단위로 그래프를 조회하기 위한 비정규화 컬럼
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+}
@@ -0,0 +1,66 @@
+package project.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 업무 반복 규칙
+ * task 를 원본으로 하여 nextStartDate 부터 스케줄러가 일정 기간(window) 만큼씩 업무를 생성한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "task_recurrence",
+    indexes = {
+        @Index(name = "task_recurrence_next_idx", columnList = "next_start_date")
+    }
+)
+public class TaskRecurrence {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "recurrence_id")
+    private long id;
+
+    // 원본 업무 (삭제되면 반복 규칙도 삭제)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", length = 10, nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "interval_count", nullable = false)
+    private int interval;
+
+    // 반복 기준 일시 (원본 업무의 시작일)
+    @Column(name = "anchor_date", nullable = false)
+    private Date anchorDate;
+
+    // 원본 업무의 기간 (종료일 - 시작일)
+    @Column(name = "duration_millis", nullable = false)
+    private long durationMillis;
+
+    // 다음에 생성할 회차 (원본 업무가 0회차)
+    @Column(name = "next_index", nullable = false)
+    private long nextIndex;
+
+    @Column(name = "next_start_date", nullable = false)
+    private Date nextStartDate;
+
+    // null 이면 종료일 없음
+    @Column(name = "until_date")
+    private Date untilDate;
+}
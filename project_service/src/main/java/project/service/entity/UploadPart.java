@@ -0,0 +1,41 @@
+package project.service.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 이어 올리기 업로드의 조각 (BlobStore 키 하나)
+ * 쓰기 전에 committed = false 로 만들고, 같은 요청이 offset 을 갱신할 때 committed 로 바꾼다.
+ * committed 가 아닌 조각은 실패하거나 lease 를 잃은 요청이 남긴 것이므로 정리 대상이다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "upload_part", indexes = {
+        @Index(name = "upload_part_upload_idx", columnList = "upload_id")
+})
+public class UploadPart {
+    @Id
+    @Column(name = "blob_key", length = 50)
+    private String blobKey;
+
+    @Column(name = "upload_id", nullable = false, length = 36)
+    private String uploadId;
+
+    @Column(name = "part_offset", nullable = false)
+    private long offset;
+
+    @Column(name = "part_length", nullable = false)
+    private long length;
+
+    @Column(name = "committed", nullable = false)
+    private boolean committed;
+
+    @Column(name = "created_date", nullable = false)
+    private Date createdDate;
+}
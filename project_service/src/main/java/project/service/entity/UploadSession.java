@@ -0,0 +1,54 @@
+package project.service.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 이어 올리기 업로드 (tus 방식)
+ * 받은 바이트는 조각(UploadPart)으로 나누어 BlobStore 에 쓰고 uploadOffset 을 기록한다. 끝까지 받으면 completedDate 와 SHA-256 을 채운다.
+ * 이어 쓰는 동안에는 writer 와 leaseUntil 로 다른 인스턴스의 동시 쓰기를 막는다.
+ * 업무 생성/수정 이벤트가 id 로 참조하면 이미지 저장소로 옮기고 행을 삭제한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "upload_session")
+public class UploadSession {
+    @Id
+    @Column(name = "upload_id", length = 36)
+    private String id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "upload_length", nullable = false)
+    private long uploadLength;
+
+    @Column(name = "upload_offset", nullable = false)
+    private long uploadOffset;
+
+    @Column(name = "created_date", nullable = false)
+    private Date createdDate;
+
+    @Column(name = "completed_date")
+    private Date completedDate;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 이어 쓰는 중인 요청 (lease 가 지나면 다른 요청이 가져갈 수 있다)
+    @Column(name = "writer", length = 36)
+    private String writer;
+
+    @Column(name = "lease_until")
+    private Date leaseUntil;
+
+    public boolean isCompleted() {
+        return completedDate != null;
+    }
+}
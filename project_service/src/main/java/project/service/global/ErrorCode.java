@@ -30,13 +30,23 @@ public enum ErrorCode {
     MEMBER_DUPLICATE_IN_TASK(400,"M002","이미 업무에 존재하는 멤버입니다."),
     
     // Project
+
+    // Task
+    TASK_DEPENDENCY_CYCLE(400, "T001", "업무 선후 관계에 순환이 발생합니다."),
+
+    // Upload
+    UPLOAD_NOT_FOUND(404, "F001", "업로드를 찾을 수 없습니다."),
+    UPLOAD_CONFLICT(409, "F002", "업로드 offset 이 일치하지 않거나 이미 처리 중입니다."),
+    UPLOAD_CHECKSUM_MISMATCH(460, "F003", "업로드한 내용의 checksum 이 일치하지 않습니다."),
+    UPLOAD_TOO_LARGE(413, "F004", "업로드 가능한 크기를 초과하였습니다."),
 	
 	// Global
 	UNKNOWN_ERROR(500, "G001", "시스템에 오류가 발생 하였습니다. 관리자에게 문의 해주세요."),
 	IDENTICAL_VALUE(400, "G002", "동일한 값은 변경할 수 없습니다."),
 	SAVING_IMG_FAILED(400, "G003", "이미지 저장을 실패 하였습니다."),
     DELETE_IMG_FAILED(400, "G004", "이미지 삭제를 실패 하였습니다."),
-    IMG_NOT_FOUND(400, "G005", "이미지를 찾을 수 없습니다.");
+    IMG_NOT_FOUND(400, "G005", "이미지를 찾을 수 없습니다."),
+    ARCHIVE_BUSY(503, "G006", "다운로드 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final String code;
     private final String message;
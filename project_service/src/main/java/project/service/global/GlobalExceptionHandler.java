@@ -4,6 +4,7 @@ import java.nio.file.AccessDeniedException;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
@@ -14,9 +15,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import lombok.extern.slf4j.Slf4j;
+import project.service.global.exception.ArchiveBusyException;
 import project.service.global.exception.DeleteImageFailedException;
+import project.service.global.exception.DependencyCycleException;
 import project.service.global.exception.ImageNotFoundException;
 import project.service.global.exception.SavingImageFailedException;
+import project.service.global.exception.UploadChecksumMismatchException;
+import project.service.global.exception.UploadConflictException;
+import project.service.global.exception.UploadNotFoundException;
+import project.service.global.exception.UploadTooLargeException;
 
 @ControllerAdvice
 @Slf4j
@@ -105,4 +112,47 @@ public class GlobalExceptionHandler {
     	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.IMG_NOT_FOUND.getStatus()));
     }
     
-}
\ No newline at end of file
+    @ExceptionHandler(DependencyCycleException.class)
+    protected ResponseEntity<ErrorResponse> handleDependencyCycleException(DependencyCycleException e) {
+    	log.error(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.TASK_DEPENDENCY_CYCLE);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.TASK_DEPENDENCY_CYCLE.getStatus()));
+    }
+    
+    @ExceptionHandler(ArchiveBusyException.class)
+    protected ResponseEntity<ErrorResponse> handleArchiveBusyException(ArchiveBusyException e) {
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.ARCHIVE_BUSY);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.ARCHIVE_BUSY.getStatus()));
+    }
+    
+    @ExceptionHandler(UploadNotFoundException.class)
+    protected ResponseEntity<ErrorResponse> handleUploadNotFoundException(UploadNotFoundException e) {
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.UPLOAD_NOT_FOUND);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.UPLOAD_NOT_FOUND.getStatus()));
+    }
+    
+    @ExceptionHandler(UploadConflictException.class)
+    protected ResponseEntity<ErrorResponse> handleUploadConflictException(UploadConflictException e) {
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.UPLOAD_CONFLICT);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.UPLOAD_CONFLICT.getStatus()));
+    }
+    
+    // 460 은 HttpStatus 에 없는 tus 상태 코드
+    @ExceptionHandler(UploadChecksumMismatchException.class)
+    protected ResponseEntity<ErrorResponse> handleUploadChecksumMismatchException(UploadChecksumMismatchException e) {
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.UPLOAD_CHECKSUM_MISMATCH);
+    	return new ResponseEntity<>(response, HttpStatusCode.valueOf(ErrorCode.UPLOAD_CHECKSUM_MISMATCH.getStatus()));
+    }
+    
+    @ExceptionHandler(UploadTooLargeException.class)
+    protected ResponseEntity<ErrorResponse> handleUploadTooLargeException(UploadTooLargeException e) {
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.UPLOAD_TOO_LARGE);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.UPLOAD_TOO_LARGE.getStatus()));
+    }
+    
+}
@@ -0,0 +1,204 @@
+package project.service.global.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import project.service.global.storage.BlobMetadata;
+import project.service.global.storage.BlobStore;
+import project.service.global.storage.StoredFile;
+
+/**
+ * 자주 요청되는 썸네일 내용 캐시
+ * 로컬 파일은 memory-mapped buffer, 원격 저장소(S3) 파일은 off-heap(direct) buffer 로 들고 있어 요청마다 파일을 열고 읽지 않는다.
+ * Caffeine 의 W-TinyLFU 가 요청 빈도로 들일지/내보낼지 정하므로 한 번 요청된 파일이 자주 쓰이는 파일을 밀어내지 않는다.
+ * 캐시하는 파일은 이름이 UUID 또는 내용 hash 라 내용이 바뀌지 않고 (원자적 이동으로만 생성), 삭제될 때 무효화한다.
+ * 캐시할 수 없는 파일(없거나 max-entry-bytes 초과)은 잠시 표시해 두어 요청마다 파일을 열어 보지 않는다.
+ * 표시는 메모리 캐시를 건너뛴다는 뜻일 뿐이라 (파일로 보냄) 나중에 생긴 파생 이미지도 그대로 응답된다.
+ */
+@Component
+@Slf4j
+public class HotContentCache {
+	private static final String BLOB_PREFIX = "blob:";
+	private static final String FILE_PREFIX = "file:";
+
+	private final BlobStore blobStore;
+	private final Cache<String, HotContent> cache;
+	private final Cache<String, Boolean> uncacheable;
+	private final AtomicLong residentBytes = new AtomicLong();
+	private final long maxEntryBytes;
+
+	public HotContentCache(BlobStore blobStore, MeterRegistry meterRegistry,
+			@Value("${cache.hot-content.maximum-bytes:67108864}") long maximumBytes,
+			@Value("${cache.hot-content.max-entry-bytes:1048576}") long maxEntryBytes,
+			@Value("${cache.hot-content.uncacheable-ttl-seconds:60}") long uncacheableTtlSeconds) {
+		this.blobStore = blobStore;
+		this.maxEntryBytes = maxEntryBytes;
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maximumBytes)
+				.<String, HotContent>weigher((key, content) -> content.getLength())
+				.removalListener((key, content, cause) -> {
+					if (content != null) {
+						residentBytes.addAndGet(-content.getLength());
+					}
+				})
+				.recordStats()
+				.build();
+		this.uncacheable = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(uncacheableTtlSeconds))
+				.maximumSize(10_000)
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "hotContent");
+		Gauge.builder("hot.content.cache.resident.bytes", residentBytes, AtomicLong::get)
+				.description("캐시에 올라와 있는 썸네일 내용 크기")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * @return 캐시할 수 없는 파일(없거나 max-entry-bytes 초과)이면 null
+	 */
+	public HotContent get(StoredFile file) {
+		String key = file.isBlob() ? BLOB_PREFIX + file.getKey() : FILE_PREFIX + file.getPath().toAbsolutePath().normalize();
+		HotContent content = cache.getIfPresent(key);
+		if (content != null || uncacheable.getIfPresent(key) != null) {
+			return content;
+		}
+		content = cache.get(key, k -> load(file));
+		if (content == null) {
+			uncacheable.put(key, Boolean.TRUE);
+		}
+		return content;
+	}
+
+	public void invalidate(Path path) {
+		String key = FILE_PREFIX + path.toAbsolutePath().normalize();
+		cache.invalidate(key);
+		uncacheable.invalidate(key);
+	}
+
+	/**
+	 * prefix 로 시작하는 이미지 저장소 키 모두 무효화 (원본과 파생 이미지)
+	 */
+	public void invalidateBlobs(String keyPrefix) {
+		cache.asMap().keySet().removeIf(key -> key.startsWith(BLOB_PREFIX + keyPrefix));
+		uncacheable.asMap().keySet().removeIf(key -> key.startsWith(BLOB_PREFIX + keyPrefix));
+	}
+
+	private HotContent load(StoredFile file) {
+		try {
+			if (!file.isBlob()) {
+				return map(file.getFileName(), file.getPath());
+			}
+			Path local = blobStore.localPath(file.getKey());
+			if (local != null) {
+				return map(file.getKey(), local);
+			}
+			return copy(file.getKey());
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException e) {
+			log.warn("Failed to load hot content: {}", file.getFileName(), e);
+			return null;
+		}
+	}
+
+	// 매핑은 파일을 닫은 뒤에도 유지되고, 버퍼가 GC 될 때 해제된다.
+	private HotContent map(String name, Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length == 0 || length > maxEntryBytes) {
+				return null;
+			}
+			long lastModified = Files.getLastModifiedTime(path).toMillis();
+			ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			// StaticContentService 가 파일로 보낼 때와 같은 ETag
+			return admit(new HotContent(name, content, lastModified,
+					"\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\""));
+		}
+	}
+
+	private HotContent copy(String key) throws IOException {
+		BlobMetadata metadata = blobStore.stat(key);
+		if (metadata == null || metadata.getSize() == 0 || metadata.getSize() > maxEntryBytes) {
+			return null;
+		}
+		ByteBuffer content = ByteBuffer.allocateDirect((int) metadata.getSize());
+		try (InputStream input = blobStore.open(key, 0, metadata.getSize() - 1)) {
+			byte[] chunk = new byte[8192];
+			int read;
+			while (content.hasRemaining() && (read = input.read(chunk, 0, Math.min(chunk.length, content.remaining()))) > 0) {
+				content.put(chunk, 0, read);
+			}
+		}
+		// 읽는 동안 재인코딩으로 교체되었으면 담지 않는다.
+		BlobMetadata after = blobStore.stat(key);
+		if (content.hasRemaining() || after == null || after.getSize() != metadata.getSize()
+				|| after.getLastModified() != metadata.getLastModified()) {
+			return null;
+		}
+		content.flip();
+		// StaticContentService 가 저장소에서 보낼 때와 같은 ETag
+		return admit(new HotContent(key, content, metadata.getLastModified(),
+				"\"" + Long.toHexString(metadata.getSize()) + "-" + Long.toHexString(metadata.getLastModified()) + "\""));
+	}
+
+	private HotContent admit(HotContent content) {
+		residentBytes.addAndGet(content.getLength());
+		return content;
+	}
+
+	public static class HotContent {
+		private final String fileName;
+		private final ByteBuffer content;
+		private final long lastModified;
+		private final String etag;
+
+		HotContent(String fileName, ByteBuffer content, long lastModified, String etag) {
+			this.fileName = fileName;
+			this.content = content.asReadOnlyBuffer();
+			this.lastModified = lastModified;
+			this.etag = etag;
+		}
+
+		public String getFileName() {
+			return fileName;
+		}
+
+		/**
+		 * 요청마다 위치가 독립적인 사본 (내용은 공유)
+		 */
+		public ByteBuffer getContent() {
+			return content.duplicate();
+		}
+
+		public int getLength() {
+			return content.capacity();
+		}
+
+		public long getLastModified() {
+			return lastModified;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+	}
+}
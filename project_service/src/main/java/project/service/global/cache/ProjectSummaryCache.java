@@ -0,0 +1,103 @@
+package project.service.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import project.service.dto.response.ProjectSummaryDto;
+import project.service.global.util.AfterCommit;
+import project.service.global.util.InClause;
+import project.service.repository.ProjectRepository;
+
+/**
+ * 대시보드 프로젝트 카드 캐시
+ * 프로젝트/업무 변경 이벤트 처리 시 커밋 이후에 무효화 된다.
+ * expire-after-write 는 무효화 누락에 대비한 안전장치
+ * 조회를 시작한 뒤 무효화된 프로젝트는 조회 결과를 캐시에 넣지 않는다 (커밋 전 값을 읽은 조회가 무효화 뒤에 들어가는 경우).
+ */
+@Component
+@Slf4j
+public class ProjectSummaryCache {
+	private final ProjectRepository projectRepository;
+	private final Cache<Long, ProjectSummaryDto> cache;
+	// 프로젝트별 마지막 무효화 순번 (조회 중 무효화 여부 확인용, 조회 시간보다 충분히 길게 유지)
+	private final Cache<Long, Long> invalidations;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Counter invalidationCounter;
+
+	public ProjectSummaryCache(ProjectRepository projectRepository, MeterRegistry meterRegistry,
+			@Value("${cache.project-summary.maximum-size:10000}") long maximumSize,
+			@Value("${cache.project-summary.expire-after-write-minutes:60}") long expireAfterWriteMinutes) {
+		this.projectRepository = projectRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+				.recordStats()
+				.build();
+		this.invalidations = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofMinutes(10))
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "projectSummary");
+		this.invalidationCounter = meterRegistry.counter("project.summary.cache.invalidations");
+	}
+
+	/**
+	 * 캐시에 없는 프로젝트만 IN 쿼리로 한 번에 조회
+	 * 존재하지 않는 프로젝트 아이디는 결과에 포함되지 않는다.
+	 */
+	public Map<Long, ProjectSummaryDto> getAll(Collection<Long> projectIds) {
+		Map<Long, ProjectSummaryDto> summaries = new HashMap<>(cache.getAllPresent(projectIds));
+		Set<Long> missing = new HashSet<>(projectIds);
+		missing.removeAll(summaries.keySet());
+		if (missing.isEmpty()) {
+			return summaries;
+		}
+		long loadStarted = sequence.get();
+		load(missing).forEach((projectId, summary) -> {
+			summaries.put(projectId, summary);
+			// 무효화와 같은 키의 compute 로 순서를 맞춘다
+			cache.asMap().compute(projectId, (key, current) -> {
+				Long invalidated = invalidations.getIfPresent(key);
+				return invalidated != null && invalidated > loadStarted ? current : summary;
+			});
+		});
+		return summaries;
+	}
+
+	public void evictAfterCommit(long projectId) {
+		AfterCommit.run(() -> {
+			cache.asMap().compute(projectId, (key, current) -> {
+				invalidations.put(key, sequence.incrementAndGet());
+				return null;
+			});
+			invalidationCounter.increment();
+		});
+	}
+
+	private Map<Long, ProjectSummaryDto> load(Set<Long> projectIds) {
+		Map<Long, ProjectSummaryDto> summaries = new HashMap<>(projectIds.size() * 2);
+		for (List<Long> chunk : InClause.partition(new ArrayList<Long>(projectIds))) {
+			for (ProjectSummaryDto summary : projectRepository.findSummariesByIdIn(chunk)) {
+				summaries.put(summary.getProjectId(), summary);
+			}
+		}
+		return summaries;
+	}
+}
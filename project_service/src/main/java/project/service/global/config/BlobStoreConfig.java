@@ -0,0 +1,68 @@
+package project.service.global.config;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import project.service.global.storage.BlobStore;
+import project.service.global.storage.LocalBlobStore;
+import project.service.global.storage.S3BlobStore;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+/**
+ * 이미지 저장소 선택 (files.blob-store.type = local | s3)
+ */
+@Configuration
+public class BlobStoreConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "files.blob-store.type", havingValue = "local", matchIfMissing = true)
+	public BlobStore localBlobStore(
+			@Value("${files.upload-dir.blob:${files.upload-dir.task.description}/blob}") String blobDir) {
+		return new LocalBlobStore(Paths.get(blobDir));
+	}
+
+	/**
+	 * endpoint 를 지정하면 MinIO 같은 S3 호환 서버를 쓴다 (MinIO 는 path-style 필요)
+	 * access-key 가 없으면 기본 자격 증명 (환경 변수, 인스턴스 역할 등) 을 쓴다.
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "files.blob-store.type", havingValue = "s3")
+	public S3Client blobS3Client(@Value("${files.blob-store.s3.endpoint:}") String endpoint,
+			@Value("${files.blob-store.s3.region:ap-northeast-2}") String region,
+			@Value("${files.blob-store.s3.access-key:}") String accessKey,
+			@Value("${files.blob-store.s3.secret-key:}") String secretKey,
+			@Value("${files.blob-store.s3.path-style:false}") boolean pathStyle) {
+		S3ClientBuilder builder = S3Client.builder()
+				.region(Region.of(region))
+				.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyle).build());
+		if (!endpoint.isEmpty()) {
+			builder.endpointOverride(URI.create(endpoint));
+		}
+		builder.credentialsProvider(accessKey.isEmpty()
+				? DefaultCredentialsProvider.create()
+				: StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+		return builder.build();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "files.blob-store.type", havingValue = "s3")
+	public BlobStore s3BlobStore(S3Client blobS3Client,
+			@Value("${files.blob-store.s3.bucket}") String bucket,
+			@Value("${files.blob-store.s3.prefix:blob/}") String prefix,
+			@Value("${files.blob-store.s3.multipart-threshold-bytes:8388608}") long multipartThreshold,
+			@Value("${files.blob-store.s3.part-size-bytes:8388608}") int partSize) {
+		// S3 multipart 의 마지막이 아닌 part 는 5MB 이상이어야 한다.
+		return new S3BlobStore(blobS3Client, bucket, prefix, multipartThreshold, Math.max(partSize, 5 * 1024 * 1024));
+	}
+}
@@ -0,0 +1,104 @@
+package project.service.global.config;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+	/**
+	 * 카운터 정합성 작업용 (큐가 차면 호출한 스레드에서 실행하여 적재량을 제한)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor counterReconcileExecutor(@Value("${reconcile.counter.threads:4}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 2);
+		executor.setThreadNamePrefix("counter-reconcile-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 커밋 이후 파일 쓰기/삭제용 (큐가 차면 커밋한 스레드에서 실행하여 파일 작업을 잃지 않도록 한다)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor fileIoExecutor(@Value("${files.io.threads:2}") int threads,
+			@Value("${files.io.queue-capacity:500}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("file-io-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		// 종료 시 남은 쓰기를 마치고 내려간다.
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 썸네일 파생 이미지 생성용 (큐가 차면 버리고, 조회 시 원본으로 응답하면서 다시 예약)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageDerivativeExecutor(@Value("${image.derivative.threads:2}") int threads,
+			@Value("${image.derivative.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("image-derivative-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * ZIP 다운로드 응답 전용 (ImageArchiveService 가 WebAsyncTask 로 지정, 다른 MVC 비동기 응답은 기본 설정을 쓴다)
+	 * ImageArchiveService 가 동시 실행 수를 threads 이하로 제한하므로 큐가 차지 않는다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor archiveExecutor(@Value("${files.archive.max-concurrent:4}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads);
+		executor.setThreadNamePrefix("archive-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 이미지 재인코딩 작업의 진행(묶음 조회, 진행 위치 기록)용, 한 번에 하나만 실행
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageBackfillExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		// 이전 실행 스레드가 반환되기 직전에 다시 시작해도 거절되지 않도록 1
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("image-backfill-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 이미지 재인코딩(디코딩, 축소, 인코딩)용 CPU 예산
+	 * parallelism 개 스레드만 쓰므로 API 요청 처리와 CPU 를 나눠 쓴다. 쓰지 않을 때는 스레드가 정리된다.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ForkJoinPool imageBackfillPool(@Value("${image.backfill.parallelism:2}") int parallelism) {
+		return new ForkJoinPool(parallelism);
+	}
+}
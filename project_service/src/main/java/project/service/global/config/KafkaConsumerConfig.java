@@ -1,35 +1,65 @@
 package project.service.global.config;
 
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+import project.service.global.exception.DependencyCycleException;
+import project.service.global.exception.UploadChecksumMismatchException;
+import project.service.global.exception.UploadNotFoundException;
+import project.service.global.exception.UploadTooLargeException;
+import project.service.kafka.AvroEventDeserializer;
 import project.service.kafka.event.*;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
 public class KafkaConsumerConfig {
 	private final ApplicationConfig applicationConfig;
+	private final KafkaTemplate<String, Object> kafkaTemplate;
+
+	@Value("${kafka.consumer.retry.interval-ms:1000}")
+	private long retryIntervalMs;
+
+	@Value("${kafka.consumer.retry.max-attempts:3}")
+	private long retryMaxAttempts;
+
 	private Map<String, Object> commonConsumerProps(String valueType) {
 		Map<String, Object> consumerProps = new HashMap<>();
 		consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, applicationConfig.getKafkaHost());
 		consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
 		consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
 		consumerProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class.getName());
-		consumerProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+		// event-format 헤더가 없는 메시지는 JSON 으로 읽는다
+		consumerProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, AvroEventDeserializer.class.getName());
 		consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
 		consumerProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, valueType);
 		return consumerProps;
@@ -41,8 +71,50 @@ public class KafkaConsumerConfig {
 		factory.setConsumerFactory(consumerFactory);
 		factory.getContainerProperties().setGroupId("console-consumer-" + System.currentTimeMillis());
 		factory.setConcurrency(3);
+		factory.setCommonErrorHandler(kafkaErrorHandler());
 		return factory;
 	}
+
+	/**
+	 * 리스너에서 예외가 나면 같은 레코드를 retry.interval-ms 간격으로 다시 처리하고 (처음 포함 max-attempts 번),
+	 * 그래도 실패하면 <토픽>-dlt 로 보내고 다음 레코드로 넘어간다.
+	 * 다시 해도 결과가 같은 예외(역직렬화 실패, 없는 프로젝트, 순환 의존, 업로드 불일치)는 바로 DLT 로 보낸다.
+	 */
+	@Bean
+	public DefaultErrorHandler kafkaErrorHandler() {
+		DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer(),
+				new FixedBackOff(retryIntervalMs, Math.max(0, retryMaxAttempts - 1)));
+		errorHandler.addNotRetryableExceptions(EntityNotFoundException.class, DependencyCycleException.class,
+				UploadChecksumMismatchException.class, UploadNotFoundException.class, UploadTooLargeException.class);
+		return errorHandler;
+	}
+
+	// 역직렬화에 실패한 레코드는 원래 바이트 그대로, 나머지는 JSON 으로 보낸다 (파티션은 DLT 토픽에 맡김)
+	private DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+		Map<Class<?>, KafkaOperations<? extends Object, ? extends Object>> templates = new LinkedHashMap<>();
+		templates.put(byte[].class, rawTemplate());
+		templates.put(Object.class, kafkaTemplate);
+		return new DeadLetterPublishingRecoverer(templates,
+				(record, e) -> new TopicPartition(record.topic() + "-dlt", -1)) {
+			@Override
+			protected ProducerRecord<Object, Object> createProducerRecord(ConsumerRecord<?, ?> record,
+					TopicPartition topicPartition, Headers headers, byte[] key, byte[] value) {
+				// 다시 직렬화한 값은 JSON 이므로 원래 레코드의 event-format: avro 헤더를 떼어 낸다
+				if (value == null) {
+					headers.remove(AvroEventDeserializer.FORMAT_HEADER);
+				}
+				return super.createProducerRecord(record, topicPartition, headers, key, value);
+			}
+		};
+	}
+
+	private KafkaTemplate<String, byte[]> rawTemplate() {
+		Map<String, Object> producerProps = new HashMap<>();
+		producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, applicationConfig.getKafkaHost());
+		producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+	}
 	
 	@Bean
 	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaProjectCreateEventListenerContainerFactory() {
@@ -98,6 +170,34 @@ public class KafkaConsumerConfig {
 		return createFactory(DeleteFromMemberFromTaskEvent.class.getName());
 	}
 	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskStatusBulkUpdateEventListenerContainerFactory() {
+		return createFactory(TaskStatusBulkUpdateEvent.class.getName());
+	}
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskDependencyAddEventListenerContainerFactory() {
+		return createFactory(TaskDependencyAddEvent.class.getName());
+	}
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskDependencyDeleteEventListenerContainerFactory() {
+		return createFactory(TaskDependencyDeleteEvent.class.getName());
+	}
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskRecurrenceCreateEventListenerContainerFactory() {
+		return createFactory(TaskRecurrenceCreateEvent.class.getName());
+	}
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskRecurrenceDeleteEventListenerContainerFactory() {
+		return createFactory(TaskRecurrenceDeleteEvent.class.getName());
+	}
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskPatchEventListenerContainerFactory() {
+		return createFactory(TaskPatchEvent.class.getName());
+	}
+	@Bean
+	public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaTaskMoveEventListenerContainerFactory() {
+		return createFactory(TaskMoveEvent.class.getName());
+	}
+	@Bean
     public KafkaAdmin kafkaAdmin() {
         Map<String, Object> configs = new HashMap<>();
         configs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, applicationConfig.getKafkaHost());
@@ -0,0 +1,11 @@
+package project.service.global.exception;
+
+public class ArchiveBusyException extends RuntimeException{
+	public ArchiveBusyException(String message) {
+		super(message);
+	}
+	
+	public ArchiveBusyException() {
+		
+	}
+}
@@ -0,0 +1,11 @@
+package project.service.global.exception;
+
+public class DependencyCycleException extends RuntimeException{
+	public DependencyCycleException(String message) {
+		super(message);
+	}
+	
+	public DependencyCycleException() {
+		
+	}
+}
@@ -0,0 +1,11 @@
+package project.service.global.exception;
+
+public class UploadChecksumMismatchException extends RuntimeException{
+	public UploadChecksumMismatchException(String message) {
+		super(message);
+	}
+	
+	public UploadChecksumMismatchException() {
+		
+	}
+}
@@ -0,0 +1,11 @@
+package project.service.global.exception;
+
+public class UploadConflictException extends RuntimeException{
+	public UploadConflictException(String message) {
+		super(message);
+	}
+	
+	public UploadConflictException() {
+		
+	}
+}
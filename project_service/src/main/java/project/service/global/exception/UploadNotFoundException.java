@@ -0,0 +1,11 @@
+package project.service.global.exception;
+
+public class UploadNotFoundException extends RuntimeException{
+	public UploadNotFoundException(String message) {
+		super(message);
+	}
+	
+	public UploadNotFoundException() {
+		
+	}
+}
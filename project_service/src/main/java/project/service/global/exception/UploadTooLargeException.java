@@ -0,0 +1,11 @@
+package project.service.global.exception;
+
+public class UploadTooLargeException extends RuntimeException{
+	public UploadTooLargeException(String message) {
+		super(message);
+	}
+	
+	public UploadTooLargeException() {
+		
+	}
+}
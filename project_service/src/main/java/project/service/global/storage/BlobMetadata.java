@@ -0,0 +1,25 @@
+package project.service.global.storage;
+
+public class BlobMetadata {
+	private final String key;
+	private final long size;
+	private final long lastModified;
+
+	public BlobMetadata(String key, long size, long lastModified) {
+		this.key = key;
+		this.size = size;
+		this.lastModified = lastModified;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public long getLastModified() {
+		return lastModified;
+	}
+}
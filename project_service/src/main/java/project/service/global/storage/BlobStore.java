@@ -0,0 +1,53 @@
+package project.service.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 저장소 파일을 보관하는 곳 (로컬 디스크 또는 S3 호환 object storage)
+ * 키는 내용 hash 로 만든 파일 이름(hash.ext, hash_크기.ext)이라 같은 키의 내용은 바뀌지 않는다.
+ */
+public interface BlobStore {
+
+	/**
+	 * 다른 요청이 반쯤 쓰인 내용을 읽지 않도록 저장 (같은 키가 이미 있으면 덮어써도 내용은 같다)
+	 */
+	void put(String key, byte[] content) throws IOException;
+
+	boolean exists(String key);
+
+	/**
+	 * @return 없으면 null
+	 */
+	BlobMetadata stat(String key) throws IOException;
+
+	/**
+	 * start 부터 end 까지(포함) 읽는 스트림
+	 */
+	InputStream open(String key, long start, long end) throws IOException;
+
+	void delete(String key) throws IOException;
+
+	/**
+	 * prefix 로 시작하는 키 모두 삭제 (원본과 함께 파생 이미지 삭제)
+	 */
+	void deleteByPrefix(String prefix) throws IOException;
+
+	/**
+	 * 저장된 키를 한 번에 메모리에 올리지 않고 차례로 전달
+	 */
+	void forEach(Consumer<BlobMetadata> visitor) throws IOException;
+
+	/**
+	 * 쓰다가 중단된 임시 파일이나 multipart upload 중 cutoff 이전에 시작된 것을 정리
+	 * @return 정리한 건수
+	 */
+	int purgeIncomplete(long cutoffMillis) throws IOException;
+
+	/**
+	 * 로컬 파일이면 경로 (zero-copy 전송용), 아니면 null
+	 */
+	Path localPath(String key);
+}
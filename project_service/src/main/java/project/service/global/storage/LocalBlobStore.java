@@ -0,0 +1,222 @@
+package project.service.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 디스크 저장소
+ * 키 앞 4글자로 root/ab/cd/키 두 단계 하위 디렉토리에 나누어 한 디렉토리의 항목 수를 제한한다.
+ * 나누기 전에 root 바로 아래 저장된 파일도 읽기/삭제 시 함께 찾는다.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+	private static final String TEMP_PREFIX = ".upload-";
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final Path root;
+
+	public LocalBlobStore(Path root) {
+		this.root = root;
+	}
+
+	@Override
+	public void put(String key, byte[] content) throws IOException {
+		Path target = shardPath(key);
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, TEMP_SUFFIX);
+		try {
+			Files.write(temp, content);
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.exists(shardPath(key)) || Files.exists(flatPath(key));
+	}
+
+	@Override
+	public BlobMetadata stat(String key) throws IOException {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(localPath(key), BasicFileAttributes.class);
+			return attributes.isRegularFile()
+					? new BlobMetadata(key, attributes.size(), attributes.lastModifiedTime().toMillis())
+					: null;
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public InputStream open(String key, long start, long end) throws IOException {
+		FileChannel channel = FileChannel.open(localPath(key), StandardOpenOption.READ);
+		channel.position(start);
+		return new RangeInputStream(Channels.newInputStream(channel), end - start + 1);
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		Files.deleteIfExists(shardPath(key));
+		Files.deleteIfExists(flatPath(key));
+	}
+
+	@Override
+	public void deleteByPrefix(String prefix) throws IOException {
+		deleteMatching(shardPath(prefix).getParent(), prefix);
+		deleteMatching(root, prefix);
+	}
+
+	@Override
+	public void forEach(Consumer<BlobMetadata> visitor) throws IOException {
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		try (DirectoryStream<Path> first = Files.newDirectoryStream(root)) {
+			for (Path level1 : first) {
+				if (Files.isDirectory(level1)) {
+					try (DirectoryStream<Path> second = Files.newDirectoryStream(level1)) {
+						for (Path level2 : second) {
+							if (Files.isDirectory(level2)) {
+								visitFiles(level2, visitor);
+							}
+						}
+					}
+				} else {
+					visit(level1, visitor);
+				}
+			}
+		}
+	}
+
+	@Override
+	public int purgeIncomplete(long cutoffMillis) throws IOException {
+		int[] purged = new int[1];
+		walkAll(path -> {
+			String name = path.getFileName().toString();
+			try {
+				if (isTempFile(name)
+						&& Files.getLastModifiedTime(path).toMillis() < cutoffMillis && Files.deleteIfExists(path)) {
+					purged[0]++;
+				}
+			} catch (IOException e) {
+				log.warn("Failed to delete temp file: {}", path);
+			}
+		});
+		return purged[0];
+	}
+
+	@Override
+	public Path localPath(String key) {
+		Path sharded = shardPath(key);
+		if (Files.exists(sharded)) {
+			return sharded;
+		}
+		Path flat = flatPath(key);
+		return Files.exists(flat) ? flat : sharded;
+	}
+
+	// 키 앞 4글자 (hash 의 앞부분) 로 두 단계 하위 디렉토리 결정
+	private Path shardPath(String key) {
+		String name = fileName(key);
+		if (name.length() < 4) {
+			return root.resolve(name);
+		}
+		return root.resolve(name.substring(0, 2)).resolve(name.substring(2, 4)).resolve(name);
+	}
+
+	private Path flatPath(String key) {
+		return root.resolve(fileName(key));
+	}
+
+	// 경로가 포함된 키가 들어와도 저장소 밖을 가리키지 않도록 파일 이름만 사용
+	private String fileName(String key) {
+		Path name = Paths.get(key).getFileName();
+		if (name == null) {
+			throw new IllegalArgumentException("Invalid blob key: " + key);
+		}
+		return name.toString();
+	}
+
+	private void deleteMatching(Path dir, String prefix) throws IOException {
+		if (!Files.isDirectory(dir)) {
+			return;
+		}
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir, fileName(prefix) + "*")) {
+			for (Path entry : entries) {
+				if (Files.isRegularFile(entry)) {
+					Files.deleteIfExists(entry);
+				}
+			}
+		}
+	}
+
+	private void visitFiles(Path dir, Consumer<BlobMetadata> visitor) throws IOException {
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+			for (Path entry : entries) {
+				visit(entry, visitor);
+			}
+		}
+	}
+
+	// 임시 파일은 purgeIncomplete 에서 정리하므로 전달하지 않는다.
+	private void visit(Path path, Consumer<BlobMetadata> visitor) {
+		String name = path.getFileName().toString();
+		if (isTempFile(name)) {
+			return;
+		}
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			if (attributes.isRegularFile()) {
+				visitor.accept(new BlobMetadata(name, attributes.size(), attributes.lastModifiedTime().toMillis()));
+			}
+		} catch (IOException e) {
+			log.debug("Skipped unreadable entry: {}", path);
+		}
+	}
+
+	// 이전 버전의 파생 이미지 임시 파일(.derivative-*.tmp)도 포함
+	private boolean isTempFile(String name) {
+		return (name.startsWith(TEMP_PREFIX) || name.startsWith(".derivative-")) && name.endsWith(TEMP_SUFFIX);
+	}
+
+	private void walkAll(Consumer<Path> action) throws IOException {
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		try (DirectoryStream<Path> first = Files.newDirectoryStream(root)) {
+			for (Path level1 : first) {
+				if (!Files.isDirectory(level1)) {
+					action.accept(level1);
+					continue;
+				}
+				try (DirectoryStream<Path> second = Files.newDirectoryStream(level1)) {
+					for (Path level2 : second) {
+						if (!Files.isDirectory(level2)) {
+							continue;
+						}
+						try (DirectoryStream<Path> files = Files.newDirectoryStream(level2)) {
+							for (Path file : files) {
+								action.accept(file);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+}
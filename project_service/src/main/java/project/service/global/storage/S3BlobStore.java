@@ -0,0 +1,243 @@
+package project.service.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 호환 object storage 저장소 (AWS S3, MinIO 등)
+ * 객체 이름은 prefix + 키 앞 2글자 + "/" + 키 로 나누어 목록 조회와 파티션 부하를 분산한다.
+ * multipartThreshold 이상인 내용은 multipart upload 로 올리고, 실패하면 upload 를 취소한다.
+ * 객체는 완성된 뒤에만 보이므로 반쯤 쓰인 내용을 읽을 일은 없다.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore {
+	private static final int DELETE_BATCH_SIZE = 1000;
+
+	private final S3Client s3Client;
+	private final String bucket;
+	private final String prefix;
+	private final long multipartThreshold;
+	private final int partSize;
+
+	public S3BlobStore(S3Client s3Client, String bucket, String prefix, long multipartThreshold, int partSize) {
+		this.s3Client = s3Client;
+		this.bucket = bucket;
+		this.prefix = prefix == null || prefix.isEmpty() || prefix.endsWith("/") ? nullToEmpty(prefix) : prefix + "/";
+		this.multipartThreshold = multipartThreshold;
+		this.partSize = partSize;
+	}
+
+	@Override
+	public void put(String key, byte[] content) throws IOException {
+		String objectKey = objectKey(key);
+		try {
+			if (content.length < multipartThreshold) {
+				s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(objectKey).build(),
+						RequestBody.fromBytes(content));
+			} else {
+				putMultipart(objectKey, content);
+			}
+		} catch (SdkException e) {
+			throw new IOException("Failed to upload blob: " + key, e);
+		}
+	}
+
+	@Override
+	public boolean exists(String key) {
+		try {
+			return head(key) != null;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public BlobMetadata stat(String key) throws IOException {
+		HeadObjectResponse head = head(key);
+		return head == null ? null : new BlobMetadata(key, head.contentLength(), head.lastModified().toEpochMilli());
+	}
+
+	@Override
+	public InputStream open(String key, long start, long end) throws IOException {
+		try {
+			return s3Client.getObject(GetObjectRequest.builder()
+					.bucket(bucket)
+					.key(objectKey(key))
+					.range("bytes=" + start + "-" + end)
+					.build());
+		} catch (SdkException e) {
+			throw new IOException("Failed to read blob: " + key, e);
+		}
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		try {
+			s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+		} catch (SdkException e) {
+			throw new IOException("Failed to delete blob: " + key, e);
+		}
+	}
+
+	@Override
+	public void deleteByPrefix(String keyPrefix) throws IOException {
+		try {
+			List<ObjectIdentifier> batch = new ArrayList<>();
+			for (S3Object object : s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+					.bucket(bucket).prefix(objectKey(keyPrefix)).build()).contents()) {
+				batch.add(ObjectIdentifier.builder().key(object.key()).build());
+				if (batch.size() >= DELETE_BATCH_SIZE) {
+					deleteObjects(batch);
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				deleteObjects(batch);
+			}
+		} catch (SdkException e) {
+			throw new IOException("Failed to delete blobs: " + keyPrefix, e);
+		}
+	}
+
+	@Override
+	public void forEach(Consumer<BlobMetadata> visitor) throws IOException {
+		try {
+			for (S3Object object : s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+					.bucket(bucket).prefix(prefix).build()).contents()) {
+				String objectKey = object.key();
+				String key = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+				visitor.accept(new BlobMetadata(key, object.size(), object.lastModified().toEpochMilli()));
+			}
+		} catch (SdkException e) {
+			throw new IOException("Failed to list blobs", e);
+		}
+	}
+
+	@Override
+	public int purgeIncomplete(long cutoffMillis) throws IOException {
+		int purged = 0;
+		try {
+			ListMultipartUploadsRequest request = ListMultipartUploadsRequest.builder().bucket(bucket).prefix(prefix).build();
+			while (true) {
+				ListMultipartUploadsResponse response = s3Client.listMultipartUploads(request);
+				for (MultipartUpload upload : response.uploads()) {
+					if (upload.initiated().toEpochMilli() < cutoffMillis) {
+						abort(upload.key(), upload.uploadId());
+						purged++;
+					}
+				}
+				if (!Boolean.TRUE.equals(response.isTruncated())) {
+					return purged;
+				}
+				request = request.toBuilder()
+						.keyMarker(response.nextKeyMarker())
+						.uploadIdMarker(response.nextUploadIdMarker())
+						.build();
+			}
+		} catch (SdkException e) {
+			throw new IOException("Failed to purge incomplete uploads", e);
+		}
+	}
+
+	@Override
+	public Path localPath(String key) {
+		return null;
+	}
+
+	private void putMultipart(String objectKey, byte[] content) {
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(bucket).key(objectKey).build()).uploadId();
+		try {
+			List<CompletedPart> parts = new ArrayList<>();
+			int partNumber = 1;
+			for (int offset = 0; offset < content.length; offset += partSize, partNumber++) {
+				byte[] part = Arrays.copyOfRange(content, offset, Math.min(content.length, offset + partSize));
+				String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+						.bucket(bucket)
+						.key(objectKey)
+						.uploadId(uploadId)
+						.partNumber(partNumber)
+						.build(), RequestBody.fromBytes(part)).eTag();
+				parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+			}
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(objectKey)
+					.uploadId(uploadId)
+					.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+					.build());
+		} catch (SdkException e) {
+			abort(objectKey, uploadId);
+			throw e;
+		}
+	}
+
+	private void abort(String objectKey, String uploadId) {
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+					.bucket(bucket).key(objectKey).uploadId(uploadId).build());
+		} catch (SdkException e) {
+			log.warn("Failed to abort multipart upload: {} {}", objectKey, uploadId);
+		}
+	}
+
+	private void deleteObjects(List<ObjectIdentifier> objects) {
+		s3Client.deleteObjects(DeleteObjectsRequest.builder()
+				.bucket(bucket)
+				.delete(Delete.builder().objects(objects).quiet(true).build())
+				.build());
+	}
+
+	private HeadObjectResponse head(String key) throws IOException {
+		try {
+			return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return null;
+			}
+			throw new IOException("Failed to stat blob: " + key, e);
+		} catch (SdkException e) {
+			throw new IOException("Failed to stat blob: " + key, e);
+		}
+	}
+
+	// 키 앞 2글자 (hash 의 앞부분) 로 나눈 객체 이름
+	private String objectKey(String key) {
+		String name = key.substring(key.lastIndexOf('/') + 1);
+		return name.length() < 2 ? prefix + name : prefix + name.substring(0, 2) + "/" + name;
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+}
@@ -0,0 +1,40 @@
+package project.service.global.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 응답할 파일 (이전 방식의 로컬 경로 또는 이미지 저장소 키)
+ */
+public class StoredFile {
+	private final Path path;
+	private final String key;
+
+	private StoredFile(Path path, String key) {
+		this.path = path;
+		this.key = key;
+	}
+
+	public static StoredFile local(Path path) {
+		return new StoredFile(path, null);
+	}
+
+	public static StoredFile blob(String key) {
+		return new StoredFile(null, key);
+	}
+
+	public boolean isBlob() {
+		return key != null;
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public String getFileName() {
+		return isBlob() ? key : path.getFileName().toString();
+	}
+}
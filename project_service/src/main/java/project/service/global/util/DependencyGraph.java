@@ -0,0 +1,262 @@
+package project.service.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업무 선후 관계 그래프 (blockedBy -> task 방향)
+ * 일정 계산은 위상 정렬 한 번과 정/역방향 패스로 O(V + E) 에 끝난다.
+ * 날짜는 epoch day 단위의 정수로 다룬다.
+ */
+public class DependencyGraph {
+	private final Map<Long, Integer> indexes = new HashMap<>();
+	private final List<Long> ids = new ArrayList<>();
+	private final List<Long> startConstraints = new ArrayList<>();
+	private final List<Long> durations = new ArrayList<>();
+	private final List<List<Integer>> successors = new ArrayList<>();
+	private final List<List<Integer>> predecessors = new ArrayList<>();
+
+	/**
+	 * @param startConstraint 업무 시작일 (없으면 null)
+	 * @param duration 소요 일수 (1 미만이면 1일로 본다)
+	 */
+	public void addNode(long id, Long startConstraint, long duration) {
+		if (indexes.containsKey(id)) {
+			return;
+		}
+		indexes.put(id, ids.size());
+		ids.add(id);
+		startConstraints.add(startConstraint);
+		durations.add(Math.max(1L, duration));
+		successors.add(new ArrayList<>());
+		predecessors.add(new ArrayList<>());
+	}
+
+	/**
+	 * 알 수 없는 노드에 대한 간선은 무시한다.
+	 */
+	public void addEdge(long blockedById, long taskId) {
+		Integer from = indexes.get(blockedById);
+		Integer to = indexes.get(taskId);
+		if (from == null || to == null) {
+			return;
+		}
+		successors.get(from).add(to);
+		predecessors.get(to).add(from);
+	}
+
+	/**
+	 * blockedById -> taskId 간선을 추가했을 때 순환이 생기는지 검사
+	 * taskId 에서 후행 업무를 따라가다 blockedById 에 도달하면 순환이다.
+	 */
+	public boolean wouldCreateCycle(long blockedById, long taskId) {
+		if (blockedById == taskId) {
+			return true;
+		}
+		Integer start = indexes.get(taskId);
+		Integer target = indexes.get(blockedById);
+		if (start == null || target == null) {
+			return false;
+		}
+		boolean[] visited = new boolean[ids.size()];
+		Deque<Integer> stack = new ArrayDeque<>();
+		stack.push(start);
+		visited[start] = true;
+		while (!stack.isEmpty()) {
+			int node = stack.pop();
+			for (int next : successors.get(node)) {
+				if (next == target) {
+					return true;
+				}
+				if (!visited[next]) {
+					visited[next] = true;
+					stack.push(next);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Kahn 알고리즘으로 위상 정렬
+	 * @throws IllegalStateException 그래프에 순환이 있는 경우
+	 */
+	public int[] topologicalOrder() {
+		int size = ids.size();
+		int[] inDegree = new int[size];
+		for (int i = 0; i < size; i++) {
+			inDegree[i] = predecessors.get(i).size();
+		}
+		Deque<Integer> queue = new ArrayDeque<>();
+		for (int i = 0; i < size; i++) {
+			if (inDegree[i] == 0) {
+				queue.add(i);
+			}
+		}
+		int[] order = new int[size];
+		int count = 0;
+		while (!queue.isEmpty()) {
+			int node = queue.poll();
+			order[count++] = node;
+			for (int next : successors.get(node)) {
+				if (--inDegree[next] == 0) {
+					queue.add(next);
+				}
+			}
+		}
+		if (count != size) {
+			throw new IllegalStateException("Dependency graph contains a cycle");
+		}
+		return order;
+	}
+
+	/**
+	 * 임계 경로(CPM) 계산
+	 * 선행 업무가 없고 시작일도 없는 업무는 전체 일정의 가장 이른 시작일에 시작한다고 본다.
+	 */
+	public Schedule schedule() {
+		int size = ids.size();
+		if (size == 0) {
+			return new Schedule(Collections.emptyMap(), Collections.emptyList(), 0L, 0L);
+		}
+		int[] order = topologicalOrder();
+
+		long origin = Long.MAX_VALUE;
+		for (Long constraint : startConstraints) {
+			if (constraint != null && constraint < origin) {
+				origin = constraint;
+			}
+		}
+		if (origin == Long.MAX_VALUE) {
+			origin = 0L;
+		}
+
+		// 정방향: ES = max(시작일, 선행 업무 EF)
+		long[] earliestStart = new long[size];
+		long[] earliestFinish = new long[size];
+		long projectFinish = Long.MIN_VALUE;
+		for (int node : order) {
+			Long constraint = startConstraints.get(node);
+			long start = constraint == null ? origin : constraint;
+			for (int prev : predecessors.get(node)) {
+				start = Math.max(start, earliestFinish[prev]);
+			}
+			earliestStart[node] = start;
+			earliestFinish[node] = start + durations.get(node);
+			projectFinish = Math.max(projectFinish, earliestFinish[node]);
+		}
+
+		// 역방향: LF = min(후행 업무 LS), 후행 업무가 없으면 전체 종료일
+		long[] latestStart = new long[size];
+		long[] latestFinish = new long[size];
+		for (int i = size - 1; i >= 0; i--) {
+			int node = order[i];
+			long finish = projectFinish;
+			for (int next : successors.get(node)) {
+				finish = Math.min(finish, latestStart[next]);
+			}
+			latestFinish[node] = finish;
+			latestStart[node] = finish - durations.get(node);
+		}
+
+		Map<Long, Slot> slots = new HashMap<>(size * 2);
+		int last = -1;
+		for (int node = 0; node < size; node++) {
+			slots.put(ids.get(node), new Slot(earliestStart[node], earliestFinish[node], latestStart[node], latestFinish[node]));
+			if (earliestFinish[node] == projectFinish && latestStart[node] == earliestStart[node]
+					&& (last == -1 || earliestStart[node] < earliestStart[last])) {
+				last = node;
+			}
+		}
+
+		// 가장 늦게 끝나는 업무에서 여유 없는 선행 업무를 따라 거슬러 올라간다.
+		List<Long> criticalPath = new ArrayList<>();
+		int node = last;
+		while (node != -1) {
+			criticalPath.add(ids.get(node));
+			int prevOnPath = -1;
+			for (int prev : predecessors.get(node)) {
+				if (earliestFinish[prev] == earliestStart[node] && latestStart[prev] == earliestStart[prev]) {
+					prevOnPath = prev;
+					break;
+				}
+			}
+			node = prevOnPath;
+		}
+		Collections.reverse(criticalPath);
+		return new Schedule(slots, criticalPath, origin, projectFinish);
+	}
+
+	public static class Slot {
+		private final long earliestStart;
+		private final long earliestFinish;
+		private final long latestStart;
+		private final long latestFinish;
+
+		Slot(long earliestStart, long earliestFinish, long latestStart, long latestFinish) {
+			this.earliestStart = earliestStart;
+			this.earliestFinish = earliestFinish;
+			this.latestStart = latestStart;
+			this.latestFinish = latestFinish;
+		}
+
+		public long getEarliestStart() {
+			return earliestStart;
+		}
+
+		public long getEarliestFinish() {
+			return earliestFinish;
+		}
+
+		public long getLatestStart() {
+			return latestStart;
+		}
+
+		public long getLatestFinish() {
+			return latestFinish;
+		}
+
+		public long getSlack() {
+			return latestStart - earliestStart;
+		}
+
+		public boolean isCritical() {
+			return latestStart == earliestStart;
+		}
+	}
+
+	public static class Schedule {
+		private final Map<Long, Slot> slots;
+		private final List<Long> criticalPath;
+		private final long start;
+		private final long finish;
+
+		Schedule(Map<Long, Slot> slots, List<Long> criticalPath, long start, long finish) {
+			this.slots = slots;
+			this.criticalPath = criticalPath;
+			this.start = start;
+			this.finish = finish;
+		}
+
+		public Slot getSlot(long id) {
+			return slots.get(id);
+		}
+
+		public List<Long> getCriticalPath() {
+			return criticalPath;
+		}
+
+		public long getStart() {
+			return start;
+		}
+
+		public long getFinish() {
+			return finish;
+		}
+	}
+}
@@ -1,20 +1,13 @@
 package project.service.global.util;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import project.service.global.config.ApplicationConfig;
-import project.service.global.exception.DeleteImageFailedException;
 import project.service.global.exception.ImageNotFoundException;
-import project.service.global.exception.SavingImageFailedException;
 
 @Component
 @RequiredArgsConstructor
@@ -23,62 +16,19 @@ public class FileManagement {
 	
 	// type: 'P' = 프로젝트, 'T' = 테스크
 	
-	public void uploadThumbnail(byte[] img, String imgName, char type) {
-		File file;
-		switch (type) {
-			case 'P': 
-				file = new File(applicationConfig.getProjectThumbnailStoragePath(), imgName);
-				break;
-			case 'T': 
-				file = new File(applicationConfig.getTaskThumbnailStoragepath(), imgName);
-				break;
-			default:
-				throw new IllegalArgumentException("'P'roject 또는 'T'ask만 허용 합니다.");
+	// 경로가 포함된 이름이 들어와도 저장 디렉토리 밖을 가리키지 않도록 파일 이름만 사용
+	public Path getThumbnailPath(String imgName, char type) {
+		Path fileName = Paths.get(imgName).getFileName();
+		if (fileName == null) {
+			throw new ImageNotFoundException(imgName);
 		}
-		try (FileOutputStream fos = new FileOutputStream(file)) {
-	        fos.write(img);
-	        fos.flush();
-	    } catch (Exception e) {
-	        throw new SavingImageFailedException(e.getMessage());
-		}
-	}
-	
-	public void deleteThumbnail(String imgName, char type) {
-		Path path;
 		switch (type) {
 			case 'P': 
-				path = Paths.get(applicationConfig.getProjectThumbnailStoragePath(), imgName);
-				break;
+				return Paths.get(applicationConfig.getProjectThumbnailStoragePath(), fileName.toString());
 			case 'T': 
-				path = Paths.get(applicationConfig.getTaskThumbnailStoragepath(), imgName);
-				break;
+				return Paths.get(applicationConfig.getTaskThumbnailStoragepath(), fileName.toString());
 			default:
 				throw new IllegalArgumentException("'P'roject 또는 'T'ask만 허용 합니다.");
 		}
-		try {
-            Files.delete(path);
-        } catch (Exception e) {
-        	throw new DeleteImageFailedException(e.getMessage());
-        }
-	}
-	
-	public Resource getThumbnail(String imgName, char type) {
-		String path;
-		switch (type) {
-			case 'P': 
-				path = applicationConfig.getProjectThumbnailStoragePath() + imgName;
-				break;
-			case 'T': 
-				path = applicationConfig.getTaskThumbnailStoragepath() + imgName;
-				break;
-			default:
-				throw new IllegalArgumentException("'P'roject 또는 'T'ask만 허용 합니다.");
-		}
-		
-		Resource image = new FileSystemResource(path);
-		if (!image.exists()) {
-			throw new ImageNotFoundException(path);
-		}
-		return image;
 	}
 }
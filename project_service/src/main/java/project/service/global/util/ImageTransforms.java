@@ -0,0 +1,180 @@
+package project.service.global.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 파생 이미지 생성과 재인코딩이 함께 쓰는 이미지 변환 (EXIF 방향, 축소, 메타데이터 없는 인코딩)
+ */
+public final class ImageTransforms {
+	private static final byte[] EXIF_HEADER = { 'E', 'x', 'i', 'f', 0, 0 };
+
+	private ImageTransforms() {
+	}
+
+	/**
+	 * EXIF Orientation (2 ~ 8) 에 맞게 화면에 보이는 방향으로 픽셀을 옮긴다. 메타데이터 없이 다시 쓰는 경우 축소 전에 적용한다.
+	 */
+	public static BufferedImage orient(BufferedImage source, int orientation) {
+		if (orientation < 2 || orientation > 8) {
+			return source;
+		}
+		int width = source.getWidth();
+		int height = source.getHeight();
+		boolean swap = orientation >= 5;
+		int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, type);
+		for (int y = 0; y < target.getHeight(); y++) {
+			for (int x = 0; x < target.getWidth(); x++) {
+				int sx;
+				int sy;
+				switch (orientation) {
+					case 2:
+						sx = width - 1 - x;
+						sy = y;
+						break;
+					case 3:
+						sx = width - 1 - x;
+						sy = height - 1 - y;
+						break;
+					case 4:
+						sx = x;
+						sy = height - 1 - y;
+						break;
+					case 5:
+						sx = y;
+						sy = x;
+						break;
+					case 6:
+						sx = y;
+						sy = height - 1 - x;
+						break;
+					case 7:
+						sx = width - 1 - y;
+						sy = height - 1 - x;
+						break;
+					default:
+						sx = width - 1 - y;
+						sy = x;
+						break;
+				}
+				target.setRGB(x, y, source.getRGB(sx, sy));
+			}
+		}
+		return target;
+	}
+
+	// 긴 변이 size 가 되도록 비율을 유지하며 축소 (원본보다 키우지는 않음), 절반씩 줄여 계단 현상을 줄인다.
+	public static BufferedImage scale(BufferedImage source, int size, String format) {
+		int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		double ratio = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+		int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+		int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+		BufferedImage current = source;
+		int width = source.getWidth();
+		int height = source.getHeight();
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			BufferedImage next = new BufferedImage(width, height, type);
+			Graphics2D graphics = next.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(current, 0, 0, width, height, null);
+			graphics.dispose();
+			current = next;
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+
+	// 메타데이터(EXIF 등) 없이 다시 쓴다.
+	public static byte[] encode(BufferedImage image, String format, float jpegQuality) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		if ("jpg".equals(format)) {
+			ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+			try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+				ImageWriteParam param = writer.getDefaultWriteParam();
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(jpegQuality);
+				writer.setOutput(output);
+				writer.write(null, new IIOImage(image, null, null), param);
+			} finally {
+				writer.dispose();
+			}
+		} else {
+			ImageIO.write(image, format, bytes);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * JPEG EXIF 의 Orientation 값 (없으면 1, 읽을 수 없으면 -1)
+	 */
+	public static int exifOrientation(byte[] jpeg) {
+		try {
+			int pos = 2;
+			while (pos + 4 <= jpeg.length && (jpeg[pos] & 0xFF) == 0xFF) {
+				int marker = jpeg[pos + 1] & 0xFF;
+				// SOS 이후에는 메타데이터가 없다.
+				if (marker == 0xDA || marker == 0xD9) {
+					return 1;
+				}
+				int length = readShort(jpeg, pos + 2, false);
+				if (marker == 0xE1 && length >= 8 && startsWith(jpeg, pos + 4, EXIF_HEADER)) {
+					return tiffOrientation(jpeg, pos + 4 + EXIF_HEADER.length);
+				}
+				pos += 2 + length;
+			}
+			return 1;
+		} catch (ArrayIndexOutOfBoundsException e) {
+			return -1;
+		}
+	}
+
+	private static int tiffOrientation(byte[] data, int tiff) {
+		boolean littleEndian = data[tiff] == 'I';
+		int ifd = tiff + readInt(data, tiff + 4, littleEndian);
+		int count = readShort(data, ifd, littleEndian);
+		for (int i = 0; i < count; i++) {
+			int entry = ifd + 2 + i * 12;
+			if (readShort(data, entry, littleEndian) == 0x0112) {
+				return readShort(data, entry + 8, littleEndian);
+			}
+		}
+		return 1;
+	}
+
+	private static int readShort(byte[] data, int pos, boolean littleEndian) {
+		int a = data[pos] & 0xFF;
+		int b = data[pos + 1] & 0xFF;
+		return littleEndian ? (b << 8) | a : (a << 8) | b;
+	}
+
+	private static int readInt(byte[] data, int pos, boolean littleEndian) {
+		int high = readShort(data, littleEndian ? pos + 2 : pos, littleEndian);
+		int low = readShort(data, littleEndian ? pos : pos + 2, littleEndian);
+		return (high << 16) | low;
+	}
+
+	private static boolean startsWith(byte[] data, int pos, byte[] prefix) {
+		if (pos + prefix.length > data.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (data[pos + i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,26 @@
+package project.service.global.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public final class InClause {
+	// Oracle IN 목록 최대 개수
+	public static final int MAX_SIZE = 1000;
+
+	private InClause() {
+	}
+
+	/**
+	 * 중복을 제거한 뒤 IN 절에 넣을 수 있는 크기로 분할 (순서 유지)
+	 */
+	public static <T> List<List<T>> partition(Collection<T> values) {
+		List<T> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < distinct.size(); from += MAX_SIZE) {
+			chunks.add(distinct.subList(from, Math.min(from + MAX_SIZE, distinct.size())));
+		}
+		return chunks;
+	}
+}
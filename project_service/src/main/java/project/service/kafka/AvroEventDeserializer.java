@@ -0,0 +1,88 @@
+package project.service.kafka;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+/**
+ * event-format: avro 헤더가 있는 메시지는 토픽 스키마(avro/<토픽>.avsc)로, 없는 메시지는 기존처럼 JSON 으로 역직렬화
+ * 스키마는 user_service 의 같은 이름 파일과 동일하게 유지한다. 대상 타입은 JsonDeserializer.VALUE_DEFAULT_TYPE 설정을 그대로 쓴다.
+ */
+public class AvroEventDeserializer implements Deserializer<Object> {
+    public static final String FORMAT_HEADER = "event-format";
+    public static final String AVRO = "avro";
+
+    private final AvroMapper mapper = AvroMapper.builder()
+            .addModule(new Jdk8Module())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final Map<String, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+    private Class<?> valueType;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+        Object type = configs.get(JsonDeserializer.VALUE_DEFAULT_TYPE);
+        if (type instanceof Class<?> clazz) {
+            valueType = clazz;
+        } else if (type != null) {
+            valueType = ClassUtils.resolveClassName(type.toString(), ClassUtils.getDefaultClassLoader());
+        }
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        Header format = headers.lastHeader(FORMAT_HEADER);
+        if (data == null || format == null || !AVRO.equals(new String(format.value(), StandardCharsets.US_ASCII))) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+        try {
+            return readerFor(topic).readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Can't deserialize data for topic " + topic + " with Avro schema", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    private ObjectReader readerFor(String topic) {
+        return readers.computeIfAbsent(topic, key -> {
+            if (valueType == null) {
+                throw new SerializationException("No value type configured for topic " + key);
+            }
+            try (InputStream in = AvroEventDeserializer.class.getClassLoader().getResourceAsStream("avro/" + key + ".avsc")) {
+                if (in == null) {
+                    throw new SerializationException("No Avro schema for topic " + key);
+                }
+                return mapper.readerFor(valueType).with(new AvroSchema(new Schema.Parser().parse(in)));
+            } catch (IOException e) {
+                throw new SerializationException("Can't read Avro schema for topic " + key, e);
+            }
+        });
+    }
+}
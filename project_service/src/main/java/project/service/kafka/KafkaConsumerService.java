@@ -1,10 +1,17 @@
 package project.service.kafka;
+import java.io.IOException;
+import java.util.List;
+
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import project.service.ProjectService;
+import project.service.TaskDependencyService;
+import project.service.TaskRecurrenceService;
 import project.service.TaskService;
 import project.service.dto.request.CreateProjectRequestDto;
 import project.service.dto.request.CreateTaskRequestDto;
@@ -13,12 +20,18 @@ import project.service.global.SuccessResponse;
 import project.service.kafka.event.*;
 
 
+/**
+ * 리스너에서 난 예외는 잡지 않고 컨테이너로 넘긴다.
+ * 처리 트랜잭션이 롤백된 레코드는 KafkaConsumerConfig 의 에러 핸들러가 다시 처리하고, 끝내 실패하면 <토픽>-dlt 로 보낸다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaConsumerService {
     private final ProjectService projectService;
     private final TaskService taskService;
+    private final TaskDependencyService taskDependencyService;
+    private final TaskRecurrenceService taskRecurrenceService;
     private final KafkaProducerService kafkaProducerService;
     
     // Project
@@ -35,105 +48,89 @@ public class KafkaConsumerService {
     private static final String TOPIC2 = "task-add-user-topic";
     private static final String TOPIC3 = "task-delete-topic";
     private static final String TOPIC6 = "task-update-topic";
+    private static final String TOPIC11 = "task-status-bulk-update-topic";
+    private static final String TOPIC12 = "task-dependency-add-topic";
+    private static final String TOPIC13 = "task-dependency-delete-topic";
+    private static final String TOPIC14 = "task-recurrence-create-topic";
+    private static final String TOPIC15 = "task-recurrence-delete-topic";
+    private static final String TOPIC16 = "task-patch-topic";
+    private static final String TOPIC17 = "task-move-topic";
     
     @KafkaListener(topics = TOPIC, groupId = "project_create_group", containerFactory = "kafkaProjectCreateEventListenerContainerFactory")
-    public void listenProjectCreateEvent(ProjectCreateEvent event) {
-        try {
-            CreateProjectRequestDto projectCreateRequestDto = event.getProjectCreateRequestDto();
-            String userId = event.getUserId();
-            // 이벤트 처리
-            Project project = projectService.createProject(projectCreateRequestDto, event.getImg(), event.getExtsn());
-            log.warn("project.getId() : " + project.getId());
-            kafkaProducerService.sendAddMemberToProjectEvent(userId ,project.getId());
-            // 초대 링크 생성
-            kafkaProducerService.sendAddLinkToProjectEvent(project.getId());
-            // 처리 로그 출력
-            log.info("Processed ProjectCreateEvent for userId: " + userId);
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+    public void listenProjectCreateEvent(ProjectCreateEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition, @Header(KafkaHeaders.OFFSET) long offset) {
+        CreateProjectRequestDto projectCreateRequestDto = event.getProjectCreateRequestDto();
+        String userId = event.getUserId();
+        // 이벤트 처리 (생성은 커밋된 뒤 후속 이벤트를 보내므로, 다시 처리되면 같은 레코드로 만든 프로젝트를 그대로 쓴다)
+        Project project = projectService.createProject(topic + "-" + partition + "@" + offset, projectCreateRequestDto,
+                event.getImg(), event.getExtsn(), event.getImgRef());
+        log.warn("project.getId() : " + project.getId());
+        // 전송이 실패하면 예외로 끝나 에러 핸들러가 다시 처리한다 (두 이벤트는 다시 보낼 수 있음)
+        kafkaProducerService.sendAddMemberToProjectEvent(userId ,project.getId()).join();
+        // 초대 링크 생성
+        kafkaProducerService.sendAddLinkToProjectEvent(project.getId()).join();
+        // 처리 로그 출력
+        log.info("Processed ProjectCreateEvent for userId: " + userId);
     }
     
     @KafkaListener(topics = TOPIC1, groupId = "task-create-group", containerFactory = "kafkaTaskCreateEventListenerContainerFactory")
-    public void listenTaskCreateEvent(TaskCreateEvent event) {
-        try {
-            CreateTaskRequestDto createTaskRequestDto = event.getCreateTaskRequestDto();
-            // 이벤트 처리
-            taskService.createTask(createTaskRequestDto, event.getFiles(), event.getThumbnailByte(), event.getExtsn());
-            // 처리 로그 출력
-            log.info("Processed TaskCreateEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+    public void listenTaskCreateEvent(TaskCreateEvent event) throws IOException {
+        CreateTaskRequestDto createTaskRequestDto = event.getCreateTaskRequestDto();
+        // 이벤트 처리
+        taskService.createTask(createTaskRequestDto, event.getFiles(), event.getThumbnailByte(), event.getExtsn(),
+                event.getFileRefs(), event.getThumbnailRef());
+        // 처리 로그 출력
+        log.info("Processed TaskCreateEvent");
     }
     @KafkaListener(topics = TOPIC2, groupId = "task-add-user-group", containerFactory = "kafkaAddUserToTaskEventListenerContainerFactory")
     public void listenAddUserToTaskEvent(UserAddToTaskEvent event) {
-        try {
-            // 이벤트 처리
-            taskService.addUserToTask(event);
-            // 처리 로그 출력
-            log.info("Processed addUserToTaskEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        // 이벤트 처리
+        taskService.addUserToTask(event);
+        // 처리 로그 출력
+        log.info("Processed addUserToTaskEvent");
     }
     @KafkaListener(topics = TOPIC3, groupId = "task-delete-group", containerFactory = "kafkaDeleteTaskEventListenerContainerFactory")
     public void listenDeleteTaskEvent(TaskDeleteEvent event) {
-        try {
-            // 이벤트 처리
-            taskService.deleteTask(event);
-            // 처리 로그 출력
-            log.info("Processed addUserToTaskEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        // 이벤트 처리
+        taskService.deleteTask(event);
+        // 처리 로그 출력
+        log.info("Processed addUserToTaskEvent");
     }
     @KafkaListener(topics = TOPIC4, groupId = "project-delete-group", containerFactory = "kafkaProjectDeleteEventListenerContainerFactory")
     public void listenProjectDeleteEvent(ProjectDeleteEvent event) {
-        try {
-            // 이벤트 처리
-            projectService.deleteProject(event);
-            // 처리 로그 출력
-            log.info("Processed projectDeleteEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        // 이벤트 처리
+        projectService.deleteProject(event);
+        // 처리 로그 출력
+        log.info("Processed projectDeleteEvent");
     }
     @KafkaListener(topics = TOPIC5, groupId = "project-update-group", containerFactory = "kafkaProjectUpdateEventListenerContainerFactory")
     public void listenProjectUpdateEventEvent(ProjectUpdateEvent event) {
-        try {
-            // 이벤트 처리
-            projectService.updateProject(event);
-            // 처리 로그 출력
-            log.info("Processed projectUpdateEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        // 이벤트 처리
+        projectService.updateProject(event);
+        // 처리 로그 출력
+        log.info("Processed projectUpdateEvent");
     }
     @KafkaListener(topics = TOPIC6, groupId = "task-update-group", containerFactory = "kafkaTaskUpdateEventListenerContainerFactory")
     public void listenTaskUpdateEventEvent(TaskUpdateEvent event) {
-        try {
-            // 이벤트 처리
-            taskService.updateTask(event);
-            // 처리 로그 출력
-            log.info("Processed taskUpdateEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        // 이벤트 처리
+        taskService.updateTask(event);
+        // 처리 로그 출력
+        log.info("Processed taskUpdateEvent");
+    }
+    @KafkaListener(topics = TOPIC16, groupId = "task-patch-group", containerFactory = "kafkaTaskPatchEventListenerContainerFactory")
+    public void listenTaskPatchEvent(TaskPatchEvent event) {
+        taskService.patchTask(event);
+        log.info("Processed TaskPatchEvent");
     }
     @KafkaListener(topics = TOPIC7, groupId = "is-exist-project-by-member-add-to-project-group", containerFactory = "kafkaIsExistProjectByMemberAddToProjectEventListenerContainerFactory")
     public void listenIsExistProjectByMemberAddToProjectEventEvent(IsExistProjectByMemberAddToProjectEvent event) {
-        try {
-            // 이벤트 처리
-        	SuccessResponse responseMessage = projectService.findProject(event.getProjectId());
-            if (!responseMessage.isResult()) {
-                kafkaProducerService.sendRollbackMemberAddToProjectEvent(event.getProjectId(), event.getUserIds());
-            }
-            // 처리 로그 출력
-            log.info("Processed IsExistProjectByMemberAddToProjectEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
+        // 이벤트 처리
+    	SuccessResponse responseMessage = projectService.findProject(event.getProjectId());
+        if (!responseMessage.isResult()) {
+            kafkaProducerService.sendRollbackMemberAddToProjectEvent(event.getProjectId(), event.getUserIds());
         }
+        // 처리 로그 출력
+        log.info("Processed IsExistProjectByMemberAddToProjectEvent");
     }
     
     @KafkaListener(topics = TOPIC8, groupId = "project_create_group", containerFactory = "kafkaProjectAddImgEventListenerContainerFactory")
@@ -147,11 +144,43 @@ public class KafkaConsumerService {
     }
     @KafkaListener(topics = TOPIC10, groupId = "task-remove-user-group", containerFactory = "kafkaDeleteFromMemberFromTaskEventListenerContainerFactory")
     public void listenDeleteFromMemberFromTaskEvent(DeleteFromMemberFromTaskEvent event) {
-        try {
-            taskService.removeUserFromTask(event);
-            log.info("Processed DeleteFromMemberFromTaskEvent");
-        } catch (Exception e) {
-            log.error(e.getMessage());
+        taskService.removeUserFromTask(event);
+        log.info("Processed DeleteFromMemberFromTaskEvent");
+    }
+    @KafkaListener(topics = TOPIC11, groupId = "task-status-bulk-update-group", containerFactory = "kafkaTaskStatusBulkUpdateEventListenerContainerFactory")
+    public void listenTaskStatusBulkUpdateEvent(TaskStatusBulkUpdateEvent event) {
+        List<Long> changedTaskIds = taskService.updateTaskStatuses(event);
+        if (!changedTaskIds.isEmpty()) {
+            kafkaProducerService.sendTaskStatusChangedEvent(event.getProjectId(), changedTaskIds, event.getStatus());
+        }
+        log.info("Processed TaskStatusBulkUpdateEvent: {} tasks changed", changedTaskIds.size());
+    }
+    @KafkaListener(topics = TOPIC12, groupId = "task-dependency-add-group", containerFactory = "kafkaTaskDependencyAddEventListenerContainerFactory")
+    public void listenTaskDependencyAddEvent(TaskDependencyAddEvent event) {
+        taskDependencyService.addDependency(event);
+        log.info("Processed TaskDependencyAddEvent");
+    }
+    @KafkaListener(topics = TOPIC13, groupId = "task-dependency-delete-group", containerFactory = "kafkaTaskDependencyDeleteEventListenerContainerFactory")
+    public void listenTaskDependencyDeleteEvent(TaskDependencyDeleteEvent event) {
+        taskDependencyService.removeDependency(event);
+        log.info("Processed TaskDependencyDeleteEvent");
+    }
+    @KafkaListener(topics = TOPIC14, groupId = "task-recurrence-create-group", containerFactory = "kafkaTaskRecurrenceCreateEventListenerContainerFactory")
+    public void listenTaskRecurrenceCreateEvent(TaskRecurrenceCreateEvent event) {
+        taskRecurrenceService.createRecurrence(event);
+        log.info("Processed TaskRecurrenceCreateEvent");
+    }
+    @KafkaListener(topics = TOPIC15, groupId = "task-recurrence-delete-group", containerFactory = "kafkaTaskRecurrenceDeleteEventListenerContainerFactory")
+    public void listenTaskRecurrenceDeleteEvent(TaskRecurrenceDeleteEvent event) {
+        taskRecurrenceService.deleteRecurrence(event);
+        log.info("Processed TaskRecurrenceDeleteEvent");
+    }
+    @KafkaListener(topics = TOPIC17, groupId = "task-move-group", containerFactory = "kafkaTaskMoveEventListenerContainerFactory")
+    public void listenTaskMoveEvent(TaskMoveEvent event) {
+        TaskMovedEvent moved = taskService.moveTask(event);
+        if (moved != null) {
+            kafkaProducerService.sendTaskMovedEvent(moved);
         }
+        log.info("Processed TaskMoveEvent");
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,17 @@
 package project.service.kafka;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import project.service.kafka.event.RollbackMemberAddToProjectEvent;
+import project.service.kafka.event.TaskMovedEvent;
+import project.service.kafka.event.TaskStatusChangedEvent;
 import project.service.kafka.event.UserAddToProjectEvent;
 import project.service.kafka.event.UserAddToProjectLinkEvent;
 
@@ -19,19 +23,45 @@ public class KafkaProducerService {
     private static final String TOPIC = "member-add-to-project-topic";
     private static final String TOPIC1 = "link-add-to-project-topic";
     private static final String ROLL_BACK_TOPIC = "rollback-member-add-to-project-topic";
+    private static final String TOPIC2 = "task-status-changed-topic";
+    private static final String TOPIC3 = "task-moved-topic";
 
-    public void sendAddMemberToProjectEvent(String userId, Long projectId) {
+    // 전송 결과를 기다릴 수 있도록 future 를 돌려준다 (실패하면 프로젝트 생성 이벤트를 다시 처리)
+    public CompletableFuture<SendResult<String, Object>> sendAddMemberToProjectEvent(String userId, Long projectId) {
         UserAddToProjectEvent event = new UserAddToProjectEvent(projectId, userId);
         ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, event);
         record.headers().remove("spring.json.header.types");
-        kafkaTemplate.send(record);
+        return kafkaTemplate.send(record);
     }
     
-    public void sendAddLinkToProjectEvent(Long projectId) {
+    public CompletableFuture<SendResult<String, Object>> sendAddLinkToProjectEvent(Long projectId) {
     	UserAddToProjectLinkEvent event = new UserAddToProjectLinkEvent(projectId);
     	ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC1, event);
     	record.headers().remove("spring.json.header.types");
-    	kafkaTemplate.send(record);
+    	return kafkaTemplate.send(record);
+    }
+
+    /**
+     * 일괄 상태 변경 결과를 하나의 이벤트로 발행
+     * @param projectId
+     * @param taskIds 실제로 상태가 바뀐 업무 아이디
+     * @param status
+     */
+    public void sendTaskStatusChangedEvent(Long projectId, List<Long> taskIds, int status) {
+        TaskStatusChangedEvent event = new TaskStatusChangedEvent(projectId, taskIds, status);
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC2, String.valueOf(projectId), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+    }
+
+    /**
+     * 업무 이동 결과를 하나의 이벤트로 발행 (하위 업무 포함)
+     * @param event
+     */
+    public void sendTaskMovedEvent(TaskMovedEvent event) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC3, String.valueOf(event.getFromProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
     }
 
     /**
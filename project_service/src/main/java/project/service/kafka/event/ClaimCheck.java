@@ -0,0 +1,20 @@
+package project.service.kafka.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트에 이미지 내용 대신 실려 오는 참조 (이어 올리기 업로드 id)
+ * 업로드를 가져올 때 sha256 이 같은지 확인한다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ClaimCheck {
+    private String uploadId;
+    private String fileName;
+    // 내용 SHA-256 (hex)
+    private String sha256;
+    private long size;
+}
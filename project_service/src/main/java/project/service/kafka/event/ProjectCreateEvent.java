@@ -9,4 +9,6 @@ public class ProjectCreateEvent {
     private byte[] img;
     private String extsn;
     private String userId;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private ClaimCheck imgRef;
 }
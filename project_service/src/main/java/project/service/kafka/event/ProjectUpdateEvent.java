@@ -10,4 +10,6 @@ public class ProjectUpdateEvent {
     private UpdateProjectRequestDto projectUpdateRequestDto;
     private byte[] img;
     private String extsn;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private ClaimCheck imgRef;
 }
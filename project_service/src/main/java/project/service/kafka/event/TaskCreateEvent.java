@@ -15,6 +15,9 @@ public class TaskCreateEvent {
     private List<FileData> files;
     private byte[] thumbnailByte;
     private String extsn;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private List<ClaimCheck> fileRefs;
+    private ClaimCheck thumbnailRef;
 
     @AllArgsConstructor
     @NoArgsConstructor
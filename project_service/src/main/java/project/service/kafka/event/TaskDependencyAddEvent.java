@@ -0,0 +1,12 @@
+package project.service.kafka.event;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskDependencyAddEvent {
+    private Long projectId;
+    private Long taskId;
+    private Long blockedByTaskId;
+}
@@ -0,0 +1,14 @@
+package project.service.kafka.event;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskMoveEvent {
+    private Long projectId;
+    private Long taskId;
+    private Long targetProjectId;
+    // null == 대상 프로젝트의 최상위 업무로 이동
+    private Long targetParentTaskId;
+}
@@ -0,0 +1,18 @@
+package project.service.kafka.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskMovedEvent {
+    private Long taskId;
+    private Long fromProjectId;
+    private Long fromParentTaskId;
+    private Long toProjectId;
+    private Long toParentTaskId;
+    // 이동한 업무와 하위 업무 전체
+    private List<Long> movedTaskIds;
+}
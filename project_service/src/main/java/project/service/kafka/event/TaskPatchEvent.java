@@ -0,0 +1,40 @@
+package project.service.kafka.event;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 업무 부분 수정 이벤트 (null 인 필드는 변경하지 않음)
+ */
+@Getter
+@Setter
+public class TaskPatchEvent {
+    private Long projectId;
+    private Long taskId;
+    private String title;
+    private String description;
+    private Date startDate;
+    private Date endDate;
+    private Integer status;
+    private List<Long> deletedImageIds;
+    // 이전 API 호환용 (파일 이름으로 삭제)
+    private List<String> deletedImageNames;
+    private List<FileData> descriptionFiles;
+    // 이어 올리기로 완료한 업로드 id
+    private List<String> uploadIds;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private List<ClaimCheck> fileRefs;
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    public static class FileData implements project.service.global.FileData {
+        private String fileName;
+        private byte[] fileContent;
+    }
+}
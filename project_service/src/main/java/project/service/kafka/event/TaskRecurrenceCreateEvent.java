@@ -0,0 +1,17 @@
+package project.service.kafka.event;
+
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.Setter;
+import project.service.entity.RecurrenceFrequency;
+
+@Getter
+@Setter
+public class TaskRecurrenceCreateEvent {
+    private Long projectId;
+    private Long taskId;
+    private RecurrenceFrequency frequency;
+    private int interval;
+    private Date untilDate;
+}
@@ -0,0 +1,11 @@
+package project.service.kafka.event;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskRecurrenceDeleteEvent {
+    private Long projectId;
+    private Long taskId;
+}
@@ -0,0 +1,14 @@
+package project.service.kafka.event;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskStatusBulkUpdateEvent {
+    private Long projectId;
+    private List<Long> taskIds;
+    private int status;
+}
@@ -0,0 +1,15 @@
+package project.service.kafka.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskStatusChangedEvent {
+    private Long projectId;
+    // 실제로 상태가 바뀐 업무만 포함
+    private List<Long> taskIds;
+    private int status;
+}
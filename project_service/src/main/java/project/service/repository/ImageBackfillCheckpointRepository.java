@@ -0,0 +1,39 @@
+package project.service.repository;
+
+import java.util.Date;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.ImageBackfillCheckpoint;
+
+@Repository
+public interface ImageBackfillCheckpointRepository extends JpaRepository<ImageBackfillCheckpoint, String> {
+    // 실행 중인 인스턴스가 없을 때만 가져가기 (아니면 0)
+    @Modifying
+    @Query("UPDATE ImageBackfillCheckpoint c SET c.runner = :runner, c.leaseUntil = :leaseUntil, c.pauseRequested = false "
+            + "WHERE c.jobName = :jobName AND (c.leaseUntil IS NULL OR c.leaseUntil < :now)")
+    int claim(String jobName, String runner, Date now, Date leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImageBackfillCheckpoint c SET c.leaseUntil = NULL, c.pauseRequested = false WHERE c.jobName = :jobName AND c.runner = :runner")
+    int release(String jobName, String runner);
+
+    // 진행 위치 기록과 lease 연장 (다른 인스턴스가 가져갔으면 0)
+    @Modifying
+    @Query("UPDATE ImageBackfillCheckpoint c SET c.phase = :phase, c.lastKey = :lastKey, c.processed = :processed, "
+            + "c.replaced = :replaced, c.skipped = :skipped, c.failed = :failed, c.bytesSaved = :bytesSaved, "
+            + "c.startedDate = :startedDate, c.updatedDate = :updatedDate, c.completedDate = :completedDate, c.leaseUntil = :leaseUntil "
+            + "WHERE c.jobName = :jobName AND c.runner = :runner")
+    int saveProgress(String jobName, String runner, String phase, String lastKey, long processed, long replaced, long skipped,
+            long failed, long bytesSaved, Date startedDate, Date updatedDate, Date completedDate, Date leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImageBackfillCheckpoint c SET c.pauseRequested = true WHERE c.jobName = :jobName AND c.leaseUntil > :now")
+    int requestPause(String jobName, Date now);
+
+    @Query("SELECT c.pauseRequested FROM ImageBackfillCheckpoint c WHERE c.jobName = :jobName")
+    boolean isPauseRequested(String jobName);
+}
@@ -0,0 +1,61 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.ImageBlob;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+    // 행이 없으면 생성, 있으면 참조 수 증가 (파일 이름은 처음 저장한 값을 유지)
+    @Modifying
+    @Query(value = "MERGE INTO image_blob b "
+            + "USING (SELECT :hash AS blob_hash FROM dual) s "
+            + "ON (b.blob_hash = s.blob_hash) "
+            + "WHEN MATCHED THEN UPDATE SET b.ref_count = b.ref_count + :delta "
+            + "WHEN NOT MATCHED THEN INSERT (blob_hash, file_name, size_bytes, ref_count, created_date) "
+            + "VALUES (:hash, :fileName, :size, :delta, :createdDate)", nativeQuery = true)
+    int acquire(String hash, String fileName, long size, int delta, Date createdDate);
+
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + :delta WHERE b.hash = :hash")
+    int addRefCount(String hash, int delta);
+
+    @Query("SELECT b.hash FROM ImageBlob b WHERE b.hash IN :hashes")
+    List<String> findHashesIn(Collection<String> hashes);
+
+    @Query("SELECT b.fileName FROM ImageBlob b WHERE b.hash = :hash")
+    String findFileNameByHash(String hash);
+
+    boolean existsByHashAndRefCountLessThanEqual(String hash, int refCount);
+
+    // 행을 잠그고 파일 이름 조회 (없으면 null). 삭제 작업이 잠근 행이면 삭제가 끝날 때까지 기다린다.
+    @Query(value = "SELECT file_name FROM image_blob WHERE blob_hash = :hash FOR UPDATE", nativeQuery = true)
+    String lockFileName(String hash);
+
+    // 참조 수가 남아 있는 행만 잠금 (이미 해제되어 지워졌거나 지울 행이면 null)
+    @Query(value = "SELECT blob_hash FROM image_blob WHERE blob_hash = :hash AND ref_count > 0 FOR UPDATE", nativeQuery = true)
+    String lockReferenced(String hash);
+
+    // 참조 수가 0 인 행만 잠금 (다른 트랜잭션이 참조를 늘렸으면 null)
+    @Query(value = "SELECT blob_hash FROM image_blob WHERE blob_hash = :hash AND ref_count <= 0 FOR UPDATE", nativeQuery = true)
+    String lockUnreferenced(String hash);
+
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.hash = :hash AND b.refCount <= 0")
+    int deleteUnreferenced(String hash);
+
+    @Query("SELECT b.fileName FROM ImageBlob b WHERE b.hash > :afterHash ORDER BY b.hash")
+    List<String> findFileNamesAfter(String afterHash, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.size = :size WHERE b.hash = :hash")
+    int updateSize(String hash, long size);
+}
@@ -0,0 +1,30 @@
+package project.service.repository;
+
+import java.util.Date;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.JobLock;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+    // 행이 없을 때만 만료된 상태로 생성
+    @Modifying
+    @Query(value = "MERGE INTO job_lock l "
+            + "USING (SELECT :jobName AS job_name FROM dual) s "
+            + "ON (l.job_name = s.job_name) "
+            + "WHEN NOT MATCHED THEN INSERT (job_name, locked_until) VALUES (:jobName, :expired)", nativeQuery = true)
+    int createIfAbsent(String jobName, Date expired);
+
+    // 만료된 경우에만 가져가기 (다른 인스턴스가 실행 중이면 0)
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil, l.lockedBy = :owner WHERE l.jobName = :jobName AND l.lockedUntil < :now")
+    int claim(String jobName, String owner, Date now, Date lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :now WHERE l.jobName = :jobName AND l.lockedBy = :owner")
+    int release(String jobName, String owner, Date now);
+}
@@ -0,0 +1,68 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import project.service.entity.MemberWorkload;
+import project.service.entity.MemberWorkloadId;
+
+@Repository
+public interface MemberWorkloadRepository extends JpaRepository<MemberWorkload, MemberWorkloadId> {
+    // 프로젝트 삭제 시 전체 합계에서 뺄 값을 읽는 동안 다른 증감이 끼어들지 않도록 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM MemberWorkload w WHERE w.id.projectId = :projectId")
+    List<MemberWorkload> findByProjectId(Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM MemberWorkload w WHERE w.id.projectId = :projectId")
+    int deleteByProjectId(Long projectId);
+
+    // 행이 없으면 생성, 있으면 증감
+    @Modifying
+    @Query(value = "MERGE INTO member_workload w "
+            + "USING (SELECT :userId AS user_id, :projectId AS project_id FROM dual) s "
+            + "ON (w.user_id = s.user_id AND w.project_id = s.project_id) "
+            + "WHEN MATCHED THEN UPDATE SET w.open_count = w.open_count + :openDelta, "
+            + "w.overdue_count = w.overdue_count + :overdueDelta, w.done_count = w.done_count + :doneDelta "
+            + "WHEN NOT MATCHED THEN INSERT (user_id, project_id, open_count, overdue_count, done_count) "
+            + "VALUES (:userId, :projectId, :openDelta, :overdueDelta, :doneDelta)", nativeQuery = true)
+    int addCounts(long userId, long projectId, int openDelta, int overdueDelta, int doneDelta);
+
+    // 담당 업무가 하나도 없는데 행이 남은 사용자
+    @Query("SELECT DISTINCT w.id.userId FROM MemberWorkload w WHERE w.id.userId > :afterId "
+            + "AND NOT EXISTS (SELECT 1 FROM UserTask ut WHERE ut.id.userId = w.id.userId) ORDER BY w.id.userId")
+    List<Long> findUnassignedUserIdsAfter(long afterId, Pageable pageable);
+
+    // 재구축 대상 사용자의 행을 잠그면서 0 으로 (진행 중인 증감 트랜잭션이 끝날 때까지 대기)
+    @Modifying
+    @Query("UPDATE MemberWorkload w SET w.openCount = 0, w.overdueCount = 0, w.doneCount = 0 WHERE w.id.userId IN :userIds")
+    int resetByUserIdIn(Collection<Long> userIds);
+
+    // 프로젝트별 행과 ROLLUP 으로 만든 전체 합계 행(project_id = 0)을 실제 값으로 덮어쓰기
+    // 기한 초과는 종료일이 아니라 sweep 이 켠 task.overdue_counted 기준 (증감과 같은 기준)
+    @Modifying
+    @Query(value = "MERGE INTO member_workload w USING ("
+            + "SELECT ut.user_id, NVL(t.project_id, 0) AS project_id, "
+            + "SUM(CASE WHEN t.status <> 2 THEN 1 ELSE 0 END) AS open_count, "
+            + "SUM(CASE WHEN t.status <> 2 AND t.overdue_counted = 1 THEN 1 ELSE 0 END) AS overdue_count, "
+            + "SUM(CASE WHEN t.status = 2 THEN 1 ELSE 0 END) AS done_count "
+            + "FROM user_task ut JOIN task t ON t.task_id = ut.task_id WHERE ut.user_id IN (:userIds) "
+            + "GROUP BY ut.user_id, ROLLUP(t.project_id)) s "
+            + "ON (w.user_id = s.user_id AND w.project_id = s.project_id) "
+            + "WHEN MATCHED THEN UPDATE SET w.open_count = s.open_count, w.overdue_count = s.overdue_count, w.done_count = s.done_count "
+            + "WHEN NOT MATCHED THEN INSERT (user_id, project_id, open_count, overdue_count, done_count) "
+            + "VALUES (s.user_id, s.project_id, s.open_count, s.overdue_count, s.done_count)", nativeQuery = true)
+    int mergeActualByUserIdIn(Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM MemberWorkload w WHERE w.id.userId IN :userIds AND w.openCount = 0 AND w.doneCount = 0")
+    int deleteEmptyByUserIdIn(Collection<Long> userIds);
+}
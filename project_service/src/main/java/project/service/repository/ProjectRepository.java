@@ -1,12 +1,60 @@
 package project.service.repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import project.service.dto.response.ProjectSummaryDto;
 import project.service.entity.Project;
+import project.service.repository.projection.ChildCountView;
+import project.service.repository.projection.ImageRefView;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
 	boolean existsByThumbnail(String thumbnail);
+
+	Optional<Project> findByCreateEventKey(String createEventKey);
+
+	@Query("SELECT p.thumbnail FROM Project p WHERE p.thumbnail IN :thumbnails AND p.thumbnailType = 'M'")
+	List<String> findUploadedThumbnailsIn(Collection<String> thumbnails);
+
+	@Query("SELECT new project.service.dto.response.ProjectSummaryDto(p.id, p.title, p.subTitle, p.description, p.startDate, p.endDate, p.thumbnail, p.thumbnailType, p.childCount, p.childCompleteCount) FROM Project p WHERE p.id IN :projectIds")
+	List<ProjectSummaryDto> findSummariesByIdIn(Collection<Long> projectIds);
+
+	@Modifying
+	@Query("UPDATE Project p SET p.childCompleteCount = p.childCompleteCount + :delta WHERE p.id = :projectId")
+	int addChildCompleteCount(Long projectId, int delta);
+
+	@Modifying
+	@Query("UPDATE Project p SET p.childCount = p.childCount + :delta WHERE p.id = :projectId")
+	int addChildCount(Long projectId, int delta);
+
+	// 업무 일정이 프로젝트 기간을 벗어나면 기간을 넓힌다 (업무 생성과 같은 규칙)
+	@Modifying
+	@Query("UPDATE Project p SET "
+			+ "p.startDate = CASE WHEN p.startDate IS NULL OR p.startDate > :startDate THEN :startDate ELSE p.startDate END, "
+			+ "p.endDate = CASE WHEN p.endDate IS NULL OR p.endDate < :endDate THEN :endDate ELSE p.endDate END "
+			+ "WHERE p.id = :projectId")
+	int extendDateRange(Long projectId, Date startDate, Date endDate);
+
+	@Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+	List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+	@Query("SELECT p.id AS id, p.thumbnail AS path FROM Project p WHERE p.id > :afterId AND p.thumbnailType = 'M' ORDER BY p.id")
+	List<ImageRefView> findUploadedThumbnailRefsAfter(Long afterId, Pageable pageable);
+
+	@Query("SELECT p.id AS ownerId, p.childCount AS childCount, p.childCompleteCount AS childCompleteCount FROM Project p WHERE p.id IN :projectIds")
+	List<ChildCountView> findStoredCountersByIdIn(Collection<Long> projectIds);
+
+	@Modifying
+	@Query("UPDATE Project p SET p.childCount = :childCount, p.childCompleteCount = :childCompleteCount WHERE p.id = :projectId AND p.childCount = :expectedChildCount AND p.childCompleteCount = :expectedChildCompleteCount")
+	int compareAndSetCounters(Long projectId, int expectedChildCount, int expectedChildCompleteCount, int childCount, int childCompleteCount);
 }
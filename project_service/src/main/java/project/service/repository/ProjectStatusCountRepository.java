@@ -0,0 +1,46 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.ProjectStatusCount;
+import project.service.entity.ProjectStatusCountId;
+
+@Repository
+public interface ProjectStatusCountRepository extends JpaRepository<ProjectStatusCount, ProjectStatusCountId> {
+    @Query("SELECT c FROM ProjectStatusCount c WHERE c.id.projectId = :projectId ORDER BY c.id.status")
+    List<ProjectStatusCount> findByProjectId(Long projectId);
+
+    @Query("SELECT c FROM ProjectStatusCount c WHERE c.id.projectId IN :projectIds")
+    List<ProjectStatusCount> findByProjectIdIn(Collection<Long> projectIds);
+
+    @Modifying
+    @Query("DELETE FROM ProjectStatusCount c WHERE c.id.projectId = :projectId")
+    int deleteByProjectId(Long projectId);
+
+    // 행이 없으면 생성, 있으면 증감
+    @Modifying
+    @Query(value = "MERGE INTO project_status_count c "
+            + "USING (SELECT :projectId AS project_id, :status AS status FROM dual) s "
+            + "ON (c.project_id = s.project_id AND c.status = s.status) "
+            + "WHEN MATCHED THEN UPDATE SET c.task_count = c.task_count + :delta "
+            + "WHEN NOT MATCHED THEN INSERT (project_id, status, task_count) VALUES (:projectId, :status, :delta)", nativeQuery = true)
+    int addCount(long projectId, int status, int delta);
+
+    // 집계 행이 하나도 없는 프로젝트 (기능 도입 전에 만든 프로젝트) 를 task 에서 채우기
+    @Modifying
+    @Query(value = "INSERT INTO project_status_count (project_id, status, task_count) "
+            + "SELECT t.project_id, t.status, COUNT(*) FROM task t "
+            + "WHERE NOT EXISTS (SELECT 1 FROM project_status_count c WHERE c.project_id = t.project_id) "
+            + "GROUP BY t.project_id, t.status", nativeQuery = true)
+    int insertMissingProjectRows();
+
+    @Modifying
+    @Query("UPDATE ProjectStatusCount c SET c.taskCount = :taskCount WHERE c.id.projectId = :projectId AND c.id.status = :status AND c.taskCount = :expectedTaskCount")
+    int compareAndSetCount(long projectId, int status, int expectedTaskCount, int taskCount);
+}
@@ -0,0 +1,31 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.TaskDependency;
+import project.service.repository.projection.DependencyEdgeView;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+    boolean existsByTaskIdAndBlockedByTaskId(Long taskId, Long blockedByTaskId);
+    @Query("SELECT d.blockedByTask.id AS blockedByTaskId, d.task.id AS taskId FROM TaskDependency d WHERE d.projectId = :projectId")
+    List<DependencyEdgeView> findEdgesByProjectId(Long projectId);
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.task.id = :taskId AND d.blockedByTask.id = :blockedByTaskId")
+    int deleteEdge(Long taskId, Long blockedByTaskId);
+    // taskIds 쪽 끝만 projectId 로 옮겨진 관계 (반대쪽 업무가 다른 프로젝트에 있는 경우)
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE "
+            + "(d.task.id IN :taskIds AND d.blockedByTask.id NOT IN (SELECT t.id FROM Task t WHERE t.project.id = :projectId)) "
+            + "OR (d.blockedByTask.id IN :taskIds AND d.task.id NOT IN (SELECT t.id FROM Task t WHERE t.project.id = :projectId))")
+    int deleteCrossProject(Collection<Long> taskIds, Long projectId);
+    @Modifying
+    @Query("UPDATE TaskDependency d SET d.projectId = :projectId WHERE d.task.id IN :taskIds")
+    int updateProjectIdByTaskIdIn(Collection<Long> taskIds, Long projectId);
+}
@@ -1,10 +1,29 @@
 package project.service.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import project.service.entity.TaskImage;
+import project.service.repository.projection.ImageRefView;
+import project.service.repository.projection.TaskImagePathView;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskImageRepository extends JpaRepository<TaskImage, Long> {
     List<TaskImage> findByTaskId(Long taskId);
+    List<TaskImage> findByTaskIdAndIdIn(Long taskId, Collection<Long> imageIds);
+    List<TaskImage> findByTaskIdAndImagePathIn(Long taskId, Collection<String> imagePaths);
+    @Query("SELECT i.imagePath FROM TaskImage i WHERE i.task.id IN :taskIds")
+    List<String> findImagePathsByTaskIdIn(Collection<Long> taskIds);
+    @Query("SELECT i.imagePath FROM TaskImage i WHERE i.task.project.id = :projectId")
+    List<String> findImagePathsByProjectId(Long projectId);
+    @Query("SELECT i.task.id AS taskId, i.imagePath AS imagePath FROM TaskImage i WHERE i.task.id = :taskId ORDER BY i.id")
+    List<TaskImagePathView> findPathViewsByTaskId(Long taskId);
+    @Query("SELECT i.task.id AS taskId, i.imagePath AS imagePath FROM TaskImage i WHERE i.task.project.id = :projectId ORDER BY i.task.id, i.id")
+    List<TaskImagePathView> findPathViewsByProjectId(Long projectId);
+    @Query("SELECT DISTINCT i.imagePath FROM TaskImage i WHERE i.imagePath IN :imagePaths")
+    List<String> findImagePathsIn(Collection<String> imagePaths);
+    @Query("SELECT i.id AS id, i.imagePath AS path FROM TaskImage i WHERE i.id > :afterId ORDER BY i.id")
+    List<ImageRefView> findImageRefsAfter(Long afterId, Pageable pageable);
 }
\ No newline at end of file
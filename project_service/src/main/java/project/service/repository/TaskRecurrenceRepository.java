@@ -0,0 +1,24 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.TaskRecurrence;
+
+@Repository
+public interface TaskRecurrenceRepository extends JpaRepository<TaskRecurrence, Long> {
+    Optional<TaskRecurrence> findByTaskId(Long taskId);
+    @Query("SELECT r.id FROM TaskRecurrence r WHERE r.id > :afterId AND r.nextStartDate <= :horizon AND (r.untilDate IS NULL OR r.nextStartDate <= r.untilDate) ORDER BY r.id")
+    List<Long> findDueIdsAfter(Long afterId, Date horizon, Pageable pageable);
+    @Modifying
+    @Query("UPDATE TaskRecurrence r SET r.projectId = :projectId WHERE r.task.id IN :taskIds")
+    int updateProjectIdByTaskIdIn(Collection<Long> taskIds, Long projectId);
+}
@@ -1,10 +1,25 @@
 package project.service.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import project.service.dto.response.KanbanCardDto;
+import project.service.entity.Project;
 import project.service.entity.Task;
+import project.service.repository.projection.ChildCountView;
+import project.service.repository.projection.ImageRefView;
+import project.service.repository.projection.TaskScheduleView;
+import project.service.repository.projection.StatusCountView;
+import project.service.repository.projection.TaskStatusProjection;
 
+import jakarta.persistence.LockModeType;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +31,66 @@ public interface TaskRepository extends JpaRepository<Task,Long> {
     int countByProjectIdAndDepthAndStatus(Long projectId);
     @Query("SELECT (SUM(CASE WHEN t.status = 2 THEN 1 ELSE 0 END) * 1.0 / COUNT(t)) FROM Task t WHERE t.project.id = :projectId AND t.depth = 0")
     Float countTotalAndCompletedTasksByProjectId(Long projectId);
+    @Query("SELECT new project.service.repository.projection.TaskStatusProjection(t.id, t.status, p.id) FROM Task t LEFT JOIN t.parentTask p WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    List<TaskStatusProjection> findStatusesByProjectIdAndIdIn(Long projectId, Collection<Long> taskIds);
+    // 완료로 바뀌면 기한 초과 집계에서도 빠진다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.overdueCounted = CASE WHEN :status = 2 THEN false ELSE t.overdueCounted END WHERE t.id IN :taskIds")
+    int updateStatusByIdIn(Collection<Long> taskIds, int status);
+    // 담당자 집계를 바꾸기 전에 업무 행을 잠근다 (기한 초과 sweep 과 순서를 맞춤)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :taskId")
+    Optional<Task> findByIdForUpdate(Long taskId);
+    @Query(value = "SELECT task_id FROM task WHERE task_id IN (:taskIds) FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(Collection<Long> taskIds);
+    // 종료일이 지났는데 아직 기한 초과로 집계하지 않은 미완료 업무 (다른 트랜잭션이 잠근 행은 다음 sweep 에서)
+    @Query(value = "SELECT task_id FROM task WHERE overdue_counted = 0 AND status <> 2 AND end_date < :now "
+            + "AND ROWNUM <= :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockNewlyOverdue(Date now, int limit);
+    @Modifying
+    @Query("UPDATE Task t SET t.overdueCounted = true WHERE t.id IN :taskIds")
+    int markOverdueByIdIn(Collection<Long> taskIds);
+    @Modifying
+    @Query("UPDATE Task t SET t.childCompleteCount = t.childCompleteCount + :delta WHERE t.id = :taskId")
+    int addChildCompleteCount(Long taskId, int delta);
+    @Modifying
+    @Query("UPDATE Task t SET t.childCount = t.childCount + :delta WHERE t.id = :taskId")
+    int addChildCount(Long taskId, int delta);
+    @Query("SELECT t.parentTask.id AS ownerId, COUNT(t) AS childCount, SUM(CASE WHEN t.status = 2 THEN 1 ELSE 0 END) AS childCompleteCount FROM Task t WHERE t.project.id IN :projectIds AND t.parentTask IS NOT NULL GROUP BY t.parentTask.id")
+    List<ChildCountView> countChildrenByParentTask(Collection<Long> projectIds);
+    @Query("SELECT t.project.id AS ownerId, COUNT(t) AS childCount, SUM(CASE WHEN t.status = 2 THEN 1 ELSE 0 END) AS childCompleteCount FROM Task t WHERE t.project.id IN :projectIds AND t.parentTask IS NULL GROUP BY t.project.id")
+    List<ChildCountView> countTopLevelTasksByProject(Collection<Long> projectIds);
+    @Query("SELECT t.id AS ownerId, COALESCE(t.childCount, 0) AS childCount, COALESCE(t.childCompleteCount, 0) AS childCompleteCount FROM Task t WHERE t.project.id IN :projectIds")
+    List<ChildCountView> findStoredCountersByProjectIdIn(Collection<Long> projectIds);
+    @Modifying
+    @Query("UPDATE Task t SET t.childCount = :childCount, t.childCompleteCount = :childCompleteCount WHERE t.id = :taskId AND COALESCE(t.childCount, 0) = :expectedChildCount AND COALESCE(t.childCompleteCount, 0) = :expectedChildCompleteCount")
+    int compareAndSetCounters(Long taskId, int expectedChildCount, int expectedChildCompleteCount, int childCount, int childCompleteCount);
+    @Query("SELECT t.id AS taskId, t.title AS title, t.startDate AS startDate, t.endDate AS endDate FROM Task t WHERE t.project.id = :projectId")
+    List<TaskScheduleView> findSchedulesByProjectId(Long projectId);
+    // 업무와 하위 업무(최대 depth 2) 아이디
+    @Query("SELECT t.id FROM Task t LEFT JOIN t.parentTask p LEFT JOIN p.parentTask gp WHERE t.id = :taskId OR p.id = :taskId OR gp.id = :taskId")
+    List<Long> findSubtreeIds(Long taskId);
+    // 업로드한 썸네일 (thumbnailType = 'M')
+    @Query("SELECT t.thumbnail FROM Task t WHERE t.id IN :taskIds AND t.thumbnailType = 'M'")
+    List<String> findUploadedThumbnailsByIdIn(Collection<Long> taskIds);
+    @Query("SELECT t.thumbnail FROM Task t WHERE t.project.id = :projectId AND t.thumbnailType = 'M'")
+    List<String> findUploadedThumbnailsByProjectId(Long projectId);
+    @Query("SELECT DISTINCT t.thumbnail FROM Task t WHERE t.thumbnail IN :thumbnails AND t.thumbnailType = 'M'")
+    List<String> findUploadedThumbnailsIn(Collection<String> thumbnails);
+    @Query("SELECT MAX(t.depth) FROM Task t LEFT JOIN t.parentTask p LEFT JOIN p.parentTask gp WHERE t.id = :taskId OR p.id = :taskId OR gp.id = :taskId")
+    Integer findMaxDepthInSubtree(Long taskId);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.depth = t.depth + :depthDelta, t.project = :project WHERE t.id IN :taskIds")
+    int moveSubtree(Collection<Long> taskIds, int depthDelta, Project project);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.parentTask = :parentTask WHERE t.id = :taskId")
+    int updateParentTask(Long taskId, Task parentTask);
+    @Query("SELECT new project.service.dto.response.KanbanCardDto(t.id, t.title, t.startDate, t.endDate, t.status, t.depth, p.id, t.thumbnail, t.thumbnailType) FROM Task t LEFT JOIN t.parentTask p WHERE t.project.id = :projectId AND t.status = :status AND t.id > :afterId ORDER BY t.id")
+    List<KanbanCardDto> findKanbanCards(Long projectId, int status, long afterId, Pageable pageable);
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS taskCount FROM Task t WHERE t.project.id IN :projectIds GROUP BY t.project.id, t.status")
+    List<StatusCountView> countByProjectIdInGroupByStatus(Collection<Long> projectIds);
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS taskCount FROM Task t LEFT JOIN t.parentTask p LEFT JOIN p.parentTask gp WHERE t.id = :taskId OR p.id = :taskId OR gp.id = :taskId GROUP BY t.project.id, t.status")
+    List<StatusCountView> countSubtreeByStatus(Long taskId);
+    @Query("SELECT t.id AS id, t.thumbnail AS path FROM Task t WHERE t.id > :afterId AND t.thumbnailType = 'M' ORDER BY t.id")
+    List<ImageRefView> findUploadedThumbnailRefsAfter(Long afterId, Pageable pageable);
 }
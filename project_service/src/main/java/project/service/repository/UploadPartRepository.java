@@ -0,0 +1,34 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.UploadPart;
+
+@Repository
+public interface UploadPartRepository extends JpaRepository<UploadPart, String> {
+    @Query("SELECT p FROM UploadPart p WHERE p.uploadId = :uploadId AND p.committed = true ORDER BY p.offset")
+    List<UploadPart> findCommittedByUploadId(String uploadId);
+
+    @Query("SELECT p.blobKey FROM UploadPart p WHERE p.uploadId IN :uploadIds")
+    List<String> findKeysByUploadIdIn(Collection<String> uploadIds);
+
+    // 이어 쓰는 중인 업로드의 조각은 제외
+    @Query("SELECT p.blobKey FROM UploadPart p WHERE p.committed = false AND p.createdDate < :cutoff "
+            + "AND NOT EXISTS (SELECT u.id FROM UploadSession u WHERE u.id = p.uploadId AND u.leaseUntil >= :now)")
+    List<String> findPendingKeysCreatedBefore(Date cutoff, Date now);
+
+    @Modifying
+    @Query("UPDATE UploadPart p SET p.committed = true WHERE p.blobKey IN :blobKeys")
+    int markCommitted(Collection<String> blobKeys);
+
+    @Modifying
+    @Query("DELETE FROM UploadPart p WHERE p.uploadId IN :uploadIds")
+    int deleteByUploadIdIn(Collection<String> uploadIds);
+}
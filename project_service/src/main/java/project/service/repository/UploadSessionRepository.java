@@ -0,0 +1,49 @@
+package project.service.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import project.service.entity.UploadSession;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    // offset 이 맞고 다른 요청이 이어 쓰는 중이 아닐 때만 가져가기 (아니면 0)
+    @Modifying
+    @Query("UPDATE UploadSession u SET u.writer = :writer, u.leaseUntil = :leaseUntil WHERE u.id = :id AND u.uploadOffset = :offset "
+            + "AND u.completedDate IS NULL AND (u.leaseUntil IS NULL OR u.leaseUntil < :now)")
+    int acquireLease(String id, long offset, String writer, Date now, Date leaseUntil);
+
+    // 조각마다 lease 연장 (이미 다른 요청이 가져갔으면 0)
+    @Modifying
+    @Query("UPDATE UploadSession u SET u.leaseUntil = :leaseUntil WHERE u.id = :id AND u.writer = :writer")
+    int renewLease(String id, String writer, Date leaseUntil);
+
+    @Modifying
+    @Query("UPDATE UploadSession u SET u.writer = NULL, u.leaseUntil = NULL WHERE u.id = :id AND u.writer = :writer")
+    int releaseLease(String id, String writer);
+
+    // lease 를 가진 요청이고 기록된 offset 이 expectedOffset 일 때만 갱신 (다른 요청이 먼저 이어 쓴 경우 0)
+    @Modifying
+    @Query("UPDATE UploadSession u SET u.uploadOffset = :newOffset WHERE u.id = :id AND u.writer = :writer "
+            + "AND u.uploadOffset = :expectedOffset AND u.completedDate IS NULL")
+    int advanceOffset(String id, String writer, long expectedOffset, long newOffset);
+
+    @Modifying
+    @Query("UPDATE UploadSession u SET u.completedDate = :completedDate, u.contentHash = :contentHash WHERE u.id = :id AND u.completedDate IS NULL")
+    int complete(String id, Date completedDate, String contentHash);
+
+    // 만료되었고 이어 쓰는 중이 아닌 업로드
+    @Query("SELECT u.id FROM UploadSession u WHERE u.createdDate < :cutoff AND (u.leaseUntil IS NULL OR u.leaseUntil < :now)")
+    List<String> findExpiredIds(Date cutoff, Date now);
+
+    // 삭제 전에 잠근다. 그 사이 lease 를 가져간 업로드는 빠지고, 잠근 뒤의 acquireLease 는 삭제가 커밋될 때까지 기다린 뒤 0 을 돌려준다.
+    @Query(value = "SELECT upload_id FROM upload_session WHERE upload_id IN (:ids) "
+            + "AND (lease_until IS NULL OR lease_until < :now) FOR UPDATE", nativeQuery = true)
+    List<String> lockUnleasedByIdIn(Collection<String> ids, Date now);
+}
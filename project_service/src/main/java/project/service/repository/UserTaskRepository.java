@@ -1,13 +1,24 @@
 package project.service.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import project.service.entity.UserTask;
 import project.service.entity.UserTaskId;
+import project.service.repository.projection.AssignmentView;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserTaskRepository extends JpaRepository<UserTask, UserTaskId>{
     List<UserTask> findByTaskId(Long taskId);
+    @Query("SELECT ut.id.userId AS userId, t.id AS taskId, t.project.id AS projectId, t.status AS status, t.endDate AS endDate, t.overdueCounted AS overdueCounted FROM UserTask ut JOIN ut.task t WHERE t.id IN :taskIds")
+    List<AssignmentView> findAssignmentsByTaskIdIn(Collection<Long> taskIds);
+    // 업무와 하위 업무(최대 depth 2) 전체의 배정
+    @Query("SELECT ut.id.userId AS userId, t.id AS taskId, t.project.id AS projectId, t.status AS status, t.endDate AS endDate, t.overdueCounted AS overdueCounted FROM UserTask ut JOIN ut.task t LEFT JOIN t.parentTask p LEFT JOIN p.parentTask gp WHERE t.id = :taskId OR p.id = :taskId OR gp.id = :taskId")
+    List<AssignmentView> findAssignmentsInSubtree(Long taskId);
+    @Query("SELECT DISTINCT ut.id.userId FROM UserTask ut WHERE ut.id.userId > :afterId ORDER BY ut.id.userId")
+    List<Long> findUserIdsAfter(long afterId, Pageable pageable);
 }
@@ -0,0 +1,15 @@
+package project.service.repository.projection;
+
+import java.util.Date;
+
+/**
+ * 담당자 집계 보정에 필요한 배정 정보
+ */
+public interface AssignmentView {
+    Long getUserId();
+    Long getTaskId();
+    Long getProjectId();
+    Integer getStatus();
+    Date getEndDate();
+    Boolean getOverdueCounted();
+}
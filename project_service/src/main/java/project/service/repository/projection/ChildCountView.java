@@ -0,0 +1,11 @@
+package project.service.repository.projection;
+
+/**
+ * 상위 업무/프로젝트 아이디별 childCount, childCompleteCount
+ * (집계 결과와 저장된 카운터 모두 이 형태로 조회)
+ */
+public interface ChildCountView {
+    Long getOwnerId();
+    Long getChildCount();
+    Long getChildCompleteCount();
+}
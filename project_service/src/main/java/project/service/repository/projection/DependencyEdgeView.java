@@ -0,0 +1,6 @@
+package project.service.repository.projection;
+
+public interface DependencyEdgeView {
+    Long getBlockedByTaskId();
+    Long getTaskId();
+}
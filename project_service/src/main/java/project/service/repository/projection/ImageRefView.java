@@ -0,0 +1,9 @@
+package project.service.repository.projection;
+
+/**
+ * 이미지를 참조하는 행의 아이디와 저장된 이미지 경로(또는 파일 이름)
+ */
+public interface ImageRefView {
+    Long getId();
+    String getPath();
+}
@@ -0,0 +1,7 @@
+package project.service.repository.projection;
+
+public interface StatusCountView {
+    Long getProjectId();
+    Integer getStatus();
+    Long getTaskCount();
+}
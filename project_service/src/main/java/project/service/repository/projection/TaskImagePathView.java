@@ -0,0 +1,6 @@
+package project.service.repository.projection;
+
+public interface TaskImagePathView {
+    Long getTaskId();
+    String getImagePath();
+}
@@ -0,0 +1,10 @@
+package project.service.repository.projection;
+
+import java.util.Date;
+
+public interface TaskScheduleView {
+    Long getTaskId();
+    String getTitle();
+    Date getStartDate();
+    Date getEndDate();
+}
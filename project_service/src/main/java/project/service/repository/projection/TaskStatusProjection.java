@@ -0,0 +1,16 @@
+package project.service.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태 변경 시 카운터 계산에 필요한 컬럼만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class TaskStatusProjection {
+    private long taskId;
+    private int status;
+    // null == 프로젝트 최상위 업무
+    private Long parentTaskId;
+}
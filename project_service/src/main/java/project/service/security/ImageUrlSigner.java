@@ -0,0 +1,102 @@
+package project.service.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 주소 서명 (HMAC-SHA256, 만료 시각 포함)
+ * 이미지 요청은 Spring Security 필터 체인을 거치지 않고 SignedImageFilter 에서 서명만 확인한다.
+ * 만료 시각은 ttl 단위로 올림하므로 같은 구간에 발급한 주소는 같아 브라우저 캐시를 그대로 쓸 수 있다.
+ */
+@Component
+public class ImageUrlSigner {
+    public static final String TASK_IMAGE = "task-image";
+    public static final String TASK_THUMBNAIL = "task-thumbnail";
+    public static final String PROJECT_THUMBNAIL = "project-thumbnail";
+    public static final String EXPIRES = "expires";
+    public static final String SIGNATURE = "sig";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final boolean required;
+    private final ThreadLocal<Mac> macs;
+
+    public ImageUrlSigner(@Value("${image.url.secret:${spring.jwt.secretKey}}") String secret,
+            @Value("${image.url.ttl-minutes:60}") long ttlMinutes,
+            @Value("${image.url.require-signature:false}") boolean required) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlSeconds = TimeUnit.MINUTES.toSeconds(ttlMinutes);
+        this.required = required;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * @return 이미지 주소에 붙일 "expires=...&sig=..." (ttl ~ 2*ttl 동안 유효)
+     */
+    public String query(String kind, String name) {
+        long now = System.currentTimeMillis() / 1000;
+        long expires = (now / ttlSeconds + 2) * ttlSeconds;
+        return EXPIRES + "=" + expires + "&" + SIGNATURE + "=" + sign(kind, name, expires);
+    }
+
+    /**
+     * 업로드한 업무 썸네일(thumbnailType = 'M')이면 서명된 조회 주소, 아이콘이면 그대로
+     */
+    public String taskThumbnailUrl(String thumbnail, char thumbnailType) {
+        if (thumbnail == null || thumbnailType != 'M') {
+            return thumbnail;
+        }
+        return SignedImageFilter.TASK_THUMBNAIL_PATH + thumbnail + "?" + query(TASK_THUMBNAIL, thumbnail);
+    }
+
+    public boolean verify(String kind, String name, String expires, String signature) {
+        if (name == null || expires == null || signature == null) {
+            return false;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(expires);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(kind, name, expiresAt).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * true 이면 서명 없는 이미지 요청을 거절 (기존 클라이언트 호환을 위해 기본 false)
+     */
+    public boolean isRequired() {
+        return required;
+    }
+
+    // 종류를 포함해 업무 이미지 서명으로 썸네일을 요청하지 못하도록
+    private String sign(String kind, String name, long expires) {
+        Mac mac = macs.get();
+        byte[] digest = mac.doFinal((kind + "\n" + name + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -4,15 +4,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authorization.AuthorizationEventPublisher;
 import org.springframework.security.authorization.SpringAuthorizationEventPublisher;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -40,6 +43,29 @@ public class SecurityConfig {
         return new JWTFilter(exceptionResolver, jwtUtil);
     }
 
+    // 보안 필터 체인에 추가한 필터이므로 서블릿 필터로 한 번 더 등록하지 않는다 (체인에서 제외한 경로에서 실행되지 않도록)
+    @Bean
+    public FilterRegistrationBean<JWTFilter> jwtFilterRegistration(JWTFilter jwtFilter) {
+        FilterRegistrationBean<JWTFilter> registration = new FilterRegistrationBean<>(jwtFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    // 이미지 조회는 보안 필터 체인(쿠키, JWT 파싱) 대신 서명만 확인
+    @Bean
+    public WebSecurityCustomizer imageSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(HttpMethod.GET, SignedImageFilter.TASK_IMAGE_PATH,
+                SignedImageFilter.TASK_THUMBNAIL_PATH + "*", SignedImageFilter.PROJECT_THUMBNAIL_PATH + "*");
+    }
+
+    @Bean
+    public FilterRegistrationBean<SignedImageFilter> signedImageFilterRegistration(ImageUrlSigner imageUrlSigner) {
+        FilterRegistrationBean<SignedImageFilter> registration = new FilterRegistrationBean<>(new SignedImageFilter(imageUrlSigner));
+        registration.addUrlPatterns(SignedImageFilter.TASK_IMAGE_PATH, SignedImageFilter.TASK_THUMBNAIL_PATH + "*",
+                SignedImageFilter.PROJECT_THUMBNAIL_PATH + "*");
+        return registration;
+    }
+
     @Autowired
     @Qualifier("handlerExceptionResolver")
     private HandlerExceptionResolver exceptionResolver;
@@ -73,6 +99,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 //관리자 기능 api 권한
                 .requestMatchers("/user/admin/api/**").hasAnyAuthority("ADMIN")
+                .requestMatchers("/node2/admin/api/**").hasAnyAuthority("ADMIN")
                 //유저 기능 api 권한(수정, 등록, 삭제)
                 .requestMatchers("/user/api/**").hasAnyAuthority("USER")
                 //비로그인 회원은 조회만 가능하도록 설정
@@ -0,0 +1,51 @@
+package project.service.security;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 이미지 요청 서명 확인 (이미지 경로는 Spring Security 필터 체인에서 제외)
+ * 서명이 있으면 반드시 유효해야 하고, 없으면 image.url.require-signature 설정에 따른다.
+ */
+@RequiredArgsConstructor
+public class SignedImageFilter extends OncePerRequestFilter {
+    public static final String TASK_IMAGE_PATH = "/node2/api/task/image";
+    public static final String TASK_THUMBNAIL_PATH = "/node2/api/task/thumbnail/";
+    public static final String PROJECT_THUMBNAIL_PATH = "/node2/project/thumbnail/";
+
+    private final ImageUrlSigner imageUrlSigner;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String signature = request.getParameter(ImageUrlSigner.SIGNATURE);
+        if (signature == null && !imageUrlSigner.isRequired()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String kind;
+        String name;
+        if (path.startsWith(TASK_THUMBNAIL_PATH)) {
+            kind = ImageUrlSigner.TASK_THUMBNAIL;
+            name = path.substring(TASK_THUMBNAIL_PATH.length());
+        } else if (path.startsWith(PROJECT_THUMBNAIL_PATH)) {
+            kind = ImageUrlSigner.PROJECT_THUMBNAIL;
+            name = path.substring(PROJECT_THUMBNAIL_PATH.length());
+        } else {
+            kind = ImageUrlSigner.TASK_IMAGE;
+            name = request.getParameter("filename");
+        }
+        if (!imageUrlSigner.verify(kind, name, request.getParameter(ImageUrlSigner.EXPIRES), signature)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,418 @@
+package project.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import project.service.entity.UploadPart;
+import project.service.entity.UploadSession;
+import project.service.global.exception.UploadChecksumMismatchException;
+import project.service.global.exception.UploadConflictException;
+import project.service.global.exception.UploadTooLargeException;
+import project.service.global.storage.LocalBlobStore;
+import project.service.repository.UploadPartRepository;
+import project.service.repository.UploadSessionRepository;
+
+// upload_session / upload_part 의 조건부 UPDATE 를 메모리에서 흉내 내고, 조각은 임시 디렉토리의 LocalBlobStore 에 쓴다.
+class ResumableUploadServiceTest {
+	private static final int PART_BYTES = 4;
+
+	@TempDir
+	Path blobDir;
+
+	private final Map<String, UploadSession> sessions = new LinkedHashMap<>();
+	private final Map<String, UploadPart> parts = new LinkedHashMap<>();
+	private UploadSessionRepository sessionRepository;
+	private UploadPartRepository partRepository;
+	private JobLockService jobLockService;
+	private ResumableUploadService service;
+
+	@BeforeEach
+	void setUp() {
+		sessionRepository = mock(UploadSessionRepository.class);
+		partRepository = mock(UploadPartRepository.class);
+		jobLockService = mock(JobLockService.class);
+		stubSessions();
+		stubParts();
+		service = new ResumableUploadService(sessionRepository, partRepository, mock(DeferredFileService.class),
+				new LocalBlobStore(blobDir), new TransactionTemplate(mock(PlatformTransactionManager.class)), jobLockService,
+				1024L, PART_BYTES, 300L, 24L);
+	}
+
+	@Test
+	void appendWholeBodyCompletesUpload() throws IOException {
+		byte[] body = bytes(10);
+		UploadSession session = service.create("a.png", body.length);
+
+		assertEquals(10L, service.append(session.getId(), 0L, checksum(body), new ByteArrayInputStream(body)));
+		assertTrue(session.isCompleted());
+		assertEquals(sha256Hex(body), session.getContentHash());
+		assertNull(session.getWriter());
+		assertEquals(List.of(0L, 4L, 8L), committedOffsets(session.getId()));
+
+		ResumableUploadService.StagedFile file = service.take(session.getId());
+		assertEquals("a.png", file.getFileName());
+		assertArrayEquals(body, file.getFileContent());
+		assertTrue(sessions.isEmpty());
+		assertTrue(parts.isEmpty());
+	}
+
+	@Test
+	void appendContinuesFromRecordedOffset() throws IOException {
+		byte[] body = bytes(10);
+		UploadSession session = service.create("a.png", body.length);
+
+		assertEquals(6L, service.append(session.getId(), 0L, null, new ByteArrayInputStream(body, 0, 6)));
+		assertEquals(10L, service.append(session.getId(), 6L, null, new ByteArrayInputStream(body, 6, 4)));
+		assertArrayEquals(body, service.take(session.getId()).getFileContent());
+	}
+
+	@Test
+	void offsetMismatchIsConflict() {
+		UploadSession session = service.create("a.png", 10L);
+
+		assertThrows(UploadConflictException.class,
+				() -> service.append(session.getId(), 4L, null, new ByteArrayInputStream(bytes(6))));
+		verify(sessionRepository, never()).acquireLease(anyString(), anyLong(), anyString(), any(), any());
+		assertEquals(0L, session.getUploadOffset());
+	}
+
+	@Test
+	void activeLeaseIsConflict() {
+		UploadSession session = service.create("a.png", 10L);
+		session.setWriter("other");
+		session.setLeaseUntil(new Date(System.currentTimeMillis() + 60_000L));
+
+		assertThrows(UploadConflictException.class,
+				() -> service.append(session.getId(), 0L, null, new ByteArrayInputStream(bytes(10))));
+		assertEquals("other", session.getWriter());
+		assertTrue(parts.isEmpty());
+	}
+
+	@Test
+	void expiredLeaseIsTakenOver() throws IOException {
+		UploadSession session = service.create("a.png", 10L);
+		session.setWriter("crashed");
+		session.setLeaseUntil(new Date(System.currentTimeMillis() - 1_000L));
+
+		assertEquals(10L, service.append(session.getId(), 0L, null, new ByteArrayInputStream(bytes(10))));
+		assertTrue(session.isCompleted());
+		assertNull(session.getWriter());
+	}
+
+	@Test
+	void leaseLostMidBodyDiscardsWrittenParts() throws IOException {
+		UploadSession session = service.create("a.png", 10L);
+		int[] renewals = { 0 };
+		when(sessionRepository.renewLease(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			// 두 번째 조각을 쓰기 전에 다른 요청이 lease 를 가져간 경우
+			if (++renewals[0] == 2) {
+				session.setWriter("other");
+				return 0;
+			}
+			return session.getWriter().equals(invocation.getArgument(1)) ? 1 : 0;
+		});
+
+		assertThrows(UploadConflictException.class,
+				() -> service.append(session.getId(), 0L, null, new ByteArrayInputStream(bytes(10))));
+		assertEquals(0L, session.getUploadOffset());
+		assertEquals("other", session.getWriter());
+		assertTrue(parts.isEmpty());
+		assertEquals(0L, blobCount());
+	}
+
+	@Test
+	void checksumMismatchRollsBack() throws IOException {
+		byte[] body = bytes(10);
+		UploadSession session = service.create("a.png", body.length);
+		String wrong = "sha256 " + Base64.getEncoder().encodeToString(new byte[32]);
+
+		assertThrows(UploadChecksumMismatchException.class,
+				() -> service.append(session.getId(), 0L, wrong, new ByteArrayInputStream(body)));
+		assertEquals(0L, session.getUploadOffset());
+		assertNull(session.getWriter());
+		assertTrue(parts.isEmpty());
+		assertEquals(0L, blobCount());
+	}
+
+	@Test
+	void disconnectKeepsReceivedBytesWithoutChecksum() throws IOException {
+		byte[] body = bytes(10);
+		UploadSession session = service.create("a.png", body.length);
+
+		assertThrows(IOException.class, () -> service.append(session.getId(), 0L, null, disconnectingAfter(body, 6)));
+		assertEquals(6L, session.getUploadOffset());
+		assertNull(session.getWriter());
+		assertEquals(List.of(0L, 4L), committedOffsets(session.getId()));
+	}
+
+	@Test
+	void disconnectWithChecksumKeepsNothing() throws IOException {
+		byte[] body = bytes(10);
+		UploadSession session = service.create("a.png", body.length);
+
+		assertThrows(IOException.class,
+				() -> service.append(session.getId(), 0L, checksum(body), disconnectingAfter(body, 6)));
+		assertEquals(0L, session.getUploadOffset());
+		assertTrue(parts.isEmpty());
+		assertEquals(0L, blobCount());
+	}
+
+	@Test
+	void bodyBeyondUploadLengthIsRejected() throws IOException {
+		UploadSession session = service.create("a.png", 6L);
+
+		assertThrows(UploadTooLargeException.class,
+				() -> service.append(session.getId(), 0L, null, new ByteArrayInputStream(bytes(9))));
+		assertEquals(0L, session.getUploadOffset());
+		assertTrue(parts.isEmpty());
+		assertEquals(0L, blobCount());
+	}
+
+	@Test
+	void createRejectsLengthOverMaximum() {
+		assertThrows(UploadTooLargeException.class, () -> service.create("a.png", 1025L));
+	}
+
+	@Test
+	void nonContiguousPartsAreNotTaken() throws IOException {
+		byte[] body = bytes(8);
+		UploadSession session = service.create("a.png", body.length);
+		session.setUploadOffset(body.length);
+		session.setCompletedDate(new Date());
+		session.setContentHash(sha256Hex(body));
+		storePart(session.getId(), 0L, new byte[] { body[0], body[1], body[2], body[3] });
+		// 4 ~ 5 가 비어 있다
+		storePart(session.getId(), 6L, new byte[] { body[6], body[7] });
+
+		assertThrows(UploadChecksumMismatchException.class, () -> service.take(session.getId()));
+		assertEquals(1, sessions.size());
+	}
+
+	@Test
+	void takeRejectsUnfinishedUpload() throws IOException {
+		UploadSession session = service.create("a.png", 10L);
+		service.append(session.getId(), 0L, null, new ByteArrayInputStream(bytes(4)));
+
+		assertThrows(UploadConflictException.class, () -> service.take(session.getId()));
+	}
+
+	@Test
+	void cleanupRunsOnlyWithJobLock() {
+		when(jobLockService.tryLock(eq(ResumableUploadService.CLEANUP_JOB), anyLong())).thenReturn(false);
+
+		service.cleanupExpired();
+		verifyNoInteractions(sessionRepository, partRepository);
+	}
+
+	@Test
+	void cleanupSkipsUploadsLeasedAfterListing() {
+		when(jobLockService.tryLock(eq(ResumableUploadService.CLEANUP_JOB), anyLong())).thenReturn(true);
+		when(sessionRepository.findExpiredIds(any(), any())).thenReturn(List.of("expired", "leased"));
+		// 목록을 읽은 뒤 "leased" 는 다른 요청이 이어 쓰기 시작했다
+		when(sessionRepository.lockUnleasedByIdIn(anyCollection(), any())).thenReturn(List.of("expired"));
+		when(partRepository.findPendingKeysCreatedBefore(any(), any())).thenReturn(List.of());
+
+		service.cleanupExpired();
+		verify(partRepository).deleteByUploadIdIn(List.of("expired"));
+		verify(sessionRepository).deleteAllByIdInBatch(List.of("expired"));
+		verify(jobLockService).unlock(ResumableUploadService.CLEANUP_JOB);
+	}
+
+	private void stubSessions() {
+		when(sessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> {
+			UploadSession session = invocation.getArgument(0);
+			sessions.put(session.getId(), session);
+			return session;
+		});
+		when(sessionRepository.findById(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(sessions.get(invocation.getArgument(0))));
+		when(sessionRepository.acquireLease(anyString(), anyLong(), anyString(), any(), any())).thenAnswer(invocation -> {
+			UploadSession session = sessions.get(invocation.getArgument(0));
+			Date now = invocation.getArgument(3);
+			if (session == null || session.getUploadOffset() != (long) invocation.getArgument(1) || session.isCompleted()
+					|| (session.getLeaseUntil() != null && !session.getLeaseUntil().before(now))) {
+				return 0;
+			}
+			session.setWriter(invocation.getArgument(2));
+			session.setLeaseUntil(invocation.getArgument(4));
+			return 1;
+		});
+		when(sessionRepository.renewLease(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			UploadSession session = sessions.get(invocation.getArgument(0));
+			if (session == null || !invocation.getArgument(1).equals(session.getWriter())) {
+				return 0;
+			}
+			session.setLeaseUntil(invocation.getArgument(2));
+			return 1;
+		});
+		when(sessionRepository.releaseLease(anyString(), anyString())).thenAnswer(invocation -> {
+			UploadSession session = sessions.get(invocation.getArgument(0));
+			if (session == null || !invocation.getArgument(1).equals(session.getWriter())) {
+				return 0;
+			}
+			session.setWriter(null);
+			session.setLeaseUntil(null);
+			return 1;
+		});
+		when(sessionRepository.advanceOffset(anyString(), anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+			UploadSession session = sessions.get(invocation.getArgument(0));
+			if (session == null || !invocation.getArgument(1).equals(session.getWriter())
+					|| session.getUploadOffset() != (long) invocation.getArgument(2) || session.isCompleted()) {
+				return 0;
+			}
+			session.setUploadOffset(invocation.getArgument(3));
+			return 1;
+		});
+		when(sessionRepository.complete(anyString(), any(), anyString())).thenAnswer(invocation -> {
+			UploadSession session = sessions.get(invocation.getArgument(0));
+			session.setCompletedDate(invocation.getArgument(1));
+			session.setContentHash(invocation.getArgument(2));
+			return 1;
+		});
+		doAnswer(invocation -> sessions.remove(((UploadSession) invocation.getArgument(0)).getId()))
+				.when(sessionRepository).delete(any(UploadSession.class));
+	}
+
+	private void stubParts() {
+		when(partRepository.save(any(UploadPart.class))).thenAnswer(invocation -> {
+			UploadPart part = invocation.getArgument(0);
+			parts.put(part.getBlobKey(), part);
+			return part;
+		});
+		when(partRepository.findCommittedByUploadId(anyString())).thenAnswer(invocation -> parts.values().stream()
+				.filter(part -> part.getUploadId().equals(invocation.getArgument(0)) && part.isCommitted())
+				.sorted(Comparator.comparingLong(UploadPart::getOffset))
+				.toList());
+		when(partRepository.markCommitted(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> keys = invocation.getArgument(0);
+			keys.forEach(key -> parts.get(key).setCommitted(true));
+			return keys.size();
+		});
+		when(partRepository.findKeysByUploadIdIn(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> ids = invocation.getArgument(0);
+			return parts.values().stream().filter(part -> ids.contains(part.getUploadId())).map(UploadPart::getBlobKey).toList();
+		});
+		when(partRepository.deleteByUploadIdIn(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> ids = invocation.getArgument(0);
+			List<String> keys = new ArrayList<>();
+			parts.values().stream().filter(part -> ids.contains(part.getUploadId())).forEach(part -> keys.add(part.getBlobKey()));
+			keys.forEach(parts::remove);
+			return keys.size();
+		});
+		doAnswer(invocation -> {
+			Iterable<String> keys = invocation.getArgument(0);
+			keys.forEach(parts::remove);
+			return null;
+		}).when(partRepository).deleteAllByIdInBatch(anyIterable());
+	}
+
+	private void storePart(String uploadId, long offset, byte[] content) throws IOException {
+		UploadPart part = UploadPart.builder()
+				.blobKey("upload_" + UUID.randomUUID())
+				.uploadId(uploadId)
+				.offset(offset)
+				.length(content.length)
+				.committed(true)
+				.createdDate(new Date())
+				.build();
+		parts.put(part.getBlobKey(), part);
+		new LocalBlobStore(blobDir).put(part.getBlobKey(), content);
+	}
+
+	private List<Long> committedOffsets(String uploadId) {
+		return partRepository.findCommittedByUploadId(uploadId).stream().map(UploadPart::getOffset).toList();
+	}
+
+	// 샤딩 디렉토리는 남으므로 파일만 센다
+	private long blobCount() throws IOException {
+		long[] count = { 0L };
+		new LocalBlobStore(blobDir).forEach(blob -> count[0]++);
+		return count[0];
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (i * 31 + 7);
+		}
+		return bytes;
+	}
+
+	private static String checksum(byte[] body) {
+		return "sha256 " + Base64.getEncoder().encodeToString(sha256(body));
+	}
+
+	private static String sha256Hex(byte[] body) {
+		return HexFormat.of().formatHex(sha256(body));
+	}
+
+	private static byte[] sha256(byte[] body) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(body);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// length 바이트를 보낸 뒤 연결이 끊긴 요청 본문
+	private static InputStream disconnectingAfter(byte[] body, int length) {
+		InputStream received = new ByteArrayInputStream(body, 0, length);
+		return new InputStream() {
+			@Override
+			public int read() throws IOException {
+				int read = received.read();
+				if (read < 0) {
+					throw new IOException("Connection reset");
+				}
+				return read;
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int count) throws IOException {
+				int read = received.read(buffer, offset, count);
+				if (read < 0) {
+					throw new IOException("Connection reset");
+				}
+				return read;
+			}
+		};
+	}
+}
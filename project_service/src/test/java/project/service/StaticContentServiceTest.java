@@ -0,0 +1,179 @@
+package project.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServletResponse;
+import project.service.global.cache.HotContentCache;
+import project.service.global.storage.LocalBlobStore;
+
+// Range / If-Range 처리 (sendfile 을 지원하지 않는 요청이라 FileChannel 로 보낸다)
+class StaticContentServiceTest {
+	// 2023-11-14T22:13:20Z
+	private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+	@TempDir
+	Path dir;
+
+	private Path file;
+	private byte[] content;
+	private StaticContentService service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		content = new byte[100];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		file = dir.resolve("a.png");
+		Files.write(file, content);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(LAST_MODIFIED));
+		service = new StaticContentService(new LocalBlobStore(dir), mock(HotContentCache.class), 365, 49152);
+	}
+
+	@Test
+	void noRangeSendsWholeFile() throws IOException {
+		MockHttpServletResponse response = serve(request());
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertArrayEquals(content, response.getContentAsByteArray());
+		assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertNotNull(response.getHeader(HttpHeaders.ETAG));
+	}
+
+	@Test
+	void singleRangeIsPartial() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+		assertEquals("bytes 10-19/100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertArrayEquals(Arrays.copyOfRange(content, 10, 20), response.getContentAsByteArray());
+	}
+
+	@Test
+	void suffixRangeIsPartial() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=-5");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+		assertEquals("bytes 95-99/100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertArrayEquals(Arrays.copyOfRange(content, 95, 100), response.getContentAsByteArray());
+	}
+
+	@Test
+	void multipleRangesSendWholeFile() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9,20-29");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	@Test
+	void malformedRangeSendsWholeFile() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "lines=1-2");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	@Test
+	void unsatisfiableRangeIs416() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=200-300");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatus());
+		assertEquals("bytes */100", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void ifRangeWithCurrentEtagIsPartial() throws IOException {
+		String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+		request.addHeader(HttpHeaders.IF_RANGE, etag);
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+		assertArrayEquals(Arrays.copyOfRange(content, 0, 10), response.getContentAsByteArray());
+	}
+
+	@Test
+	void ifRangeWithStaleEtagSendsWholeFile() throws IOException {
+		String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+		// 재인코딩으로 같은 이름의 내용이 바뀐 경우 (크기, 수정 시각이 달라진다)
+		Files.write(file, Arrays.copyOf(content, 50));
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+		request.addHeader(HttpHeaders.IF_RANGE, etag);
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertEquals(50, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void ifRangeWithWeakEtagSendsWholeFile() throws IOException {
+		String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+		request.addHeader(HttpHeaders.IF_RANGE, "W/" + etag);
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	@Test
+	void ifRangeWithLastModifiedDateIsPartial() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+		request.addHeader(HttpHeaders.IF_RANGE, "Tue, 14 Nov 2023 22:13:20 GMT");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+	}
+
+	@Test
+	void ifRangeWithOtherDateSendsWholeFile() throws IOException {
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+		request.addHeader(HttpHeaders.IF_RANGE, "Mon, 13 Nov 2023 22:13:20 GMT");
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	@Test
+	void matchingEtagIsNotModified() throws IOException {
+		String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+		MockHttpServletResponse response = serve(request);
+		assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	private MockHttpServletRequest request() {
+		return new MockHttpServletRequest("GET", "/image/a.png");
+	}
+
+	private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service.serve(file, "inline", request, response);
+		return response;
+	}
+}
@@ -0,0 +1,63 @@
+package project.service.global.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.service.global.storage.LocalBlobStore;
+import project.service.global.storage.StoredFile;
+
+// 캐시할 수 없는 파일은 표시해 두고 다시 열지 않는다 (무효화하면 다시 확인)
+class HotContentCacheTest {
+	@TempDir
+	Path dir;
+
+	private HotContentCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new HotContentCache(new LocalBlobStore(dir.resolve("blobs")), new SimpleMeterRegistry(), 1024, 100, 60);
+	}
+
+	@Test
+	void cachesSmallFile() throws IOException {
+		Path file = Files.write(dir.resolve("small.png"), new byte[10]);
+		HotContentCache.HotContent content = cache.get(StoredFile.local(file));
+		assertNotNull(content);
+		assertEquals(10, content.getLength());
+	}
+
+	@Test
+	void oversizedFileIsNotReopenedUntilInvalidated() throws IOException {
+		Path file = Files.write(dir.resolve("large.png"), new byte[200]);
+		assertNull(cache.get(StoredFile.local(file)));
+
+		// 표시가 남아 있으면 파일을 다시 보지 않는다
+		Files.write(file, new byte[10]);
+		assertNull(cache.get(StoredFile.local(file)));
+
+		cache.invalidate(file);
+		assertNotNull(cache.get(StoredFile.local(file)));
+	}
+
+	@Test
+	void missingFileIsRememberedUntilInvalidated() throws IOException {
+		Path file = dir.resolve("later.png");
+		assertNull(cache.get(StoredFile.local(file)));
+
+		Files.write(file, new byte[10]);
+		assertNull(cache.get(StoredFile.local(file)));
+
+		cache.invalidate(file);
+		assertNotNull(cache.get(StoredFile.local(file)));
+	}
+}
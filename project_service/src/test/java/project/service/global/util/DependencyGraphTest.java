@@ -0,0 +1,100 @@
+package project.service.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTest {
+
+	// 1 -> 2 -> 3
+	private DependencyGraph chain() {
+		DependencyGraph graph = new DependencyGraph();
+		graph.addNode(1L, null, 1);
+		graph.addNode(2L, null, 1);
+		graph.addNode(3L, null, 1);
+		graph.addEdge(1L, 2L);
+		graph.addEdge(2L, 3L);
+		return graph;
+	}
+
+	@Test
+	void selfEdgeIsCycle() {
+		assertTrue(chain().wouldCreateCycle(2L, 2L));
+		assertTrue(new DependencyGraph().wouldCreateCycle(7L, 7L));
+	}
+
+	@Test
+	void backEdgeIsCycle() {
+		DependencyGraph graph = chain();
+		assertTrue(graph.wouldCreateCycle(3L, 1L));
+		assertTrue(graph.wouldCreateCycle(3L, 2L));
+	}
+
+	@Test
+	void forwardAndUnknownEdgesAreNotCycles() {
+		DependencyGraph graph = chain();
+		assertFalse(graph.wouldCreateCycle(1L, 3L));
+		assertFalse(graph.wouldCreateCycle(4L, 1L));
+	}
+
+	@Test
+	void topologicalOrderRejectsCycle() {
+		DependencyGraph graph = chain();
+		graph.addEdge(3L, 1L);
+		assertThrows(IllegalStateException.class, graph::topologicalOrder);
+	}
+
+	/**
+	 * 1(2일) -> 2(3일) -> 4(2일), 1 -> 3(1일) -> 4
+	 * 임계 경로는 1, 2, 4 (7일) 이고 3 은 2일 여유가 있다.
+	 */
+	@Test
+	void criticalPathOnSmallDag() {
+		DependencyGraph graph = new DependencyGraph();
+		graph.addNode(1L, 100L, 2);
+		graph.addNode(2L, null, 3);
+		graph.addNode(3L, null, 1);
+		graph.addNode(4L, null, 2);
+		graph.addEdge(1L, 2L);
+		graph.addEdge(1L, 3L);
+		graph.addEdge(2L, 4L);
+		graph.addEdge(3L, 4L);
+
+		DependencyGraph.Schedule schedule = graph.schedule();
+
+		assertEquals(100L, schedule.getStart());
+		assertEquals(107L, schedule.getFinish());
+		assertEquals(List.of(1L, 2L, 4L), schedule.getCriticalPath());
+		assertEquals(102L, schedule.getSlot(2L).getEarliestStart());
+		assertEquals(105L, schedule.getSlot(4L).getEarliestStart());
+		assertEquals(2L, schedule.getSlot(3L).getSlack());
+		assertFalse(schedule.getSlot(3L).isCritical());
+		assertTrue(schedule.getSlot(4L).isCritical());
+	}
+
+	@Test
+	void startConstraintDelaysSuccessor() {
+		DependencyGraph graph = new DependencyGraph();
+		graph.addNode(1L, 0L, 1);
+		graph.addNode(2L, 5L, 1);
+		graph.addEdge(1L, 2L);
+
+		DependencyGraph.Schedule schedule = graph.schedule();
+
+		assertEquals(5L, schedule.getSlot(2L).getEarliestStart());
+		assertEquals(4L, schedule.getSlot(1L).getSlack());
+		assertEquals(List.of(2L), schedule.getCriticalPath());
+	}
+
+	@Test
+	void emptyGraphHasEmptySchedule() {
+		DependencyGraph.Schedule schedule = new DependencyGraph().schedule();
+		assertTrue(schedule.getCriticalPath().isEmpty());
+		assertEquals(0L, schedule.getFinish());
+	}
+}
@@ -0,0 +1,187 @@
+package project.service.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+import project.service.kafka.event.ProjectCreateEvent;
+import project.service.kafka.event.ProjectUpdateEvent;
+import project.service.kafka.event.TaskCreateEvent;
+import project.service.kafka.event.TaskPatchEvent;
+
+// 스키마의 모든 필드를 채운 Avro 메시지 -> 이벤트 클래스 -> 다시 꺼낸 값이 같은지 (이벤트 클래스에 빠진 필드가 없는지) 토픽마다 확인
+class AvroEventDeserializerTest {
+	private final ObjectMapper jsonMapper = new ObjectMapper().registerModule(new Jdk8Module());
+	private final AvroMapper avroMapper = AvroMapper.builder().addModule(new Jdk8Module()).build();
+
+	@Test
+	void projectCreateEventRoundTrip() throws IOException {
+		assertRoundTrip("project-create-topic", ProjectCreateEvent.class);
+	}
+
+	@Test
+	void projectUpdateEventRoundTrip() throws IOException {
+		assertRoundTrip("project-update-topic", ProjectUpdateEvent.class);
+	}
+
+	@Test
+	void taskCreateEventRoundTrip() throws IOException {
+		assertRoundTrip("task-create-topic", TaskCreateEvent.class);
+	}
+
+	@Test
+	void taskPatchEventRoundTrip() throws IOException {
+		assertRoundTrip("task-patch-topic", TaskPatchEvent.class);
+	}
+
+	// 다른 서비스의 파일을 읽지 않고 (서비스 디렉토리만 빌드하는 이미지에서도 돌도록) 같은 내용으로 둔 fingerprint 와 비교한다
+	@Test
+	void schemasMatchCheckedInFingerprints() throws IOException {
+		Properties fingerprints = new Properties();
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream("avro/schema-fingerprints.properties")) {
+			assertNotNull(in);
+			fingerprints.load(in);
+		}
+		List<String> names;
+		try (Stream<Path> files = Files.list(Paths.get("src", "main", "resources", "avro"))) {
+			names = files.map(file -> file.getFileName().toString()).sorted().toList();
+		}
+		assertEquals(new TreeSet<>(fingerprints.stringPropertyNames()), new TreeSet<>(names));
+		for (String name : names) {
+			Schema schema;
+			try (InputStream in = getClass().getClassLoader().getResourceAsStream("avro/" + name)) {
+				schema = new Schema.Parser().parse(in);
+			}
+			String fingerprint = HexFormat.of().formatHex(sha256(schema.toString().getBytes(StandardCharsets.UTF_8)));
+			assertEquals(fingerprints.getProperty(name), fingerprint, name + " changed: update it in both services and schema-fingerprints.properties");
+		}
+	}
+
+	private static byte[] sha256(byte[] content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void assertRoundTrip(String topic, Class<?> eventType) throws IOException {
+		Schema schema = schema(topic);
+		JsonNode expected = sample(schema, topic);
+		byte[] bytes = avroMapper.writer(new AvroSchema(schema)).writeValueAsBytes(expected);
+
+		RecordHeaders headers = new RecordHeaders();
+		headers.add(AvroEventDeserializer.FORMAT_HEADER, AvroEventDeserializer.AVRO.getBytes(StandardCharsets.US_ASCII));
+		try (AvroEventDeserializer deserializer = new AvroEventDeserializer()) {
+			deserializer.configure(Map.of(JsonDeserializer.VALUE_DEFAULT_TYPE, eventType.getName(),
+					JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+			Object event = deserializer.deserialize(topic, headers, bytes);
+			assertTrue(eventType.isInstance(event), topic);
+			assertSameTree(expected, jsonMapper.valueToTree(event), topic);
+		}
+	}
+
+	private Schema schema(String topic) throws IOException {
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream("avro/" + topic + ".avsc")) {
+			assertNotNull(in, topic);
+			return new Schema.Parser().parse(in);
+		}
+	}
+
+	// 스키마의 모든 필드를 null 이 아닌 값으로 채운다 (배열은 원소 하나)
+	private static JsonNode sample(Schema schema, String name) {
+		JsonNodeFactory nodes = JsonNodeFactory.instance;
+		switch (schema.getType()) {
+			case UNION:
+				for (Schema type : schema.getTypes()) {
+					if (type.getType() != Schema.Type.NULL) {
+						return sample(type, name);
+					}
+				}
+				return nodes.nullNode();
+			case RECORD:
+				ObjectNode record = nodes.objectNode();
+				for (Schema.Field field : schema.getFields()) {
+					record.set(field.name(), sample(field.schema(), field.name()));
+				}
+				return record;
+			case ARRAY:
+				ArrayNode array = nodes.arrayNode();
+				array.add(sample(schema.getElementType(), name));
+				return array;
+			case STRING:
+				return TextNode.valueOf(name + "-value");
+			case LONG:
+				return LongNode.valueOf(1_700_000_000_000L + name.length());
+			case INT:
+				return IntNode.valueOf(1);
+			case BOOLEAN:
+				return BooleanNode.TRUE;
+			case BYTES:
+				return BinaryNode.valueOf(name.getBytes(StandardCharsets.UTF_8));
+			default:
+				throw new IllegalArgumentException("Unsupported Avro type in " + name + ": " + schema.getType());
+		}
+	}
+
+	// 이벤트 클래스에만 있는 속성은 무시하고, 스키마 필드는 모두 같은 값이어야 한다 (날짜는 epoch millis)
+	private static void assertSameTree(JsonNode expected, JsonNode actual, String path) throws IOException {
+		assertNotNull(actual, path);
+		if (expected.isObject()) {
+			assertTrue(actual.isObject(), path);
+			for (Iterator<String> names = expected.fieldNames(); names.hasNext();) {
+				String name = names.next();
+				assertTrue(actual.has(name), path + "." + name + " is not in the event class");
+				assertSameTree(expected.get(name), actual.get(name), path + "." + name);
+			}
+		} else if (expected.isArray()) {
+			assertTrue(actual.isArray(), path);
+			assertEquals(expected.size(), actual.size(), path);
+			for (int i = 0; i < expected.size(); i++) {
+				assertSameTree(expected.get(i), actual.get(i), path + "[" + i + "]");
+			}
+		} else if (expected.isNumber()) {
+			assertEquals(expected.longValue(), actual.longValue(), path);
+		} else if (expected.isBinary()) {
+			assertArrayEquals(expected.binaryValue(), actual.binaryValue(), path);
+		} else {
+			assertEquals(expected.asText(), actual.asText(), path);
+		}
+	}
+}
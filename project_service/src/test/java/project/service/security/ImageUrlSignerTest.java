@@ -0,0 +1,111 @@
+package project.service.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+class ImageUrlSignerTest {
+	private static final String SECRET = "test-secret-test-secret-test-secret";
+
+	private final ImageUrlSigner signer = new ImageUrlSigner(SECRET, 60, false);
+
+	@Test
+	void issuedQueryVerifies() {
+		Map<String, String> query = parse(signer.query(ImageUrlSigner.TASK_IMAGE, "a.png"));
+		assertTrue(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", query.get(ImageUrlSigner.EXPIRES),
+				query.get(ImageUrlSigner.SIGNATURE)));
+	}
+
+	@Test
+	void signatureIsBoundToKind() {
+		// 업무 이미지 서명으로 썸네일이나 프로젝트 썸네일을 요청할 수 없다
+		Map<String, String> query = parse(signer.query(ImageUrlSigner.TASK_IMAGE, "a.png"));
+		assertFalse(signer.verify(ImageUrlSigner.TASK_THUMBNAIL, "a.png", query.get(ImageUrlSigner.EXPIRES),
+				query.get(ImageUrlSigner.SIGNATURE)));
+		assertFalse(signer.verify(ImageUrlSigner.PROJECT_THUMBNAIL, "a.png", query.get(ImageUrlSigner.EXPIRES),
+				query.get(ImageUrlSigner.SIGNATURE)));
+	}
+
+	@Test
+	void signatureIsBoundToNameAndExpiry() {
+		Map<String, String> query = parse(signer.query(ImageUrlSigner.TASK_IMAGE, "a.png"));
+		String expires = query.get(ImageUrlSigner.EXPIRES);
+		String signature = query.get(ImageUrlSigner.SIGNATURE);
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "b.png", expires, signature));
+		// 만료 시각을 늘려도 서명이 맞지 않는다
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", String.valueOf(Long.parseLong(expires) + 3600), signature));
+	}
+
+	@Test
+	void expiredSignatureIsRejected() {
+		long expires = System.currentTimeMillis() / 1000 - 1;
+		String signature = sign(ImageUrlSigner.TASK_IMAGE, "a.png", expires);
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", String.valueOf(expires), signature));
+
+		long valid = System.currentTimeMillis() / 1000 + 60;
+		assertTrue(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", String.valueOf(valid),
+				sign(ImageUrlSigner.TASK_IMAGE, "a.png", valid)));
+	}
+
+	@Test
+	void malformedParametersAreRejected() {
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", null, "sig"));
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", "1", null));
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, null, "1", "sig"));
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", "soon", "sig"));
+	}
+
+	@Test
+	void otherSecretDoesNotVerify() {
+		Map<String, String> query = parse(new ImageUrlSigner("other-secret", 60, false).query(ImageUrlSigner.TASK_IMAGE, "a.png"));
+		assertFalse(signer.verify(ImageUrlSigner.TASK_IMAGE, "a.png", query.get(ImageUrlSigner.EXPIRES),
+				query.get(ImageUrlSigner.SIGNATURE)));
+	}
+
+	@Test
+	void expiryIsRoundedToTtl() {
+		// 같은 구간에 발급한 주소는 같아 브라우저 캐시를 그대로 쓴다
+		Map<String, String> query = parse(signer.query(ImageUrlSigner.TASK_IMAGE, "a.png"));
+		long expires = Long.parseLong(query.get(ImageUrlSigner.EXPIRES));
+		long now = System.currentTimeMillis() / 1000;
+		assertEquals(0L, expires % 3600);
+		assertTrue(expires - now > 3600 && expires - now <= 7200);
+	}
+
+	@Test
+	void iconThumbnailIsNotSigned() {
+		assertEquals("icon-1", signer.taskThumbnailUrl("icon-1", 'I'));
+		assertTrue(signer.taskThumbnailUrl("a.png", 'M').startsWith(SignedImageFilter.TASK_THUMBNAIL_PATH + "a.png?"));
+	}
+
+	private static Map<String, String> parse(String query) {
+		Map<String, String> values = new HashMap<>();
+		for (String pair : query.split("&")) {
+			String[] parts = pair.split("=", 2);
+			values.put(parts[0], parts[1]);
+		}
+		return values;
+	}
+
+	// ImageUrlSigner 와 같은 형식 (종류, 이름, 만료 시각)으로 직접 서명
+	private static String sign(String kind, String name, long expires) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			byte[] digest = mac.doFinal((kind + "\n" + name + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
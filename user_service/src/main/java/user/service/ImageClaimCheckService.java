@@ -0,0 +1,131 @@
+package user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import lombok.extern.slf4j.Slf4j;
+import user.service.global.exception.ImageStoreFailedException;
+import user.service.kafka.ClaimCheck;
+
+/**
+ * 큰 이미지는 Kafka 이벤트에 싣지 않고 project_service 이어 올리기 업로드(스테이징)에 먼저 저장한 뒤 참조만 보낸다 (claim-check)
+ * 업로드는 임시 파일에서 바로 스트리밍하므로 이미지를 힙에 올리지 않고, 브로커 메시지 크기도 이미지 크기와 무관해진다.
+ * 이벤트를 처리한 트랜잭션이 커밋되면 project_service 가 업로드를 지우고, 가져가지 않은 업로드는 만료 후 정리된다.
+ * kafka.claim-check.upload-url 이 비어 있으면 사용하지 않는다 (기존처럼 이벤트에 내용을 싣는다).
+ */
+@Service
+@Slf4j
+public class ImageClaimCheckService {
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String TUS_VERSION = "1.0.0";
+    private static final MediaType OFFSET_OCTET_STREAM = MediaType.parseMediaType("application/offset+octet-stream");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WebClient webClient;
+    private final String uploadUrl;
+    private final long thresholdBytes;
+    private final Duration timeout;
+
+    public ImageClaimCheckService(WebClient.Builder webClientBuilder,
+            @Value("${kafka.claim-check.upload-url:}") String uploadUrl,
+            @Value("${kafka.claim-check.threshold-bytes:262144}") long thresholdBytes,
+            @Value("${kafka.claim-check.timeout-seconds:30}") long timeoutSeconds) {
+        this.webClient = webClientBuilder.build();
+        this.uploadUrl = uploadUrl;
+        this.thresholdBytes = thresholdBytes;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    /**
+     * @return true 이면 내용 대신 store() 의 참조를 이벤트에 싣는다
+     */
+    public boolean shouldStore(MultipartFile file) {
+        return !uploadUrl.isBlank() && file != null && !file.isEmpty() && file.getSize() >= thresholdBytes;
+    }
+
+    public ClaimCheck store(MultipartFile file) {
+        String fileName = file.getOriginalFilename();
+        long size = file.getSize();
+        try {
+            byte[] digest = sha256(file);
+            URI location = webClient.post()
+                    .uri(uploadUrl)
+                    .header(TUS_RESUMABLE, TUS_VERSION)
+                    .header("Upload-Length", String.valueOf(size))
+                    .header("Upload-Metadata", "filename " + Base64.getEncoder().encodeToString(fileName.getBytes(StandardCharsets.UTF_8)))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .map(response -> response.getHeaders().getLocation())
+                    .block(timeout);
+            String path = location.getPath();
+            String uploadId = path.substring(path.lastIndexOf('/') + 1);
+            webClient.patch()
+                    .uri(uploadUrl + "/" + uploadId)
+                    .header(TUS_RESUMABLE, TUS_VERSION)
+                    .header("Upload-Offset", "0")
+                    .header("Upload-Checksum", "sha256 " + Base64.getEncoder().encodeToString(digest))
+                    .contentType(OFFSET_OCTET_STREAM)
+                    .contentLength(size)
+                    .body(BodyInserters.fromDataBuffers(
+                            DataBufferUtils.readInputStream(file::getInputStream, DefaultDataBufferFactory.sharedInstance, BUFFER_SIZE)))
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(timeout);
+            return new ClaimCheck(uploadId, fileName, HexFormat.of().formatHex(digest), size);
+        } catch (IOException | RuntimeException e) {
+            throw new ImageStoreFailedException("이미지 저장소에 " + fileName + " 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이벤트 발행에 실패했을 때 저장해 둔 업로드 삭제 (실패해도 만료 후 정리되므로 기다리지 않는다)
+     */
+    public void release(List<ClaimCheck> claimChecks) {
+        if (claimChecks == null) {
+            return;
+        }
+        for (ClaimCheck claimCheck : claimChecks) {
+            webClient.delete()
+                    .uri(uploadUrl + "/" + claimCheck.getUploadId())
+                    .header(TUS_RESUMABLE, TUS_VERSION)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .subscribe(response -> { },
+                            e -> log.warn("Failed to release upload {}: {}", claimCheck.getUploadId(), e.getMessage()));
+        }
+    }
+
+    private byte[] sha256(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+}
@@ -0,0 +1,111 @@
+package user.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import user.service.global.exception.UploadBudgetExceededException;
+
+/**
+ * 업로드 요청 동시 처리 한도 (전체 바이트 기준)
+ * 업로드 파일은 multipart 설정으로 임시 파일에 먼저 쓰이고, 이벤트를 만들 때 getBytes() 로 힙에 올라온다.
+ * 힙에 동시에 올라올 수 있는 파일 크기 합계를 제한해, 요청이 몰리면 GC 가 밀리는 대신 잠시 기다리거나 503 으로 응답한다.
+ */
+@Service
+@Slf4j
+public class UploadAdmissionService {
+    private final long maxBytes;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    // 변경은 lock 안에서만, 지표는 lock 없이 읽는다.
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer waitTimer;
+
+    public UploadAdmissionService(MeterRegistry meterRegistry,
+            @Value("${upload.budget.max-bytes:104857600}") long maxBytes,
+            @Value("${upload.budget.max-wait-millis:2000}") long maxWaitMillis) {
+        this.maxBytes = maxBytes;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        Gauge.builder("upload.budget.used.bytes", usedBytes, AtomicLong::get)
+                .description("처리 중인 업로드 파일 크기 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("upload.budget.max.bytes", () -> this.maxBytes)
+                .description("업로드 파일 크기 합계 한도")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("upload.budget.waiting", waiting, AtomicInteger::get)
+                .description("한도가 비기를 기다리는 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("upload.budget.rejected")
+                .description("기다려도 한도가 비지 않아 거절한 요청 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("upload.budget.wait")
+                .description("한도를 얻기까지 기다린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도를 얻을 때까지 최대 max-wait-millis 동안 기다린다.
+     * 한도보다 큰 요청은 한도 전체를 얻어 혼자 처리한다.
+     * @return 얻은 바이트 수 (release 에 그대로 넘김)
+     */
+    public long acquire(long bytes) {
+        long amount = Math.min(Math.max(bytes, 0L), maxBytes);
+        if (amount == 0L) {
+            return 0L;
+        }
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            waiting.incrementAndGet();
+            try {
+                long remaining = maxWaitNanos;
+                while (usedBytes.get() + amount > maxBytes) {
+                    if (remaining <= 0L) {
+                        rejected.increment();
+                        throw new UploadBudgetExceededException("업로드 한도 초과: 요청 " + amount + " 바이트, 사용 중 " + usedBytes.get() + " 바이트");
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                throw new UploadBudgetExceededException("업로드 한도를 기다리는 중 중단되었습니다.");
+            } finally {
+                waiting.decrementAndGet();
+            }
+            usedBytes.addAndGet(amount);
+        } finally {
+            lock.unlock();
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return amount;
+    }
+
+    public void release(long amount) {
+        if (amount == 0L) {
+            return;
+        }
+        lock.lock();
+        try {
+            usedBytes.addAndGet(-amount);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
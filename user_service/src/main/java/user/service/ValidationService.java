@@ -1,29 +1,170 @@
 package user.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import user.service.global.exception.FileSizeExceededException;
+import user.service.global.exception.InvalidFileExtensionException;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 
+/**
+ * 업로드 이미지 검증
+ * 파일 내용을 getBytes() 로 읽기 전에 크기, 앞부분 바이트(magic number)로 본 실제 형식, 헤더의 가로/세로 크기를 확인한다.
+ * 헤더만 읽고 픽셀은 디코딩하지 않으므로 큰 파일이어도 앞부분 몇 KB 만 읽는다.
+ */
 @Service
 public class ValidationService {
+    private static final Pattern IMAGE_NAME = Pattern.compile(".*\\.(jpg|jpeg|png|gif)$");
+    private static final Pattern UUID_PREFIX = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}_.*$");
+    private static final byte[] JPEG_MAGIC = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+    private static final byte[] PNG_MAGIC = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final byte[] GIF87_MAGIC = { 'G', 'I', 'F', '8', '7', 'a' };
+    private static final byte[] GIF89_MAGIC = { 'G', 'I', 'F', '8', '9', 'a' };
+
+    private final long maxFileBytes;
+    private final long maxRequestBytes;
+    private final int maxDimension;
+    private final long maxPixels;
+
+    public ValidationService(@Value("${upload.image.max-file-bytes:10485760}") long maxFileBytes,
+            @Value("${upload.image.max-request-bytes:31457280}") long maxRequestBytes,
+            @Value("${upload.image.max-dimension:8192}") int maxDimension,
+            @Value("${upload.image.max-pixels:40000000}") long maxPixels) {
+        this.maxFileBytes = maxFileBytes;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+    }
 
     public void validateImageFile(MultipartFile file) throws IOException {
         validateExtension(file);
         validateUUIDPrefix(file);
+        validateContent(file);
+    }
+
+    /**
+     * 파일 이름에 UUID 가 붙지 않는 업로드 (프로젝트 썸네일)
+     */
+    public void validateImage(MultipartFile file) throws IOException {
+        validateExtension(file);
+        validateContent(file);
+    }
+
+    /**
+     * 한 요청의 이미지 크기 합계 (null 은 무시)
+     */
+    public void validateRequestSize(Collection<MultipartFile> files) {
+        long total = files.stream().filter(Objects::nonNull).mapToLong(MultipartFile::getSize).sum();
+        if (total > maxRequestBytes) {
+            throw new FileSizeExceededException("요청의 이미지 크기 합계가 " + maxRequestBytes + " 바이트를 초과합니다.");
+        }
     }
 
     private void validateExtension(MultipartFile file) {
         String filename = file.getOriginalFilename();
-        if (filename == null || !filename.matches(".*\\.(jpg|jpeg|png|gif)$")) {
+        if (filename == null || !IMAGE_NAME.matcher(filename.toLowerCase(Locale.ROOT)).matches()) {
             throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
         }
     }
 
     private void validateUUIDPrefix(MultipartFile file) {
         String filename = file.getOriginalFilename();
-        if (filename == null || !filename.matches("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}_.*$")) {
+        if (filename == null || !UUID_PREFIX.matcher(filename).matches()) {
             throw new IllegalArgumentException("파일명 앞에 UUID가 포함되어야 합니다.");
         }
     }
-}
\ No newline at end of file
+
+    // 크기는 이미 받은 part 의 메타데이터로 확인하고, 내용은 앞부분만 스트림으로 읽는다.
+    private void validateContent(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new InvalidFileExtensionException("빈 파일은 업로드할 수 없습니다.");
+        }
+        if (file.getSize() > maxFileBytes) {
+            throw new FileSizeExceededException(file.getOriginalFilename() + " 의 크기가 " + maxFileBytes + " 바이트를 초과합니다.");
+        }
+        String expected = formatOf(file.getOriginalFilename());
+        try (InputStream input = file.getInputStream();
+                ImageInputStream imageInput = new MemoryCacheImageInputStream(input)) {
+            byte[] header = new byte[PNG_MAGIC.length];
+            imageInput.mark();
+            int read = 0;
+            while (read < header.length) {
+                int count = imageInput.read(header, read, header.length - read);
+                if (count < 0) {
+                    break;
+                }
+                read += count;
+            }
+            imageInput.reset();
+            String actual = sniff(header, read);
+            if (actual == null || !actual.equals(expected)) {
+                throw new InvalidFileExtensionException(file.getOriginalFilename() + " 의 내용이 확장자와 일치하지 않습니다.");
+            }
+            validateDimensions(file.getOriginalFilename(), actual, imageInput);
+        }
+    }
+
+    // 해당 형식의 reader 로 헤더에서 크기만 읽는다 (픽셀 디코딩 없음)
+    private void validateDimensions(String filename, String format, ImageInputStream input) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format);
+        if (!readers.hasNext()) {
+            return;
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(input, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if (width <= 0 || height <= 0 || width > maxDimension || height > maxDimension
+                    || (long) width * height > maxPixels) {
+                throw new FileSizeExceededException(filename + " 의 해상도(" + width + "x" + height + ")가 허용 범위를 벗어났습니다.");
+            }
+        } catch (IOException e) {
+            throw new InvalidFileExtensionException(filename + " 의 이미지 헤더를 읽을 수 없습니다.");
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private String sniff(byte[] header, int length) {
+        if (startsWith(header, length, JPEG_MAGIC)) {
+            return "jpeg";
+        }
+        if (startsWith(header, length, PNG_MAGIC)) {
+            return "png";
+        }
+        if (startsWith(header, length, GIF87_MAGIC) || startsWith(header, length, GIF89_MAGIC)) {
+            return "gif";
+        }
+        return null;
+    }
+
+    private boolean startsWith(byte[] header, int length, byte[] magic) {
+        return length >= magic.length && Arrays.equals(header, 0, magic.length, magic, 0, magic.length);
+    }
+
+    private String formatOf(String filename) {
+        String name = filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".png")) {
+            return "png";
+        }
+        if (name.endsWith(".gif")) {
+            return "gif";
+        }
+        return "jpeg";
+    }
+}
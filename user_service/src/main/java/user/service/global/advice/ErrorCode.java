@@ -27,12 +27,18 @@ public enum ErrorCode {
     // Member 예시
     MEMBER_DUPLICATE_IN_PROJECT(400,"M001","이미 프로젝트에 존재하는 멤버입니다."),
     MEMBER_DUPLICATE_IN_TASK(400,"M002","이미 업무에 존재하는 멤버입니다."),
+
+    // Task
+    TASK_DEPENDENCY_CYCLE(400, "T001", "업무 선후 관계에 순환이 발생합니다."),
 	
 	// Global
 	UNKNOWN_ERROR(400, "G001", "시스템에 오류가 발생 하였습니다. 관리자에게 문의 해주세요."),
 	IDENTICAL_VALUE(400, "G002", "동일한 값은 변경할 수 없습니다."),
 	IMAGE_CONVERSION_FAILED(400, "G003", "이미지 변환이 실패하였습니다."),
 	INVALID_FILE_EXTENSION(400, "G004", "잘못된 파일 확장자 입니다."),
+	FILE_SIZE_EXCEEDED(413, "G005", "업로드 가능한 파일 크기를 초과하였습니다."),
+	UPLOAD_BUSY(503, "G006", "처리 중인 업로드가 많습니다. 잠시 후 다시 시도해 주세요."),
+	IMAGE_STORE_FAILED(503, "G007", "이미지 저장에 실패하였습니다. 잠시 후 다시 시도해 주세요."),
 	
 	// Invite
 	LINK_SAVE_ERROR(400, "I001", "링크 생성에 실패 하였습니다."),
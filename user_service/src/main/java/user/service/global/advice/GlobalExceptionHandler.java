@@ -4,6 +4,7 @@ import java.nio.file.AccessDeniedException;
 import java.util.Map;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,14 +22,18 @@ import user.service.global.exception.AuthenticationFailureException;
 import user.service.global.exception.AuthorizationFailureException;
 import user.service.global.exception.BusinessException;
 import user.service.global.exception.EntityNotFoundException;
+import user.service.global.exception.DependencyCycleException;
+import user.service.global.exception.FileSizeExceededException;
 import user.service.global.exception.IdenticalValuesCannotChangedException;
 import user.service.global.exception.ImageConversionFailedException;
+import user.service.global.exception.ImageStoreFailedException;
 import user.service.global.exception.InvalidFileExtensionException;
 import user.service.global.exception.InvalidValueException;
 import user.service.global.exception.LinkCannotBeSavedException;
 import user.service.global.exception.MemberDuplicateInProjectException;
 import user.service.global.exception.ProjectNotFoundException;
 import user.service.global.exception.UnknownException;
+import user.service.global.exception.UploadBudgetExceededException;
 import user.service.global.exception.UserIdDuplicatedException;
 import user.service.global.exception.UserNotFoundException;
 
@@ -191,6 +197,14 @@ public class GlobalExceptionHandler {
     	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.PROJECT_NOT_FOUND.getStatus()));
     }
     
+    // 컨테이너가 multipart 를 읽는 중 크기 제한을 넘은 경우
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
+        log.warn(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.FILE_SIZE_EXCEEDED);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.FILE_SIZE_EXCEEDED.getStatus()));
+    }
+
     @ExceptionHandler(value = MultipartException.class)
     public ResponseEntity<ErrorResponse> handleFileUploadingError(Exception exception) {
         log.warn(exception.getMessage(), exception);
@@ -214,4 +228,40 @@ public class GlobalExceptionHandler {
     	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.INVALID_FILE_EXTENSION.getStatus()));
     }
     
-}
\ No newline at end of file
+    // 업로드 크기 초과 Exception
+    @ExceptionHandler(FileSizeExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleFileSizeExceededException (FileSizeExceededException e){
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.FILE_SIZE_EXCEEDED);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.FILE_SIZE_EXCEEDED.getStatus()));
+    }
+    
+    // 업로드 메모리 한도 초과 Exception (잠시 후 재시도)
+    @ExceptionHandler(UploadBudgetExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleUploadBudgetExceededException (UploadBudgetExceededException e){
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.UPLOAD_BUSY);
+    	return ResponseEntity.status(ErrorCode.UPLOAD_BUSY.getStatus())
+    			.header(HttpHeaders.RETRY_AFTER, "1")
+    			.body(response);
+    }
+    
+    // 업무 선후 관계 순환 Exception
+    @ExceptionHandler(DependencyCycleException.class)
+    protected ResponseEntity<ErrorResponse> handleDependencyCycleException (DependencyCycleException e){
+    	log.warn(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.TASK_DEPENDENCY_CYCLE);
+    	return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.TASK_DEPENDENCY_CYCLE.getStatus()));
+    }
+    
+    // 이미지 저장소(claim-check) 저장 실패 Exception (잠시 후 재시도)
+    @ExceptionHandler(ImageStoreFailedException.class)
+    protected ResponseEntity<ErrorResponse> handleImageStoreFailedException (ImageStoreFailedException e){
+    	log.error(e.getMessage());
+    	final ErrorResponse response = ErrorResponse.of(ErrorCode.IMAGE_STORE_FAILED);
+    	return ResponseEntity.status(ErrorCode.IMAGE_STORE_FAILED.getStatus())
+    			.header(HttpHeaders.RETRY_AFTER, "1")
+    			.body(response);
+    }
+    
+}
@@ -1,11 +1,15 @@
 package user.service.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import jakarta.servlet.MultipartConfigElement;
 import user.service.UserService;
 import user.service.global.advice.LogTrace;
 import user.service.global.advice.ThreadLocalLogTrace;
@@ -26,6 +30,21 @@ public class ApplicationConfig {
 		return new StandardServletMultipartResolver();
 	}
 
+	/**
+	 * 업로드 크기 제한은 컨테이너가 multipart 를 읽는 중에 적용되어 한도를 넘는 본문은 끝까지 받지 않는다.
+	 * 임계값 0 이면 각 part 를 힙이 아닌 임시 파일에 받는다.
+	 */
+	@Bean
+	public MultipartConfigElement multipartConfigElement(
+			@Value("${upload.image.max-file-bytes:10485760}") long maxFileBytes,
+			@Value("${upload.image.max-request-bytes:31457280}") long maxRequestBytes) {
+		MultipartConfigFactory factory = new MultipartConfigFactory();
+		factory.setMaxFileSize(DataSize.ofBytes(maxFileBytes));
+		factory.setMaxRequestSize(DataSize.ofBytes(maxRequestBytes));
+		factory.setFileSizeThreshold(DataSize.ofBytes(0));
+		return factory.createMultipartConfig();
+	}
+
 	public String getKafkaHost() {
 		return this.kafkaHost;
 	}
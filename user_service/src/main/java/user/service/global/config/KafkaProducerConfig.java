@@ -3,12 +3,14 @@ package user.service.global.config;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import user.service.kafka.AvroEventSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,13 +19,18 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class KafkaProducerConfig {
     private final ApplicationConfig applicationConfig;
+    // 스키마가 있는 토픽을 Avro 로 보낼지 (project_service 를 먼저 배포한 뒤 켠다)
+    @Value("${kafka.avro.enabled:false}")
+    private boolean avroEnabled;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, applicationConfig.getKafkaHost());
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, AvroEventSerializer.class);
         configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false); // 헤더 정보 제거
+        configProps.put(AvroEventSerializer.AVRO_ENABLED, avroEnabled);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -0,0 +1,47 @@
+package user.service.global.config;
+
+import java.util.List;
+
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import user.service.UploadAdmissionService;
+
+/**
+ * multipart 요청은 파일 크기 합계만큼 업로드 한도를 얻은 뒤 컨트롤러로 넘기고, 응답이 끝나면 반환한다.
+ * 파일은 이미 임시 파일로 받아 둔 상태이므로 기다리는 동안 힙을 쓰지 않는다.
+ */
+@RequiredArgsConstructor
+public class UploadAdmissionInterceptor implements HandlerInterceptor {
+	private static final String ADMITTED_BYTES = UploadAdmissionInterceptor.class.getName() + ".ADMITTED_BYTES";
+
+	private final UploadAdmissionService uploadAdmissionService;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		MultipartHttpServletRequest multipart = WebUtils.getNativeRequest(request, MultipartHttpServletRequest.class);
+		if (multipart == null) {
+			return true;
+		}
+		long bytes = multipart.getMultiFileMap().values().stream()
+				.flatMap(List::stream)
+				.mapToLong(MultipartFile::getSize)
+				.sum();
+		request.setAttribute(ADMITTED_BYTES, uploadAdmissionService.acquire(bytes));
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		Object admitted = request.getAttribute(ADMITTED_BYTES);
+		if (admitted != null) {
+			request.removeAttribute(ADMITTED_BYTES);
+			uploadAdmissionService.release((Long) admitted);
+		}
+	}
+}
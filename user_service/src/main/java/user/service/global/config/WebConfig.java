@@ -3,11 +3,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.servlet.config.annotation.*;
 
+import lombok.RequiredArgsConstructor;
+import user.service.UploadAdmissionService;
+
 
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
-
+    private final UploadAdmissionService uploadAdmissionService;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
@@ -21,6 +25,12 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations("classpath:/static/images/");
     }
 
+    // 이미지 업로드 요청의 동시 처리 크기 제한
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new UploadAdmissionInterceptor(uploadAdmissionService));
+    }
+
     @Override
     public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
         ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
@@ -0,0 +1,11 @@
+package user.service.global.exception;
+
+public class DependencyCycleException extends RuntimeException{
+	public DependencyCycleException(String message) {
+		super(message);
+	}
+	
+	public DependencyCycleException() {
+		
+	}
+}
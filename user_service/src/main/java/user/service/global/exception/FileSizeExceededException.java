@@ -0,0 +1,11 @@
+package user.service.global.exception;
+
+public class FileSizeExceededException extends RuntimeException{
+	public FileSizeExceededException(String message) {
+		super(message);
+	}
+	
+	public FileSizeExceededException() {
+		
+	}
+}
@@ -0,0 +1,11 @@
+package user.service.global.exception;
+
+public class ImageStoreFailedException extends RuntimeException{
+	public ImageStoreFailedException(String message) {
+		super(message);
+	}
+	
+	public ImageStoreFailedException() {
+		
+	}
+}
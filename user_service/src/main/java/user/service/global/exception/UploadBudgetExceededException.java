@@ -0,0 +1,11 @@
+package user.service.global.exception;
+
+public class UploadBudgetExceededException extends RuntimeException{
+	public UploadBudgetExceededException(String message) {
+		super(message);
+	}
+	
+	public UploadBudgetExceededException() {
+		
+	}
+}
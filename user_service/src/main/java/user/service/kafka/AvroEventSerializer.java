@@ -0,0 +1,86 @@
+package user.service.kafka;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+/**
+ * 스키마(avro/<토픽>.avsc)가 있는 토픽은 Avro 바이너리로, 나머지는 기존처럼 JSON 으로 직렬화
+ * 필드 이름을 싣지 않고 byte[] 도 base64 없이 그대로 보내므로 이미지가 있는 이벤트일수록 작아진다.
+ * 스키마는 project_service 의 같은 이름 파일과 동일하게 유지한다 (스키마 레지스트리 없이 토픽 이름으로 찾음).
+ * 소비하는 쪽은 event-format 헤더로 형식을 구분하므로, 소비자를 먼저 배포한 뒤 kafka.avro.enabled 를 켠다.
+ */
+public class AvroEventSerializer implements Serializer<Object> {
+    public static final String FORMAT_HEADER = "event-format";
+    public static final String AVRO = "avro";
+    // producer 설정 키 (true 이면 스키마가 있는 토픽을 Avro 로 보냄)
+    public static final String AVRO_ENABLED = "avro.enabled";
+
+    private final AvroMapper mapper = AvroMapper.builder()
+            .addModule(new Jdk8Module())
+            .build();
+    private final Map<String, Optional<ObjectWriter>> writers = new ConcurrentHashMap<>();
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private boolean avroEnabled;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object enabled = configs.get(AVRO_ENABLED);
+        avroEnabled = enabled != null && Boolean.parseBoolean(enabled.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        Optional<ObjectWriter> writer = avroEnabled && data != null ? writerFor(topic) : Optional.empty();
+        if (writer.isEmpty()) {
+            return jsonSerializer.serialize(topic, headers, data);
+        }
+        try {
+            byte[] bytes = writer.get().writeValueAsBytes(data);
+            headers.add(FORMAT_HEADER, AVRO.getBytes(StandardCharsets.US_ASCII));
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Can't serialize data for topic " + topic + " with Avro schema", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    // 스키마에 없는 속성이 있으면 조용히 빼지 않고 실패한다 (이벤트에 필드를 추가하면 양쪽 스키마도 함께 고친다)
+    private Optional<ObjectWriter> writerFor(String topic) {
+        return writers.computeIfAbsent(topic, key -> {
+            try (InputStream in = AvroEventSerializer.class.getClassLoader().getResourceAsStream("avro/" + key + ".avsc")) {
+                if (in == null) {
+                    return Optional.empty();
+                }
+                AvroSchema schema = new AvroSchema(new Schema.Parser().parse(in));
+                return Optional.of(mapper.writer(schema));
+            } catch (IOException e) {
+                throw new SerializationException("Can't read Avro schema for topic " + key, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package user.service.kafka;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트에 이미지 내용 대신 싣는 참조 (project_service 이어 올리기 업로드 id)
+ * 소비하는 쪽은 업로드를 가져올 때 sha256 이 같은지 확인한다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ClaimCheck {
+    private String uploadId;
+    private String fileName;
+    // 내용 SHA-256 (hex)
+    private String sha256;
+    private long size;
+}
@@ -1,6 +1,7 @@
 package user.service.kafka.project;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -8,10 +9,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
+import user.service.ImageClaimCheckService;
 import user.service.MemberService;
 import user.service.UserService;
 import user.service.global.exception.ImageConversionFailedException;
 import user.service.global.util.ExtsnFilter;
+import user.service.kafka.ClaimCheck;
 import user.service.kafka.project.event.ProjectCreateEvent;
 import user.service.kafka.project.event.ProjectDeleteEvent;
 import user.service.kafka.project.event.ProjectUpdateEvent;
@@ -26,6 +29,7 @@ public class KafkaProjectProducerService {
     private final MemberService memberService;
     private final UserService userService;
     private final ExtsnFilter extsnFilter;
+    private final ImageClaimCheckService imageClaimCheckService;
 
     private static final String TOPIC = "project-create-topic";
     private static final String TOPIC1 = "project-delete-topic";
@@ -35,7 +39,10 @@ public class KafkaProjectProducerService {
     	ProjectCreateEvent event = null;
         //이모지, 아이콘 둘다 존재할경우 예외 처리해야함
         if (projectCreateRequestDto.getIcon() != null) {
-            event = new ProjectCreateEvent(projectCreateRequestDto, null, null, userId);
+            event = new ProjectCreateEvent(projectCreateRequestDto, null, null, userId, null);
+        } else if (imageClaimCheckService.shouldStore(img)) {
+            String extsn = extsnFilter.getExtension(img);
+            event = new ProjectCreateEvent(projectCreateRequestDto, null, extsn, userId, imageClaimCheckService.store(img));
         } else if (img != null) {
             byte[] imgByte = null;
             try {
@@ -43,14 +50,14 @@ public class KafkaProjectProducerService {
             } catch (IOException e) {
                 throw new ImageConversionFailedException(e.getMessage());
             }
-            event = new ProjectCreateEvent(projectCreateRequestDto, imgByte, extsnFilter.getExtension(img), userId);
+            event = new ProjectCreateEvent(projectCreateRequestDto, imgByte, extsnFilter.getExtension(img), userId, null);
         } else {
-            event = new ProjectCreateEvent(projectCreateRequestDto, null, null, userId);
+            event = new ProjectCreateEvent(projectCreateRequestDto, null, null, userId, null);
         }
 
         ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, event);
         record.headers().remove("spring.json.header.types");
-        kafkaTemplate.send(record);
+        send(record, event.getImgRef());
     }
     
     public void sendDeleteProjectEvent(DeleteProjectRequestDto projectDeleteRequestDto, String userId) {
@@ -71,29 +78,41 @@ public class KafkaProjectProducerService {
     }
     
     public void updateProject(UpdateProjectRequestDto updateProjectRequestDto, MultipartFile img) {
+        //프로젝트 관리자인지 확인 (이미지를 저장소에 올리기 전에 확인)
+        memberService.isManager(
+            //프로젝트 멤버인지 확인
+            memberService.findMemberByUserIdAndProjectId(
+                userService.getUserEntityId(userService.getCurrentUserId()), updateProjectRequestDto.getProjectId()
+            )
+            .getId()
+        );
     	ProjectUpdateEvent event = null;
-    	if (updateProjectRequestDto.getIcon() == null) {
+    	if (updateProjectRequestDto.getIcon() == null && imageClaimCheckService.shouldStore(img)) {
+    		String extsn = extsnFilter.getExtension(img);
+    		event = new ProjectUpdateEvent(updateProjectRequestDto, null, extsn, imageClaimCheckService.store(img));
+    	} else if (updateProjectRequestDto.getIcon() == null) {
     		byte[] imgByte = null;
     		try {
     			imgByte = img.getBytes();
 			} catch (IOException e) {
 				throw new ImageConversionFailedException(e.getMessage());
 			}
-    		event = new ProjectUpdateEvent(updateProjectRequestDto, imgByte, extsnFilter.getExtension(img));
+    		event = new ProjectUpdateEvent(updateProjectRequestDto, imgByte, extsnFilter.getExtension(img), null);
     	} else {
-    		event = new ProjectUpdateEvent(updateProjectRequestDto, null, null );
+    		event = new ProjectUpdateEvent(updateProjectRequestDto, null, null, null);
     	}
 //        ProjectUpdateEvent event = new ProjectUpdateEvent(updateProjectRequestDto);
-        //프로젝트 관리자인지 확인
-        memberService.isManager(
-            //프로젝트 멤버인지 확인
-            memberService.findMemberByUserIdAndProjectId(
-                userService.getUserEntityId(userService.getCurrentUserId()), updateProjectRequestDto.getProjectId()
-            )
-            .getId()
-        );
         ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC2, event);
         record.headers().remove("spring.json.header.types");
-        kafkaTemplate.send(record);
+        send(record, event.getImgRef());
+    }
+
+    // 발행에 실패하면 이미지 저장소에 올려 둔 이미지 삭제
+    private void send(ProducerRecord<String, Object> record, ClaimCheck imgRef) {
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex != null && imgRef != null) {
+                imageClaimCheckService.release(List.of(imgRef));
+            }
+        });
     }
 }
\ No newline at end of file
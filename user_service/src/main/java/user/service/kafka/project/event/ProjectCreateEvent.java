@@ -2,6 +2,7 @@ package user.service.kafka.project.event;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import user.service.kafka.ClaimCheck;
 import user.service.web.dto.project.request.CreateProjectRequestDto;
 @AllArgsConstructor
 @Getter
@@ -10,4 +11,6 @@ public class ProjectCreateEvent{
     private byte[] img;
     private String extsn;
     private String userId;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private ClaimCheck imgRef;
 }
@@ -2,12 +2,15 @@ package user.service.kafka.project.event;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import user.service.kafka.ClaimCheck;
 import user.service.web.dto.project.request.UpdateProjectRequestDto;
 
 @AllArgsConstructor
 @Getter
 public class ProjectUpdateEvent {
     private final UpdateProjectRequestDto projectUpdateRequestDto;
-    private byte[] thumbnail;
+    private byte[] img;
     private String extsn;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private ClaimCheck imgRef;
 }
@@ -1,6 +1,8 @@
 package user.service.kafka.task;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,36 +11,66 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import user.service.ImageClaimCheckService;
 import user.service.MemberService;
 import user.service.UserService;
 import user.service.entity.User;
 import user.service.global.advice.SuccessResponse;
+import user.service.global.config.ApplicationConfig;
+import user.service.global.exception.DependencyCycleException;
 import user.service.global.exception.ImageConversionFailedException;
 import user.service.global.util.ExtsnFilter;
+import user.service.kafka.ClaimCheck;
 import user.service.kafka.task.event.TaskCreateEvent;
 import user.service.kafka.task.event.TaskDeleteEvent;
-import user.service.kafka.task.event.TaskUpdateEvent;
+import user.service.kafka.task.event.TaskMoveEvent;
+import user.service.kafka.task.event.TaskPatchEvent;
+import user.service.kafka.task.event.TaskDependencyAddEvent;
+import user.service.kafka.task.event.TaskDependencyDeleteEvent;
+import user.service.kafka.task.event.TaskRecurrenceCreateEvent;
+import user.service.kafka.task.event.TaskRecurrenceDeleteEvent;
+import user.service.kafka.task.event.TaskStatusBulkUpdateEvent;
 import user.service.kafka.task.event.UserAddToTaskEvent;
 import user.service.web.dto.member.request.MemberMappingToTaskRequestDto;
 import user.service.web.dto.member.request.MemberRemoveRequestDto;
+import user.service.web.dto.task.request.CreateTaskRecurrenceRequestDto;
 import user.service.web.dto.task.request.CreateTaskRequestDto;
+import user.service.web.dto.task.request.DeleteTaskRecurrenceRequestDto;
 import user.service.web.dto.task.request.DeleteTaskRequestDto;
+import user.service.web.dto.task.request.MoveTaskRequestDto;
+import user.service.web.dto.task.request.PatchTaskRequestDto;
+import user.service.web.dto.task.request.TaskDependencyRequestDto;
 import user.service.web.dto.task.request.UpdateTaskRequestDto;
+import user.service.web.dto.task.request.UpdateTaskStatusRequestDto;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class KafkaTaskProducerService {
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final UserService userService;
     private final MemberService memberService;
     private final ExtsnFilter extsnFilter;
+    private final ImageClaimCheckService imageClaimCheckService;
+    private final WebClient.Builder webClientBuilder;
+    private final ApplicationConfig applicationConfig;
     
     private static final String TOPIC = "task-create-topic";
     private static final String TOPIC1 = "task-add-user-topic";
     private static final String TOPIC2 = "task-delete-topic";
     private static final String TOPIC3 = "task-update-topic";
+    private static final String TOPIC4 = "task-status-bulk-update-topic";
+    private static final String TOPIC5 = "task-dependency-add-topic";
+    private static final String TOPIC6 = "task-dependency-delete-topic";
+    private static final String TOPIC7 = "task-recurrence-create-topic";
+    private static final String TOPIC8 = "task-recurrence-delete-topic";
+    private static final String TOPIC9 = "task-patch-topic";
+    private static final String TOPIC10 = "task-move-topic";
     /**
      * 업무 생성 이벤트 생성
      * @param createTaskRequestDto
@@ -48,37 +80,57 @@ public class KafkaTaskProducerService {
         User user = userService.findUserEntity(userService.getCurrentUserId());
         memberService.findMemberByUserIdAndProjectId(user.getId(), createTaskRequestDto.getProjectId());
 
-        TaskCreateEvent event;
-        List<TaskCreateEvent.FileData> fileDataList = descriptionFiles != null ?
-            descriptionFiles.stream()
-                .map(file -> {
-                    try {
-                        return new TaskCreateEvent.FileData(file.getOriginalFilename(), file.getBytes());
-                    } catch (IOException e) {
-                        throw new RuntimeException("Failed to convert file", e);
-                    }
-                })
-                .collect(Collectors.toList()) :
-            Collections.emptyList();
-
         // 이모지, 아이콘 둘다 존재할 경우 예외 처리
         if (createTaskRequestDto.getThumbnailIcon() != null && thumbnailImage != null) {
             throw new IllegalArgumentException("이모지와 아이콘 둘 다 존재할 수 없습니다.");
-        } else if (createTaskRequestDto.getThumbnailIcon() != null) {
-            event = new TaskCreateEvent(createTaskRequestDto, fileDataList, null, null);
-        } else if (thumbnailImage != null) {
-            byte[] imgByte = null;
-            try {
-                imgByte = thumbnailImage.getBytes();
-            } catch (IOException e) {
-                throw new ImageConversionFailedException(e.getMessage());
+        } else if (createTaskRequestDto.getThumbnailUploadId() != null
+                && (createTaskRequestDto.getThumbnailIcon() != null || thumbnailImage != null)) {
+            throw new IllegalArgumentException("썸네일 업로드 아이디는 이모지, 아이콘과 함께 보낼 수 없습니다.");
+        }
+
+        List<ClaimCheck> claimChecks = new ArrayList<>();
+        TaskCreateEvent event;
+        try {
+            List<TaskCreateEvent.FileData> fileDataList = new ArrayList<>();
+            List<ClaimCheck> fileRefs = new ArrayList<>();
+            if (descriptionFiles != null) {
+                for (MultipartFile file : descriptionFiles) {
+                    if (imageClaimCheckService.shouldStore(file)) {
+                        ClaimCheck claimCheck = imageClaimCheckService.store(file);
+                        claimChecks.add(claimCheck);
+                        fileRefs.add(claimCheck);
+                    } else {
+                        fileDataList.add(new TaskCreateEvent.FileData(file.getOriginalFilename(), file.getBytes()));
+                    }
+                }
             }
-            event = new TaskCreateEvent(createTaskRequestDto, fileDataList, imgByte, extsnFilter.getExtension(thumbnailImage));
-        } else {
-            event = new TaskCreateEvent(createTaskRequestDto, fileDataList, null, null);
+
+            if (thumbnailImage == null) {
+                event = new TaskCreateEvent(createTaskRequestDto, fileDataList, null, null, fileRefs, null);
+            } else if (imageClaimCheckService.shouldStore(thumbnailImage)) {
+                String extsn = extsnFilter.getExtension(thumbnailImage);
+                ClaimCheck thumbnailRef = imageClaimCheckService.store(thumbnailImage);
+                claimChecks.add(thumbnailRef);
+                event = new TaskCreateEvent(createTaskRequestDto, fileDataList, null, extsn, fileRefs, thumbnailRef);
+            } else {
+                byte[] imgByte = null;
+                try {
+                    imgByte = thumbnailImage.getBytes();
+                } catch (IOException e) {
+                    throw new ImageConversionFailedException(e.getMessage());
+                }
+                event = new TaskCreateEvent(createTaskRequestDto, fileDataList, imgByte, extsnFilter.getExtension(thumbnailImage), fileRefs, null);
+            }
+        } catch (IOException | RuntimeException e) {
+            imageClaimCheckService.release(claimChecks);
+            throw e;
         }
 
-        kafkaTemplate.send(TOPIC, event);
+        kafkaTemplate.send(TOPIC, event).whenComplete((result, ex) -> {
+            if (ex != null) {
+                imageClaimCheckService.release(claimChecks);
+            }
+        });
         return SuccessResponse.builder().message("업무 생성 이벤트 생성").data(createTaskRequestDto).build();
     }
     
@@ -112,34 +164,233 @@ public class KafkaTaskProducerService {
         return SuccessResponse.builder().message("업무 삭제 이벤트 생성").data(deleteTaskRequestDto).build();
     }
 
+    /**
+     * 업무 수정 이벤트 생성 (전체 필드 수정 API)
+     * 삭제할 이미지는 파일 내용 없이 이름만 보내고, project_service 에서 값이 바뀐 필드만 반영한다.
+     * @param updateTaskRequestDto
+     * @param descriptionFiles
+     * @param deletedImages
+     * @return
+     */
     public SuccessResponse sendUpdateTaskEvent(UpdateTaskRequestDto updateTaskRequestDto, List<MultipartFile> descriptionFiles, List<MultipartFile> deletedImages) throws IOException {
         User user = userService.findUserEntity(userService.getCurrentUserId());
         memberService.findMemberByUserIdAndProjectId(user.getId(), updateTaskRequestDto.getProjectId());
-        List<TaskUpdateEvent.FileData> fileDataList = descriptionFiles != null ?
-            descriptionFiles.stream()
-                .map(file -> {
-                    try {
-                        return new TaskUpdateEvent.FileData(file.getOriginalFilename(), file.getBytes());
-                    } catch (IOException e) {
-                        throw new RuntimeException("Failed to convert file", e);
-                    }
-                })
-                .collect(Collectors.toList()) :
-            Collections.emptyList();
-        List<TaskUpdateEvent.FileData> deletedFileDataList = deletedImages != null ?
+        List<String> deletedImageNames = deletedImages != null ?
             deletedImages.stream()
-                .map(file -> {
-                    try {
-                        return new TaskUpdateEvent.FileData(file.getOriginalFilename(), file.getBytes());
-                    } catch (IOException e) {
-                        throw new RuntimeException("Failed to convert file", e);
-                    }
-                })
+                .map(MultipartFile::getOriginalFilename)
                 .collect(Collectors.toList()) :
             Collections.emptyList();
-        TaskUpdateEvent event = new TaskUpdateEvent(updateTaskRequestDto, fileDataList, deletedFileDataList);
-        kafkaTemplate.send(TOPIC3, event);
+        TaskPatchEvent event = TaskPatchEvent.builder()
+            .projectId(updateTaskRequestDto.getProjectId())
+            .taskId(updateTaskRequestDto.getTaskId())
+            .title(updateTaskRequestDto.getTitle())
+            .description(updateTaskRequestDto.getDescription())
+            .startDate(updateTaskRequestDto.getStartDate())
+            .endDate(updateTaskRequestDto.getEndDate())
+            .status(updateTaskRequestDto.getStatus())
+            .deletedImageNames(deletedImageNames)
+            .descriptionFiles(toPatchFileData(descriptionFiles))
+            .fileRefs(storeLargeFiles(descriptionFiles))
+            .build();
+        sendTaskPatchEvent(event);
         return SuccessResponse.builder().message("업무 수정 이벤트 생성").data(updateTaskRequestDto).build();
     }
 
+    /**
+     * 업무 부분 수정 이벤트 생성 (보낸 필드만 수정)
+     * @param patchTaskRequestDto
+     * @param descriptionFiles
+     * @return
+     */
+    public SuccessResponse sendPatchTaskEvent(PatchTaskRequestDto patchTaskRequestDto, List<MultipartFile> descriptionFiles) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), patchTaskRequestDto.getProjectId());
+        TaskPatchEvent event = TaskPatchEvent.builder()
+            .projectId(patchTaskRequestDto.getProjectId())
+            .taskId(patchTaskRequestDto.getTaskId())
+            .title(patchTaskRequestDto.getTitle())
+            .description(patchTaskRequestDto.getDescription())
+            .startDate(patchTaskRequestDto.getStartDate())
+            .endDate(patchTaskRequestDto.getEndDate())
+            .status(patchTaskRequestDto.getStatus())
+            .deletedImageIds(patchTaskRequestDto.getDeletedImageIds())
+            .descriptionFiles(toPatchFileData(descriptionFiles))
+            .uploadIds(patchTaskRequestDto.getUploadIds())
+            .fileRefs(storeLargeFiles(descriptionFiles))
+            .build();
+        sendTaskPatchEvent(event);
+        return SuccessResponse.builder().message("업무 부분 수정 이벤트 생성").data(patchTaskRequestDto).build();
+    }
+
+    private void sendTaskPatchEvent(TaskPatchEvent event) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC9, String.valueOf(event.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex != null) {
+                imageClaimCheckService.release(event.getFileRefs());
+            }
+        });
+    }
+
+    // 이미지 저장소에 올리는 큰 파일은 storeLargeFiles 에서 참조로 보낸다
+    private List<TaskPatchEvent.FileData> toPatchFileData(List<MultipartFile> files) {
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        return files.stream()
+            .filter(file -> !imageClaimCheckService.shouldStore(file))
+            .map(file -> {
+                try {
+                    return new TaskPatchEvent.FileData(file.getOriginalFilename(), file.getBytes());
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to convert file", e);
+                }
+            })
+            .collect(Collectors.toList());
+    }
+
+    private List<ClaimCheck> storeLargeFiles(List<MultipartFile> files) {
+        List<ClaimCheck> claimChecks = new ArrayList<>();
+        if (files == null) {
+            return claimChecks;
+        }
+        try {
+            for (MultipartFile file : files) {
+                if (imageClaimCheckService.shouldStore(file)) {
+                    claimChecks.add(imageClaimCheckService.store(file));
+                }
+            }
+        } catch (RuntimeException e) {
+            imageClaimCheckService.release(claimChecks);
+            throw e;
+        }
+        return claimChecks;
+    }
+
+    /**
+     * 업무 상태 일괄 수정 이벤트 생성
+     * @param updateTaskStatusRequestDto
+     * @return
+     */
+    public SuccessResponse sendBulkUpdateTaskStatusEvent(UpdateTaskStatusRequestDto updateTaskStatusRequestDto) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), updateTaskStatusRequestDto.getProjectId());
+        TaskStatusBulkUpdateEvent event = new TaskStatusBulkUpdateEvent(
+            updateTaskStatusRequestDto.getProjectId(), updateTaskStatusRequestDto.getTaskIds(), updateTaskStatusRequestDto.getStatus());
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC4, String.valueOf(updateTaskStatusRequestDto.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+        return SuccessResponse.builder().message("업무 상태 일괄 수정 이벤트 생성").data(updateTaskStatusRequestDto).build();
+    }
+
+    /**
+     * 업무 선후 관계 추가 이벤트 생성
+     * 순환 검사를 프로젝트 단위로 순서대로 처리할 수 있도록 projectId 를 key 로 발행
+     * @param taskDependencyRequestDto
+     * @return
+     */
+    public SuccessResponse sendAddTaskDependencyEvent(TaskDependencyRequestDto taskDependencyRequestDto) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), taskDependencyRequestDto.getProjectId());
+        validateDependency(taskDependencyRequestDto);
+        TaskDependencyAddEvent event = new TaskDependencyAddEvent(
+            taskDependencyRequestDto.getProjectId(), taskDependencyRequestDto.getTaskId(), taskDependencyRequestDto.getBlockedByTaskId());
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC5, String.valueOf(taskDependencyRequestDto.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+        return SuccessResponse.builder().message("업무 선후 관계 추가 이벤트 생성").data(taskDependencyRequestDto).build();
+    }
+
+    /**
+     * project_service 에 순환 여부를 미리 물어 순환이면 이벤트를 보내지 않고 T001 로 응답
+     * 그 밖의 실패는 이벤트 처리 시 project_service 가 다시 검사하므로 그대로 발행한다.
+     */
+    private void validateDependency(TaskDependencyRequestDto taskDependencyRequestDto) {
+        try {
+            webClientBuilder.build().get()
+                .uri(applicationConfig.getProjectApi() + "/node2/api/task/dependency/validate?projectId={projectId}&taskId={taskId}&blockedByTaskId={blockedByTaskId}",
+                    taskDependencyRequestDto.getProjectId(), taskDependencyRequestDto.getTaskId(), taskDependencyRequestDto.getBlockedByTaskId())
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofSeconds(5));
+        } catch (WebClientResponseException e) {
+            if (e.getResponseBodyAsString().contains("\"T001\"")) {
+                throw new DependencyCycleException("Dependency " + taskDependencyRequestDto.getBlockedByTaskId()
+                    + " -> " + taskDependencyRequestDto.getTaskId() + " would create a cycle");
+            }
+            log.warn("Failed to validate task dependency: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Failed to validate task dependency: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 업무 선후 관계 삭제 이벤트 생성
+     * @param taskDependencyRequestDto
+     * @return
+     */
+    public SuccessResponse sendDeleteTaskDependencyEvent(TaskDependencyRequestDto taskDependencyRequestDto) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), taskDependencyRequestDto.getProjectId());
+        TaskDependencyDeleteEvent event = new TaskDependencyDeleteEvent(
+            taskDependencyRequestDto.getProjectId(), taskDependencyRequestDto.getTaskId(), taskDependencyRequestDto.getBlockedByTaskId());
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC6, String.valueOf(taskDependencyRequestDto.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+        return SuccessResponse.builder().message("업무 선후 관계 삭제 이벤트 생성").data(taskDependencyRequestDto).build();
+    }
+
+    /**
+     * 업무 반복 규칙 추가 이벤트 생성
+     * @param createTaskRecurrenceRequestDto
+     * @return
+     */
+    public SuccessResponse sendCreateTaskRecurrenceEvent(CreateTaskRecurrenceRequestDto createTaskRecurrenceRequestDto) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), createTaskRecurrenceRequestDto.getProjectId());
+        TaskRecurrenceCreateEvent event = new TaskRecurrenceCreateEvent(
+            createTaskRecurrenceRequestDto.getProjectId(), createTaskRecurrenceRequestDto.getTaskId(),
+            createTaskRecurrenceRequestDto.getFrequency(), createTaskRecurrenceRequestDto.getInterval(),
+            createTaskRecurrenceRequestDto.getUntilDate());
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC7, String.valueOf(createTaskRecurrenceRequestDto.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+        return SuccessResponse.builder().message("업무 반복 규칙 추가 이벤트 생성").data(createTaskRecurrenceRequestDto).build();
+    }
+
+    /**
+     * 업무 반복 규칙 삭제 이벤트 생성
+     * @param deleteTaskRecurrenceRequestDto
+     * @return
+     */
+    public SuccessResponse sendDeleteTaskRecurrenceEvent(DeleteTaskRecurrenceRequestDto deleteTaskRecurrenceRequestDto) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), deleteTaskRecurrenceRequestDto.getProjectId());
+        TaskRecurrenceDeleteEvent event = new TaskRecurrenceDeleteEvent(
+            deleteTaskRecurrenceRequestDto.getProjectId(), deleteTaskRecurrenceRequestDto.getTaskId());
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC8, String.valueOf(deleteTaskRecurrenceRequestDto.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+        return SuccessResponse.builder().message("업무 반복 규칙 삭제 이벤트 생성").data(deleteTaskRecurrenceRequestDto).build();
+    }
+
+    /**
+     * 업무 이동 이벤트 생성 (다른 프로젝트로 옮기는 경우 두 프로젝트 모두의 멤버여야 함)
+     * @param moveTaskRequestDto
+     * @return
+     */
+    public SuccessResponse sendMoveTaskEvent(MoveTaskRequestDto moveTaskRequestDto) {
+        User user = userService.findUserEntity(userService.getCurrentUserId());
+        memberService.findMemberByUserIdAndProjectId(user.getId(), moveTaskRequestDto.getProjectId());
+        if (moveTaskRequestDto.getTargetProjectId() != null
+            && !moveTaskRequestDto.getTargetProjectId().equals(moveTaskRequestDto.getProjectId())) {
+            memberService.findMemberByUserIdAndProjectId(user.getId(), moveTaskRequestDto.getTargetProjectId());
+        }
+        TaskMoveEvent event = new TaskMoveEvent(moveTaskRequestDto.getProjectId(), moveTaskRequestDto.getTaskId(),
+            moveTaskRequestDto.getTargetProjectId(), moveTaskRequestDto.getTargetParentTaskId());
+        ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC10, String.valueOf(moveTaskRequestDto.getProjectId()), event);
+        record.headers().remove("spring.json.header.types");
+        kafkaTemplate.send(record);
+        return SuccessResponse.builder().message("업무 이동 이벤트 생성").data(moveTaskRequestDto).build();
+    }
 }
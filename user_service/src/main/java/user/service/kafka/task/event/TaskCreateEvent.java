@@ -4,6 +4,7 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import user.service.kafka.ClaimCheck;
 import user.service.web.dto.task.request.CreateTaskRequestDto;
 
 @AllArgsConstructor
@@ -13,6 +14,9 @@ public class TaskCreateEvent {
     private List<FileData> files;
     private byte[] thumbnailByte;
     private String extsn;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private List<ClaimCheck> fileRefs;
+    private ClaimCheck thumbnailRef;
     
     @AllArgsConstructor
     @NoArgsConstructor // 기본 생성자 추가
@@ -0,0 +1,12 @@
+package user.service.kafka.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskDependencyAddEvent {
+    private Long projectId;
+    private Long taskId;
+    private Long blockedByTaskId;
+}
@@ -0,0 +1,13 @@
+package user.service.kafka.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskMoveEvent {
+    private Long projectId;
+    private Long taskId;
+    private Long targetProjectId;
+    private Long targetParentTaskId;
+}
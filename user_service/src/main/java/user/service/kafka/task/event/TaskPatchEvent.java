@@ -0,0 +1,39 @@
+package user.service.kafka.task.event;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import user.service.kafka.ClaimCheck;
+
+/**
+ * 업무 부분 수정 이벤트 (null 인 필드는 변경하지 않음)
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+public class TaskPatchEvent {
+    private Long projectId;
+    private Long taskId;
+    private String title;
+    private String description;
+    private Date startDate;
+    private Date endDate;
+    private Integer status;
+    private List<Long> deletedImageIds;
+    private List<String> deletedImageNames;
+    private List<FileData> descriptionFiles;
+    private List<String> uploadIds;
+    // 큰 이미지는 내용 대신 참조 (claim-check)
+    private List<ClaimCheck> fileRefs;
+
+    @Data
+    @AllArgsConstructor
+    public static class FileData {
+        private String fileName;
+        private byte[] fileContent;
+    }
+}
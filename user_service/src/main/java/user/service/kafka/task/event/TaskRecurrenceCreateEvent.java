@@ -0,0 +1,16 @@
+package user.service.kafka.task.event;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskRecurrenceCreateEvent {
+    private Long projectId;
+    private Long taskId;
+    private String frequency;
+    private int interval;
+    private Date untilDate;
+}
@@ -0,0 +1,11 @@
+package user.service.kafka.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskRecurrenceDeleteEvent {
+    private Long projectId;
+    private Long taskId;
+}
@@ -0,0 +1,14 @@
+package user.service.kafka.task.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class TaskStatusBulkUpdateEvent {
+    private Long projectId;
+    private List<Long> taskIds;
+    private int status;
+}
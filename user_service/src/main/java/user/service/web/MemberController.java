@@ -53,6 +53,13 @@ public class MemberController {
     @LogAop
     public void getUsersFromTask(@RequestParam Long taskId) {
     }
+    @Operation(summary = "멤버의 담당 업무 집계를 가져오기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요하지 않음, projectId 를 생략하면 전체 프로젝트 합계 <br>" +
+        "ResponseDto : GetMemberWorkloadResponseDto (openCount, overdueCount, doneCount)")
+    @GetMapping("node2/api/workload")
+    @LogAop
+    public void getWorkload(@RequestParam Long userId, @RequestParam(required = false) Long projectId) {
+    }
     
     @Operation(summary = "유저들의 멤버정보를 가져오기 위한 API", description = "HOST = 150.136.153.235:30443")
     @GetMapping("user/api/member/v1")
@@ -10,10 +10,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import user.service.MemberService;
 import user.service.UserService;
+import user.service.ValidationService;
 import user.service.global.advice.LogAop;
 import user.service.web.dto.project.request.*;
 import user.service.global.advice.SuccessResponse;
 import user.service.kafka.project.KafkaProjectProducerService;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,12 +25,16 @@ public class ProjectController {
     private final UserService userService;
     private final KafkaProjectProducerService kafkaProducerService;
     private final MemberService memberService;
+    private final ValidationService validationService;
     
     @Operation(summary = "프로젝트를 생성하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
             "ValidationDetails : CreateProjectRequestDto")
     @PostMapping("/user/api/project")
     @LogAop
-    public ResponseEntity<SuccessResponse> createProject(@RequestPart("data") @Valid CreateProjectRequestDto projectCreateRequestDto, @RequestPart(value = "thumbnailImage", required = false) MultipartFile img) {
+    public ResponseEntity<SuccessResponse> createProject(@RequestPart("data") @Valid CreateProjectRequestDto projectCreateRequestDto, @RequestPart(value = "thumbnailImage", required = false) MultipartFile img) throws IOException {
+        if (img != null) {
+            validationService.validateImage(img);
+        }
         String userId = userService.getCurrentUserId();
         kafkaProducerService.sendCreateProjectEvent(projectCreateRequestDto, img, userId);
         return ResponseEntity.ok().body(SuccessResponse.builder().message("프로젝트 생성 이벤트 생성").build());
@@ -49,7 +55,10 @@ public class ProjectController {
             "ValidationDetails : UpdateProjectRequestDto")
     @PutMapping("/user/api/project")
     @LogAop
-    public ResponseEntity<SuccessResponse> updateProject(@RequestBody @Valid UpdateProjectRequestDto updateProjectRequestDto, @RequestPart(value = "img", required = false) MultipartFile img) {
+    public ResponseEntity<SuccessResponse> updateProject(@RequestBody @Valid UpdateProjectRequestDto updateProjectRequestDto, @RequestPart(value = "img", required = false) MultipartFile img) throws IOException {
+        if (img != null) {
+            validationService.validateImage(img);
+        }
         kafkaProducerService.updateProject(updateProjectRequestDto, img);
         return ResponseEntity.ok().body(SuccessResponse.builder().message("프로젝트 업데이트 이벤트 생성").build());
     }
@@ -60,6 +69,13 @@ public class ProjectController {
     public void getProjects(@Parameter(description = "존재하지 않는 프로젝트 아이디 입력시 오류 발생") @RequestParam List<Long> projectIds) {
     }
     
+    @Operation(summary = "프로젝트의 모든 업무 이미지를 ZIP 으로 내려받기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "업무마다 taskId 폴더로 나뉘며, 동시 다운로드가 많으면 503 (G006) 으로 응답합니다.")
+    @GetMapping("/node2/project/images/zip")
+    @LogAop
+    public void getProjectImagesZip(@Parameter(description = "존재하지 않는 프로젝트 아이디 입력시 오류 발생") @RequestParam Long projectId) {
+    }
+    
     @Operation(summary = "유저가 속해있는 프로젝트들의 ID를 가져오기 위한 API", description = "HOST = 150.136.153.235:30443")
     @GetMapping("/project/api/v2")
     @LogAop
@@ -1,6 +1,7 @@
 package user.service.web;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.web.bind.annotation.*;
@@ -14,9 +15,15 @@ import user.service.ValidationService;
 import user.service.global.advice.LogAop;
 import user.service.global.advice.SuccessResponse;
 import user.service.kafka.task.KafkaTaskProducerService;
+import user.service.web.dto.task.request.CreateTaskRecurrenceRequestDto;
 import user.service.web.dto.task.request.CreateTaskRequestDto;
+import user.service.web.dto.task.request.DeleteTaskRecurrenceRequestDto;
 import user.service.web.dto.task.request.DeleteTaskRequestDto;
+import user.service.web.dto.task.request.MoveTaskRequestDto;
+import user.service.web.dto.task.request.PatchTaskRequestDto;
+import user.service.web.dto.task.request.TaskDependencyRequestDto;
 import user.service.web.dto.task.request.UpdateTaskRequestDto;
+import user.service.web.dto.task.request.UpdateTaskStatusRequestDto;
 
 @RestController
 @RequiredArgsConstructor
@@ -36,15 +43,19 @@ public class TaskController {
             @RequestPart("data") CreateTaskRequestDto createTaskRequestDto,
             @RequestPart(value = "images", required = false) List<MultipartFile> descriptionImages,
             @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage) throws IOException {
-        //확장자, uuid validaiton
+        //확장자, uuid, 실제 형식과 크기 validaiton (내용을 읽어 이벤트로 보내기 전에)
+        List<MultipartFile> uploads = new ArrayList<>();
         if (descriptionImages != null) {
             for (MultipartFile image : descriptionImages) {
                 fileValidationService.validateImageFile(image);
             }
+            uploads.addAll(descriptionImages);
         }
         if (thumbnailImage != null) {
             fileValidationService.validateImageFile(thumbnailImage);
+            uploads.add(thumbnailImage);
         }
+        fileValidationService.validateRequestSize(uploads);
         return kafkaTaskProducerService.sendCreateTaskEvent(createTaskRequestDto, descriptionImages, thumbnailImage);
     }
     
@@ -90,18 +101,163 @@ public class TaskController {
             @RequestPart(value = "images", required = false) List<MultipartFile> descriptionImages,
             @RequestPart(value = "deletedImages", required = false) List<MultipartFile> deletedImages,
             @RequestPart(value = "titleimage", required = false) MultipartFile titleImage) throws IOException {
+        if (descriptionImages != null) {
+            for (MultipartFile image : descriptionImages) {
+                fileValidationService.validateImageFile(image);
+            }
+            fileValidationService.validateRequestSize(descriptionImages);
+        }
         //업무 업데이트 이벤트 생성 로직 추가
         return kafkaTaskProducerService.sendUpdateTaskEvent(updateTaskRequestDto, descriptionImages, deletedImages);
     }
     
+    @Operation(summary = "업무를 부분 수정하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 해당 프로젝트에 속해있지 않은 유저는 업무 수정 불가 <br>" +
+        "보낸 필드만 수정되며, 이미지는 deletedImageIds (단일 업무 조회의 images.imageId) 로 삭제합니다. <br>" +
+        "DTOValidation : PatchTaskRequestDto")
+    @PatchMapping("/user/api/task")
+    @LogAop
+    public SuccessResponse patchTask(
+            @RequestPart("data") @Valid PatchTaskRequestDto patchTaskRequestDto,
+            @RequestPart(value = "images", required = false) List<MultipartFile> descriptionImages) throws IOException {
+        if (descriptionImages != null) {
+            for (MultipartFile image : descriptionImages) {
+                fileValidationService.validateImageFile(image);
+            }
+            fileValidationService.validateRequestSize(descriptionImages);
+        }
+        return kafkaTaskProducerService.sendPatchTaskEvent(patchTaskRequestDto, descriptionImages);
+    }
+    
+    @Operation(summary = "업무를 다른 상위 업무나 프로젝트로 이동하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 현재/대상 프로젝트에 속해있지 않은 유저는 이동 불가 <br>" +
+        "하위 업무, 담당자, 이미지는 함께 이동하며 이동 후 depth 가 2를 넘으면 이동되지 않습니다. " +
+        "다른 프로젝트로 이동하면 선후 관계는 삭제됩니다. <br>" +
+        "DTOValidation : MoveTaskRequestDto")
+    @PutMapping("/user/api/task/move")
+    @LogAop
+    public SuccessResponse moveTask(@RequestBody @Valid MoveTaskRequestDto moveTaskRequestDto) {
+        return kafkaTaskProducerService.sendMoveTaskEvent(moveTaskRequestDto);
+    }
+    
+    @Operation(summary = "여러 업무의 상태를 한 번에 수정하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 해당 프로젝트에 속해있지 않은 유저는 업무 수정 불가, 다른 프로젝트의 업무는 무시됨 <br>" +
+        "DTOValidation : UpdateTaskStatusRequestDto")
+    @PutMapping("/user/api/task/status")
+    @LogAop
+    public SuccessResponse updateTaskStatuses(@RequestBody @Valid UpdateTaskStatusRequestDto updateTaskStatusRequestDto) {
+        return kafkaTaskProducerService.sendBulkUpdateTaskStatusEvent(updateTaskStatusRequestDto);
+    }
+    
+    @Operation(summary = "업무 선후 관계를 추가하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 해당 프로젝트에 속해있지 않은 유저는 추가 불가, 순환이 생기는 관계는 추가되지 않음 <br>" +
+        "DTOValidation : TaskDependencyRequestDto")
+    @PostMapping("/user/api/task/dependency")
+    @LogAop
+    public SuccessResponse addTaskDependency(@RequestBody @Valid TaskDependencyRequestDto taskDependencyRequestDto) {
+        return kafkaTaskProducerService.sendAddTaskDependencyEvent(taskDependencyRequestDto);
+    }
+    
+    @Operation(summary = "업무 선후 관계를 삭제하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 해당 프로젝트에 속해있지 않은 유저는 삭제 불가 <br>" +
+        "DTOValidation : TaskDependencyRequestDto")
+    @DeleteMapping("/user/api/task/dependency")
+    @LogAop
+    public SuccessResponse deleteTaskDependency(@RequestBody @Valid TaskDependencyRequestDto taskDependencyRequestDto) {
+        return kafkaTaskProducerService.sendDeleteTaskDependencyEvent(taskDependencyRequestDto);
+    }
+    
+    @Operation(summary = "업무 반복 규칙을 추가하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 해당 프로젝트에 속해있지 않은 유저는 추가 불가, 시작일/종료일이 없는 업무는 반복 불가 <br>" +
+        "반복 업무는 앞으로 일정 기간 안에 시작하는 회차만 미리 생성되고, 이후 회차는 매일 순차적으로 생성됩니다. <br>" +
+        "DTOValidation : CreateTaskRecurrenceRequestDto")
+    @PostMapping("/user/api/task/recurrence")
+    @LogAop
+    public SuccessResponse createTaskRecurrence(@RequestBody @Valid CreateTaskRecurrenceRequestDto createTaskRecurrenceRequestDto) {
+        return kafkaTaskProducerService.sendCreateTaskRecurrenceEvent(createTaskRecurrenceRequestDto);
+    }
+    
+    @Operation(summary = "업무 반복 규칙을 삭제하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요함, 해당 프로젝트에 속해있지 않은 유저는 삭제 불가, 이미 생성된 회차는 삭제되지 않음 <br>" +
+        "DTOValidation : DeleteTaskRecurrenceRequestDto")
+    @DeleteMapping("/user/api/task/recurrence")
+    @LogAop
+    public SuccessResponse deleteTaskRecurrence(@RequestBody @Valid DeleteTaskRecurrenceRequestDto deleteTaskRecurrenceRequestDto) {
+        return kafkaTaskProducerService.sendDeleteTaskRecurrenceEvent(deleteTaskRecurrenceRequestDto);
+    }
+    
+    @Operation(summary = "프로젝트의 칸반 보드를 조회하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요하지 않음 <br>" +
+        "상태별 컬럼마다 전체 업무 수(count)와 첫 페이지(size 건)를 반환, 다음 페이지는 nextCursor 로 컬럼 조회 API 호출 <br>" +
+        "ResponseDto : GetKanbanBoardResponseDto")
+    @GetMapping("node2/api/task/board")
+    @LogAop
+    public void getBoard(@RequestParam Long projectId, @RequestParam(defaultValue = "20") int size) {
+    }
+    
+    @Operation(summary = "칸반 보드의 컬럼 하나를 페이지 단위로 조회하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요하지 않음, cursor 는 이전 페이지의 nextCursor (첫 페이지는 생략) <br>" +
+        "ResponseDto : GetKanbanBoardResponseDto.Column")
+    @GetMapping("node2/api/task/board/column")
+    @LogAop
+    public void getBoardColumn(@RequestParam Long projectId, @RequestParam int status,
+            @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "20") int size) {
+    }
+    
+    @Operation(summary = "프로젝트의 임계 경로 일정을 조회하기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요하지 않음 <br>" +
+        "ResponseDto : GetProjectScheduleResponseDto (earliest/latest start, finish, slack, criticalPath)")
+    @GetMapping("node2/api/task/schedule")
+    @LogAop
+    public void getSchedule(@RequestParam Long projectId) {
+    }
+    
+    @Operation(summary = "업무 썸네일을 가져오기 위한 API", description = "HOST = 150.136.153.235:30443 <br>" +
+        "Validation : 로그인 필요하지 않음 <br>" +
+        "size : 원하는 긴 변 픽셀 수 (48, 128, 320 중 요청 이상인 가장 작은 크기로 응답, 생략하면 원본) <br>" +
+        "expires, sig : 서명된 주소의 만료 시각과 서명 (잘못되거나 만료되면 403)")
+    @GetMapping("node2/api/task/thumbnail/{thumbnail}")
+    @LogAop
+    public void getTaskThumbnail(@PathVariable("thumbnail") String thumbnail, @RequestParam(required = false) Integer size) {
+    }
+    
     @Operation(summary = "파일을 가져오기 위한 API", description = "HOST = 150.136.153.235:30443 <br>"
-        + "Validation : 로그인 필요하지 않음, 잘못된 filename 입력시 오류 발생")
+        + "Validation : 로그인 필요하지 않음, 잘못된 filename 입력시 오류 발생 <br>"
+        + "단일 업무 조회의 images.url 은 expires, sig 가 붙은 서명된 주소입니다 (잘못되거나 만료되면 403).")
     @GetMapping("node2/api/task/image")
     @LogAop
     public void getImage(@RequestParam String filename) {
 
     }
     
+    @Operation(summary = "업무의 모든 이미지를 ZIP 으로 내려받기 위한 API", description = "HOST = 150.136.153.235:30443 <br>"
+        + "Validation : 로그인 필요하지 않음, 잘못된 taskId 입력시 오류 발생 <br>"
+        + "ZIP 은 만들면서 바로 전송되며, 동시 다운로드가 많으면 503 (G006) 으로 응답합니다.")
+    @GetMapping("node2/api/task/images/zip")
+    @LogAop
+    public void getTaskImagesZip(@RequestParam Long taskId) {
+    }
+    
+    @Operation(summary = "업무 이미지를 이어 올리기 위한 업로드 생성 API (tus 1.0.0)", description = "HOST = 150.136.153.235:30443 <br>"
+        + "Header : Upload-Length (전체 바이트 수), Upload-Metadata (filename base64(파일 이름)) <br>"
+        + "201 응답의 Location 이 업로드 주소이며, 마지막 경로가 업로드 아이디입니다. <br>"
+        + "HEAD 로 Upload-Offset 을 확인하고 PATCH 로 이어서 보냅니다. 완료된 업로드 아이디를 업무 생성/부분 수정의 uploadIds, thumbnailUploadId 로 보냅니다. <br>"
+        + "업로드는 만료 시간(기본 24시간) 이후 삭제됩니다.")
+    @PostMapping("node2/api/upload")
+    @LogAop
+    public void createUpload(@RequestHeader("Upload-Length") long uploadLength,
+            @RequestHeader("Upload-Metadata") String uploadMetadata) {
+    }
+    
+    @Operation(summary = "업로드에 이어서 보내기 위한 API (tus 1.0.0)", description = "HOST = 150.136.153.235:30443 <br>"
+        + "Header : Upload-Offset (HEAD 로 받은 현재 offset), Content-Type: application/offset+octet-stream, Upload-Checksum (선택, sha1|sha256 base64) <br>"
+        + "offset 이 다르면 409 (F002), checksum 이 다르면 460 (F003) 으로 응답하며 이번 조각은 반영되지 않습니다. <br>"
+        + "연결이 끊기면 받은 만큼 반영되므로 HEAD 로 offset 을 다시 확인하고 이어서 보냅니다.")
+    @PatchMapping("node2/api/upload/{uploadId}")
+    @LogAop
+    public void patchUpload(@PathVariable("uploadId") String uploadId, @RequestHeader("Upload-Offset") long uploadOffset) {
+    }
+    
     @Operation(summary = "이미지를 포함한 단일 task를 가져오는 API", description = "HOST = 150.136.153.235:30443"
         + "Validation : 로그인 필요하지 않음, 잘못된 taskId 입력시 오류 발생")
     @GetMapping("node2/api/task/v3")
@@ -0,0 +1,33 @@
+package user.service.web.dto.task.request;
+
+import java.util.Date;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "업무 반복 규칙을 추가하기 위한 DTO")
+public class CreateTaskRecurrenceRequestDto {
+    @Schema(description = "업무가 속한 프로젝트 아이디")
+    @NotNull(message = "프로젝트 아이디는 필수 입력 값 입니다.")
+    private Long projectId;
+    @Schema(description = "반복할 업무 아이디 (시작일, 종료일이 있어야 함)")
+    @NotNull(message = "업무 아이디는 필수 입력 값 입니다.")
+    private Long taskId;
+    @Schema(description = "반복 주기 (DAILY, WEEKLY, MONTHLY)")
+    @NotNull(message = "반복 주기는 필수 입력 값 입니다.")
+    @Pattern(regexp = "DAILY|WEEKLY|MONTHLY", message = "반복 주기는 DAILY, WEEKLY, MONTHLY 중 하나여야 합니다.")
+    private String frequency;
+    @Schema(description = "반복 간격 (예: WEEKLY, 2 이면 2주마다)")
+    @Min(value = 1, message = "반복 간격은 1 이상이어야 합니다.")
+    @Max(value = 365, message = "반복 간격은 365 이하여야 합니다.")
+    private int interval = 1;
+    @Schema(description = "반복 종료일 (없으면 계속 반복)")
+    private Date untilDate;
+}
@@ -1,6 +1,7 @@
 package user.service.web.dto.task.request;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -42,4 +43,10 @@ public class CreateTaskRequestDto {
     @Max(value = 2, message = "상태는 0, 1, 2 중 하나여야 합니다.")
     @Schema(description = "업무 상태 ( 0: 진행중, 1: 완료, 2: 보류)")
     private int status;
+    
+    @Schema(description = "이어 올리기(node2/api/upload)로 완료한 설명 이미지 업로드 아이디 목록")
+    private List<String> uploadIds;
+    
+    @Schema(description = "이어 올리기로 완료한 썸네일 업로드 아이디 (썸네일 이미지, 아이콘과 함께 보낼 수 없음)")
+    private String thumbnailUploadId;
 }
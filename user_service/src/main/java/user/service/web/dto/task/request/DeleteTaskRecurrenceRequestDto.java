@@ -0,0 +1,18 @@
+package user.service.web.dto.task.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "업무 반복 규칙을 삭제하기 위한 DTO")
+public class DeleteTaskRecurrenceRequestDto {
+    @Schema(description = "업무가 속한 프로젝트 아이디")
+    @NotNull(message = "프로젝트 아이디는 필수 입력 값 입니다.")
+    private Long projectId;
+    @Schema(description = "반복 규칙을 삭제할 업무 아이디")
+    @NotNull(message = "업무 아이디는 필수 입력 값 입니다.")
+    private Long taskId;
+}
@@ -0,0 +1,22 @@
+package user.service.web.dto.task.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "업무를 다른 상위 업무나 프로젝트로 이동하기 위한 DTO")
+public class MoveTaskRequestDto {
+    @Schema(description = "이동할 업무의 현재 프로젝트 아이디")
+    @NotNull(message = "프로젝트 아이디는 필수 입력 값 입니다.")
+    private Long projectId;
+    @Schema(description = "이동할 업무 아이디")
+    @NotNull(message = "업무 아이디는 필수 입력 값 입니다.")
+    private Long taskId;
+    @Schema(description = "이동할 프로젝트 아이디 (없으면 현재 프로젝트)")
+    private Long targetProjectId;
+    @Schema(description = "새 상위 업무 아이디 (없으면 최상위 업무로 이동)")
+    private Long targetParentTaskId;
+}
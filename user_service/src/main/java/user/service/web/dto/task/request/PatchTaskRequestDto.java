@@ -0,0 +1,38 @@
+package user.service.web.dto.task.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+import java.util.List;
+
+@Setter
+@Getter
+@Schema(description = "업무를 부분 수정하기 위한 DTO (값을 보내지 않은 필드는 변경되지 않음)")
+public class PatchTaskRequestDto {
+    @Schema(description = "수정할 업무의 프로젝트 아이디")
+    @NotNull(message = "프로젝트 아이디는 필수 입력 값 입니다.")
+    private Long projectId;
+    @Schema(description = "수정할 업무의 아이디")
+    @NotNull(message = "업무 아이디는 필수 입력 값 입니다.")
+    private Long taskId;
+    @Size(min = 1, message = "이름은 빈 값으로 수정할 수 없습니다.")
+    @Schema(description = "업무 이름")
+    private String title;
+    @Schema(description = "업무 내용")
+    private String description;
+    @Schema(description = "업무 시작일")
+    private Date startDate;
+    @Schema(description = "업무 종료일")
+    private Date endDate;
+    @Min(value = 0, message = "상태는 0, 1, 2 중 하나여야 합니다.")
+    @Max(value = 2, message = "상태는 0, 1, 2 중 하나여야 합니다.")
+    @Schema(description = "업무 상태 ( 0: 진행중, 1: 완료, 2: 보류)")
+    private Integer status;
+    @Schema(description = "삭제할 이미지 아이디 목록 (단일 업무 조회의 images.imageId)")
+    private List<Long> deletedImageIds;
+    @Schema(description = "이어 올리기(node2/api/upload)로 완료한 추가 이미지 업로드 아이디 목록")
+    private List<String> uploadIds;
+}
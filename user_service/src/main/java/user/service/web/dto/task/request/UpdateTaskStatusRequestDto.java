@@ -0,0 +1,28 @@
+package user.service.web.dto.task.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "여러 업무의 상태를 한 번에 수정하기 위한 DTO")
+public class UpdateTaskStatusRequestDto {
+    @Schema(description = "수정할 업무들의 프로젝트 아이디")
+    @NotNull(message = "프로젝트 아이디는 필수 입력 값 입니다.")
+    private Long projectId;
+    @Schema(description = "수정할 업무 아이디 목록")
+    @NotEmpty(message = "업무 아이디는 필수 입력 값 입니다.")
+    private List<Long> taskIds;
+    @NotNull(message = "상태는 필수 입력 값 입니다.")
+    @Min(value = 0, message = "상태는 0, 1, 2 중 하나여야 합니다.")
+    @Max(value = 2, message = "상태는 0, 1, 2 중 하나여야 합니다.")
+    @Schema(description = "업무 상태 ( 0: 진행중, 1: 완료, 2: 보류)")
+    private int status;
+}
@@ -0,0 +1,116 @@
+package user.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import user.service.global.exception.FileSizeExceededException;
+import user.service.global.exception.InvalidFileExtensionException;
+
+// 확장자와 실제 내용(magic number) 비교, 헤더의 해상도 제한
+class ValidationServiceTest {
+    private final ValidationService service = new ValidationService(10 * 1024, 20 * 1024, 64, 2_000);
+
+    @Test
+    void acceptsMatchingFormats() throws IOException {
+        assertDoesNotThrow(() -> service.validateImageFile(file(uuidName("a.png"), image("png", 16, 16))));
+        assertDoesNotThrow(() -> service.validateImageFile(file(uuidName("a.jpg"), image("jpg", 16, 16))));
+        assertDoesNotThrow(() -> service.validateImageFile(file(uuidName("a.jpeg"), image("jpg", 16, 16))));
+        assertDoesNotThrow(() -> service.validateImageFile(file(uuidName("a.gif"), image("gif", 16, 16))));
+        assertDoesNotThrow(() -> service.validateImage(file("thumbnail.PNG", image("png", 16, 16))));
+    }
+
+    @Test
+    void rejectsContentThatDoesNotMatchExtension() throws IOException {
+        // png 내용을 jpg 로 올린 경우
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.validateImage(file("a.jpg", image("png", 16, 16))));
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.validateImage(file("a.png", image("gif", 16, 16))));
+    }
+
+    @Test
+    void rejectsNonImageContent() {
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.validateImage(file("a.png", "<script>alert(1)</script>".getBytes())));
+        // magic number 보다 짧은 파일
+        assertThrows(InvalidFileExtensionException.class,
+                () -> service.validateImage(file("a.png", new byte[] { (byte) 0x89, 'P', 'N' })));
+    }
+
+    @Test
+    void rejectsUnreadableHeader() throws IOException {
+        // magic number 만 맞고 헤더가 잘린 png
+        byte[] truncated = Arrays.copyOf(image("png", 16, 16), 12);
+        assertThrows(InvalidFileExtensionException.class, () -> service.validateImage(file("a.png", truncated)));
+    }
+
+    @Test
+    void rejectsEmptyFile() {
+        assertThrows(InvalidFileExtensionException.class, () -> service.validateImage(file("a.png", new byte[0])));
+    }
+
+    @Test
+    void rejectsNonImageExtension() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> service.validateImage(file("a.svg", image("png", 16, 16))));
+    }
+
+    @Test
+    void rejectsMissingUuidPrefix() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> service.validateImageFile(file("a.png", image("png", 16, 16))));
+    }
+
+    @Test
+    void rejectsOversizedDimensions() throws IOException {
+        // 한 변이 max-dimension(64) 초과
+        assertThrows(FileSizeExceededException.class, () -> service.validateImage(file("a.png", image("png", 65, 1))));
+        assertThrows(FileSizeExceededException.class, () -> service.validateImage(file("a.jpg", image("jpg", 1, 65))));
+        // 픽셀 수가 max-pixels(2000) 초과
+        assertThrows(FileSizeExceededException.class, () -> service.validateImage(file("a.gif", image("gif", 50, 50))));
+        assertDoesNotThrow(() -> service.validateImage(file("a.png", image("png", 64, 31))));
+    }
+
+    @Test
+    void rejectsOversizedFile() {
+        byte[] content = new byte[10 * 1024 + 1];
+        content[0] = (byte) 0x89;
+        assertThrows(FileSizeExceededException.class, () -> service.validateImage(file("a.png", content)));
+    }
+
+    @Test
+    void requestSizeIsSummedIgnoringNulls() {
+        MockMultipartFile half = file("a.png", new byte[10 * 1024]);
+        assertDoesNotThrow(() -> service.validateRequestSize(Arrays.asList(half, null, half)));
+        assertThrows(FileSizeExceededException.class,
+                () -> service.validateRequestSize(List.of(half, half, file("b.png", new byte[1]))));
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "application/octet-stream", content);
+    }
+
+    private static String uuidName(String name) {
+        return UUID.randomUUID() + "_" + name;
+    }
+
+    private static byte[] image(String format, int width, int height) throws IOException {
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage image = new BufferedImage(width, height, type);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, bytes)) {
+            throw new IllegalStateException("No writer for " + format);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,236 @@
+package user.service.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+import user.service.kafka.project.event.ProjectCreateEvent;
+import user.service.kafka.project.event.ProjectUpdateEvent;
+import user.service.kafka.task.event.TaskCreateEvent;
+import user.service.kafka.task.event.TaskPatchEvent;
+import user.service.web.dto.project.request.CreateProjectRequestDto;
+import user.service.web.dto.project.request.UpdateProjectRequestDto;
+import user.service.web.dto.task.request.CreateTaskRequestDto;
+
+// 이벤트 -> Avro -> 다시 읽은 값이 JSON 으로 보낼 때와 같은지 (스키마에 빠진 속성이 없는지) 토픽마다 확인
+class AvroEventSerializerTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private final AvroMapper avroMapper = AvroMapper.builder().addModule(new Jdk8Module()).build();
+
+    private AvroEventSerializer serializer(boolean avroEnabled) {
+        AvroEventSerializer serializer = new AvroEventSerializer();
+        serializer.configure(Map.of(AvroEventSerializer.AVRO_ENABLED, String.valueOf(avroEnabled),
+                JsonSerializer.ADD_TYPE_INFO_HEADERS, false), false);
+        return serializer;
+    }
+
+    @Test
+    void projectCreateEventRoundTrip() throws IOException {
+        assertRoundTrip("project-create-topic", projectCreateEvent());
+    }
+
+    @Test
+    void projectUpdateEventRoundTrip() throws IOException {
+        UpdateProjectRequestDto dto = new UpdateProjectRequestDto();
+        dto.setProjectId(11L);
+        dto.setDescription("설명");
+        dto.setTitle("제목");
+        dto.setSubTitle("부제목");
+        dto.setIcon("icon-1");
+        dto.setStartDate(new Date(1_700_000_000_000L));
+        dto.setEndDate(new Date(1_710_000_000_000L));
+        assertRoundTrip("project-update-topic",
+                new ProjectUpdateEvent(dto, bytes(32, 2), "png", claimCheck("update")));
+    }
+
+    @Test
+    void taskCreateEventRoundTrip() throws IOException {
+        assertRoundTrip("task-create-topic", taskCreateEvent(32));
+    }
+
+    @Test
+    void taskPatchEventRoundTrip() throws IOException {
+        TaskPatchEvent event = TaskPatchEvent.builder()
+                .projectId(11L)
+                .taskId(21L)
+                .title("제목")
+                .description("<p>설명</p>")
+                .startDate(new Date(1_700_000_000_000L))
+                .endDate(new Date(1_710_000_000_000L))
+                .status(1)
+                .deletedImageIds(List.of(1L, 2L))
+                .deletedImageNames(List.of("a.png"))
+                .descriptionFiles(List.of(new TaskPatchEvent.FileData("b.png", bytes(32, 3))))
+                .uploadIds(List.of("upload-1"))
+                .fileRefs(List.of(claimCheck("patch")))
+                .build();
+        assertRoundTrip("task-patch-topic", event);
+    }
+
+    @Test
+    void unknownPropertyFailsInsteadOfBeingDropped() {
+        // project-update 스키마에는 userId, projectCreateRequestDto 가 없다
+        AvroEventSerializer serializer = serializer(true);
+        assertThrows(SerializationException.class,
+                () -> serializer.serialize("project-update-topic", new RecordHeaders(), projectCreateEvent()));
+    }
+
+    // 다른 서비스의 파일을 읽지 않고 (서비스 디렉토리만 빌드하는 이미지에서도 돌도록) 같은 내용으로 둔 fingerprint 와 비교한다
+    @Test
+    void schemasMatchCheckedInFingerprints() throws IOException {
+        Properties fingerprints = new Properties();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("avro/schema-fingerprints.properties")) {
+            assertNotNull(in);
+            fingerprints.load(in);
+        }
+        List<String> names;
+        try (Stream<Path> files = Files.list(Paths.get("src", "main", "resources", "avro"))) {
+            names = files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+        assertEquals(new TreeSet<>(fingerprints.stringPropertyNames()), new TreeSet<>(names));
+        for (String name : names) {
+            Schema schema;
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream("avro/" + name)) {
+                schema = new Schema.Parser().parse(in);
+            }
+            String fingerprint = HexFormat.of().formatHex(sha256(schema.toString().getBytes(StandardCharsets.UTF_8)));
+            assertEquals(fingerprints.getProperty(name), fingerprint, name + " changed: update it in both services and schema-fingerprints.properties");
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void avroIsSmallerThanJson() {
+        TaskCreateEvent event = taskCreateEvent(64 * 1024);
+        byte[] json = serializer(false).serialize("task-create-topic", new RecordHeaders(), event);
+        byte[] avro = serializer(true).serialize("task-create-topic", new RecordHeaders(), event);
+        assertTrue(avro.length < json.length, "avro=" + avro.length + ", json=" + json.length);
+    }
+
+    private void assertRoundTrip(String topic, Object event) throws IOException {
+        Headers headers = new RecordHeaders();
+        byte[] bytes = serializer(true).serialize(topic, headers, event);
+        Header format = headers.lastHeader(AvroEventSerializer.FORMAT_HEADER);
+        assertNotNull(format);
+        assertEquals(AvroEventSerializer.AVRO, new String(format.value(), StandardCharsets.US_ASCII));
+
+        JsonNode actual = avroMapper.readerFor(JsonNode.class).with(schema(topic)).readValue(bytes);
+        assertSameTree(jsonMapper.valueToTree(event), actual, topic);
+    }
+
+    private AvroSchema schema(String topic) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("avro/" + topic + ".avsc")) {
+            assertNotNull(in, topic);
+            return new AvroSchema(new Schema.Parser().parse(in));
+        }
+    }
+
+    // 날짜는 epoch millis, byte[] 는 내용으로 비교
+    private static void assertSameTree(JsonNode expected, JsonNode actual, String path) throws IOException {
+        assertNotNull(actual, path);
+        if (expected.isObject()) {
+            assertTrue(actual.isObject(), path);
+            for (Iterator<String> names = expected.fieldNames(); names.hasNext();) {
+                String name = names.next();
+                assertTrue(actual.has(name), path + "." + name + " is not in the schema");
+                assertSameTree(expected.get(name), actual.get(name), path + "." + name);
+            }
+        } else if (expected.isArray()) {
+            assertTrue(actual.isArray(), path);
+            assertEquals(expected.size(), actual.size(), path);
+            for (int i = 0; i < expected.size(); i++) {
+                assertSameTree(expected.get(i), actual.get(i), path + "[" + i + "]");
+            }
+        } else if (expected.isNull()) {
+            assertTrue(actual.isNull(), path);
+        } else if (expected.isNumber()) {
+            assertEquals(expected.longValue(), actual.longValue(), path);
+        } else if (expected.isBinary()) {
+            assertArrayEquals(expected.binaryValue(), actual.binaryValue(), path);
+        } else {
+            assertEquals(expected.asText(), actual.asText(), path);
+        }
+    }
+
+    private static ProjectCreateEvent projectCreateEvent() {
+        CreateProjectRequestDto dto = new CreateProjectRequestDto();
+        dto.setDescription("설명");
+        dto.setTitle("제목");
+        dto.setSubTitle("부제목");
+        dto.setIcon("icon-1");
+        dto.setStartDate(new Date(1_700_000_000_000L));
+        dto.setEndDate(new Date(1_710_000_000_000L));
+        return new ProjectCreateEvent(dto, bytes(32, 1), "png", "user-1", claimCheck("create"));
+    }
+
+    private static TaskCreateEvent taskCreateEvent(int imageBytes) {
+        CreateTaskRequestDto dto = new CreateTaskRequestDto();
+        dto.setDescription("<p>설명</p>");
+        dto.setStartDate(new Date(1_700_000_000_000L));
+        dto.setEndDate(new Date(1_710_000_000_000L));
+        dto.setTitle("제목");
+        dto.setThumbnailIcon("icon-1");
+        dto.setParentTaskId(Optional.of(5L));
+        dto.setProjectId(11L);
+        dto.setStatus(1);
+        dto.setUploadIds(List.of("upload-1", "upload-2"));
+        dto.setThumbnailUploadId("upload-3");
+        List<TaskCreateEvent.FileData> files = List.of(
+                new TaskCreateEvent.FileData("a.png", bytes(imageBytes, 4)),
+                new TaskCreateEvent.FileData("b.jpg", bytes(imageBytes, 5)));
+        return new TaskCreateEvent(dto, files, bytes(imageBytes, 6), "png", List.of(claimCheck("task")), claimCheck("thumbnail"));
+    }
+
+    private static ClaimCheck claimCheck(String name) {
+        return new ClaimCheck("upload-" + name, name + ".png", "ab".repeat(32), 1024L);
+    }
+
+    // 압축되지 않는 이미지 내용 대신 고정 seed 난수
+    private static byte[] bytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}